@@ -0,0 +1,116 @@
+package com.simulador.criaturas.application;
+
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.simulador.criaturas.domain.model.CompactHorizon;
+import com.simulador.criaturas.domain.port.in.LargeSimulationUseCase;
+import com.simulador.criaturas.domain.port.out.LargeSimulationCheckpointPort;
+import com.simulador.criaturas.domain.service.LargeScaleSimulation;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+/**
+ * {@inheritDoc} Orquestra o motor de simulação grande. Diferente do
+ * SimulacaoService, não atualiza estatísticas de usuário: são execuções de
+ * estresse, não partidas.
+ */
+@Service
+public class LargeSimulationService implements LargeSimulationUseCase {
+
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final LargeScaleSimulation motor;
+    private final LargeSimulationCheckpointPort checkpoints;
+    private final int maxIteracoes;
+    private final int checkpointInterval;
+    // Ids (já com o prefixo do usuário) das execuções com checkpoint em curso.
+    private final Set<String> emExecucao = ConcurrentHashMap.newKeySet();
+
+    public LargeSimulationService(LargeScaleSimulation motor, LargeSimulationCheckpointPort checkpoints,
+            @Value("${simulation.large.max-iterations:1000}") int maxIteracoes,
+            @Value("${simulation.large.checkpoint-interval:50}") int checkpointInterval) {
+        if (checkpointInterval < 1) {
+            throw new IllegalArgumentException("O intervalo de checkpoints deve ser positivo.");
+        }
+        this.motor = motor;
+        this.checkpoints = checkpoints;
+        this.maxIteracoes = maxIteracoes;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompactHorizon runLargeSimulation(int numeroDeCriaturas) {
+        // A validação dos limites é feita pelo motor de domínio.
+        return runToEnd(motor.createNewSimulation(numeroDeCriaturas), null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompactHorizon runLargeSimulation(int numeroDeCriaturas, String checkpointId, Long userId) {
+        // Valida e reserva o id antes de gastar tempo criando o horizonte.
+        String id = reserve(checkpointId, userId);
+        try {
+            checkpoints.delete(id);
+            return runToEnd(motor.createNewSimulation(numeroDeCriaturas), id);
+        } finally {
+            emExecucao.remove(id);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompactHorizon resumeLargeSimulation(String checkpointId, Long userId) {
+        String id = reserve(checkpointId, userId);
+        try {
+            CompactHorizon horizonte = checkpoints.load(id)
+                    .orElseThrow(() -> new NoSuchElementException("Checkpoint não encontrado: " + checkpointId));
+            return runToEnd(horizonte, id);
+        } finally {
+            emExecucao.remove(id);
+        }
+    }
+
+    // O id do cliente ganha o prefixo do usuário, para que um usuário não
+    // retome nem sobrescreva o checkpoint de outro, e fica reservado até a
+    // execução terminar: duas execuções no mesmo arquivo se atropelariam.
+    private String reserve(String checkpointId, Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("O ID do usuário não pode ser nulo.");
+        }
+        if (checkpointId == null || !VALID_ID.matcher(checkpointId).matches()) {
+            throw new IllegalArgumentException("O id do checkpoint deve ter de 1 a 64 letras, dígitos, '-' ou '_'.");
+        }
+        String id = "u" + userId + "_" + checkpointId;
+        if (!emExecucao.add(id)) {
+            throw new IllegalStateException("O checkpoint " + checkpointId + " já está em uso por outra execução.");
+        }
+        return id;
+    }
+
+    // O checkpoint só copia o estado nesta thread; a gravação acontece no
+    // executor de checkpoints, sem segurar o próximo turno.
+    private CompactHorizon runToEnd(CompactHorizon horizonte, String checkpointId) {
+        while (horizonte.getStatus() == SimulationStatus.RUNNING && horizonte.getTurn() < maxIteracoes) {
+            motor.runIteration(horizonte);
+            if (checkpointId != null && horizonte.getTurn() % checkpointInterval == 0) {
+                checkpoints.offer(checkpointId, horizonte);
+            }
+        }
+        if (checkpointId != null) {
+            checkpoints.delete(checkpointId);
+        }
+        return horizonte;
+    }
+}
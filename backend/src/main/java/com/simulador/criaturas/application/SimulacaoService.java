@@ -1,9 +1,19 @@
 package com.simulador.criaturas.application;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
 import org.springframework.stereotype.Service;
 
+import com.simulador.criaturas.domain.model.Guardian;
 import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.model.MonteCarloResult;
 import com.simulador.criaturas.domain.port.in.SimulacaoUseCase;
+import com.simulador.criaturas.domain.port.in.SimulationReplayUseCase;
 import com.simulador.criaturas.domain.port.in.UserUseCase;
 import com.simulador.criaturas.domain.service.Simulation;
 import com.simulador.criaturas.utils.SimulationStatus;
@@ -19,8 +29,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SimulacaoService implements SimulacaoUseCase {
 
+    private static final int MAX_ITERACOES = 10000;
+
     private final Simulation servicoDeDominio;
     private final UserUseCase userUseCase;
+    private final SimulationReplayUseCase replayUseCase;
+    // Pool das simulações em lote; se for nulo, o lote roda na thread chamadora.
+    private final ForkJoinPool simulationPool;
 
     /**
      * {@inheritDoc}
@@ -38,6 +53,14 @@ public class SimulacaoService implements SimulacaoUseCase {
         return servicoDeDominio.createNewSimulation(numeroDeCriaturas);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Horizon initNewSimulation(int numeroDeCriaturas, long seed) {
+        return servicoDeDominio.createNewSimulation(numeroDeCriaturas, seed);
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -46,6 +69,14 @@ public class SimulacaoService implements SimulacaoUseCase {
      */
     @Override
     public Horizon runNextSimulation(Horizon estadoAtual, Long userId) {
+        return runNextSimulation(estadoAtual, userId, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Horizon runNextSimulation(Horizon estadoAtual, Long userId, boolean registrarReplay) {
         // Validação de guarda (Fail-Fast) para cumprir o contrato.
         if (userId == null) {
             throw new IllegalArgumentException("O ID do usuário não pode ser nulo.");
@@ -56,12 +87,45 @@ public class SimulacaoService implements SimulacaoUseCase {
         Horizon novoHorizonte = servicoDeDominio.runIteration(estadoAtual);
 
         if (novoHorizonte.getStatus() != SimulationStatus.RUNNING) {
-            updateUserStatsAfterSimulation(userId, novoHorizonte.getStatus() == SimulationStatus.SUCCESSFUL);
+            recordFinishedSimulation(userId, novoHorizonte, registrarReplay);
         }
 
         return novoHorizonte;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Os turnos passam direto pelo serviço de domínio; as estatísticas só são
+     * tocadas no turno em que a simulação termina.
+     */
+    @Override
+    public Horizon runSteps(Horizon estadoAtual, Long userId, int passos, int amostragem,
+            Consumer<Horizon> quadros) {
+        if (userId == null) {
+            throw new IllegalArgumentException("O ID do usuário não pode ser nulo.");
+        }
+        if (passos < 1 || passos > MAX_ITERACOES) {
+            throw new IllegalArgumentException("O número de passos deve estar entre 1 e " + MAX_ITERACOES + ".");
+        }
+        if (amostragem < 1) {
+            throw new IllegalArgumentException("A amostragem deve ser positiva.");
+        }
+
+        Horizon horizonte = estadoAtual;
+        for (int passo = 1; passo <= passos; passo++) {
+            horizonte = servicoDeDominio.runIteration(horizonte);
+            if (horizonte.getStatus() != SimulationStatus.RUNNING) {
+                recordFinishedSimulation(userId, horizonte, false);
+                break;
+            }
+            if (quadros != null && passo < passos && passo % amostragem == 0) {
+                quadros.accept(horizonte);
+            }
+        }
+        return horizonte;
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -69,6 +133,14 @@ public class SimulacaoService implements SimulacaoUseCase {
      */
     @Override
     public Horizon runFullSimulation(int numeroDeCriaturas, Long userId) {
+        return runFullSimulation(numeroDeCriaturas, userId, () -> true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Horizon runFullSimulation(int numeroDeCriaturas, Long userId, BooleanSupplier antesDeGravar) {
         // Validação de guarda para cumprir o contrato.
         if (userId == null) {
             throw new IllegalArgumentException("O ID do usuário não pode ser nulo.");
@@ -78,20 +150,74 @@ public class SimulacaoService implements SimulacaoUseCase {
         // que por sua vez delega para o serviço de domínio.
         Horizon horizonte = this.initNewSimulation(numeroDeCriaturas);
 
-        int maxIteracoes = 10000;
-        int contador = 0;
-
-        while (horizonte.getStatus() == SimulationStatus.RUNNING && contador < maxIteracoes) {
-            servicoDeDominio.runIteration(horizonte);
-            contador++;
+        runToEnd(horizonte);
+        if (!antesDeGravar.getAsBoolean()) {
+            throw new CancellationException("A simulação foi cancelada.");
         }
 
         // Atualiza as estatísticas do usuário após o término da simulação.
-        updateUserStatsAfterSimulation(userId, horizonte.getStatus() == SimulationStatus.SUCCESSFUL);
+        recordFinishedSimulation(userId, horizonte, true);
 
         return horizonte;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cada execução guarda o seu resultado na própria posição dos vetores do
+     * lote, sem disputa entre threads; a agregação é feita no final, em uma
+     * única passada.
+     */
+    @Override
+    public MonteCarloResult runMonteCarlo(int numeroDeCriaturas, int execucoes) {
+        if (execucoes < 1) {
+            throw new IllegalArgumentException("O número de execuções deve ser positivo.");
+        }
+
+        // A primeira simulação é criada na thread chamadora para que um número
+        // de criaturas inválido falhe aqui, com a exceção original.
+        Horizon primeiro = this.initNewSimulation(numeroDeCriaturas);
+
+        SimulationStatus[] statuses = new SimulationStatus[execucoes];
+        int[] turns = new int[execucoes];
+        double[] guardianGold = new double[execucoes];
+        IntConsumer execucao = i -> {
+            Horizon horizonte = i == 0 ? primeiro : this.initNewSimulation(numeroDeCriaturas);
+            turns[i] = runToEnd(horizonte);
+            statuses[i] = horizonte.getStatus();
+            Guardian guardiao = horizonte.getGuardiao();
+            guardianGold[i] = guardiao == null ? 0 : guardiao.getGold();
+        };
+
+        if (simulationPool == null) {
+            IntStream.range(0, execucoes).forEach(execucao);
+        } else {
+            simulationPool.submit(() -> IntStream.range(0, execucoes).parallel().forEach(execucao)).join();
+        }
+
+        return MonteCarloResult.aggregate(numeroDeCriaturas, statuses, turns, guardianGold);
+    }
+
+    /**
+     * Executa turnos até a simulação terminar ou atingir MAX_ITERACOES.
+     *
+     * @param horizonte O estado inicial, atualizado no lugar.
+     * @return A quantidade de turnos executados.
+     * @throws CancellationException Se a thread for interrompida (job
+     * assíncrono cancelado); nesse caso nenhuma estatística é atualizada.
+     */
+    private int runToEnd(Horizon horizonte) {
+        int contador = 0;
+        while (horizonte.getStatus() == SimulationStatus.RUNNING && contador < MAX_ITERACOES) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("A simulação foi cancelada.");
+            }
+            servicoDeDominio.runIteration(horizonte);
+            contador++;
+        }
+        return contador;
+    }
+
     /**
      * Método auxiliar privado para centralizar a lógica de atualização de
      * estatísticas do usuário após o término de uma simulação.
@@ -101,10 +227,26 @@ public class SimulacaoService implements SimulacaoUseCase {
      * caso contrário.
      */
     private void updateUserStatsAfterSimulation(Long userId, boolean wasSuccessful) {
-        // lançam exceção se o usuário não for encontrado.
-        userUseCase.incrementSimulationsRun(userId);
-        if (wasSuccessful) {
-            userUseCase.incrementScore(userId);
+        // lança exceção se o usuário não for encontrado.
+        userUseCase.recordSimulationResult(userId, wasSuccessful);
+    }
+
+    /**
+     * Grava o fim de uma simulação: o registro de replay, se pedido e se a
+     * simulação tiver semente, e depois as estatísticas do usuário. Nessa
+     * ordem, uma falha ao gravar o replay não deixa estatísticas contadas
+     * para uma resposta de erro.
+     *
+     * @param userId O ID do usuário dono da simulação.
+     * @param horizonte O estado final da simulação.
+     * @param registrarReplay Se o horizonte é do servidor, e portanto pode
+     * ser registrado para replay. Um horizonte enviado pelo cliente não pode:
+     * a semente, o turno e o guardião dele não foram gerados aqui.
+     */
+    private void recordFinishedSimulation(Long userId, Horizon horizonte, boolean registrarReplay) {
+        if (registrarReplay && horizonte.getSeed() != null) {
+            replayUseCase.recordFinished(horizonte, userId);
         }
+        updateUserStatsAfterSimulation(userId, horizonte.getStatus() == SimulationStatus.SUCCESSFUL);
     }
 }
@@ -0,0 +1,178 @@
+package com.simulador.criaturas.application;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.model.SimulationJob;
+import com.simulador.criaturas.domain.port.in.SimulacaoUseCase;
+import com.simulador.criaturas.domain.port.in.SimulationJobUseCase;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * {@inheritDoc} Os jobs rodam em um executor limitado (threads e fila de
+ * tamanho fixo), separado das threads do Tomcat. Os jobs terminados ficam
+ * disponíveis para consulta por 'simulation.jobs.retention-seconds' e são
+ * descartados por uma limpeza periódica, a cada
+ * 'simulation.jobs.purge-interval-seconds', e também a cada submissão.
+ */
+@Service
+public class SimulationJobService implements SimulationJobUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulationJobService.class);
+
+    private final SimulacaoUseCase simulacaoUseCase;
+    private final ExecutorService executor;
+    private final long retentionMillis;
+    private final ScheduledFuture<?> purgeTask;
+
+    private final Map<String, SimulationJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, Future<?>> futures = new ConcurrentHashMap<>();
+
+    public SimulationJobService(SimulacaoUseCase simulacaoUseCase,
+            @Qualifier("simulationJobExecutor") ExecutorService simulationJobExecutor,
+            @Qualifier("simulationJobPurgeScheduler") ScheduledExecutorService simulationJobPurgeScheduler,
+            @Value("${simulation.jobs.retention-seconds:600}") long retentionSeconds,
+            @Value("${simulation.jobs.purge-interval-seconds:60}") long purgeIntervalSeconds) {
+        if (purgeIntervalSeconds < 1) {
+            throw new IllegalArgumentException("O intervalo de limpeza dos jobs deve ser positivo.");
+        }
+        this.simulacaoUseCase = simulacaoUseCase;
+        this.executor = simulationJobExecutor;
+        this.retentionMillis = TimeUnit.SECONDS.toMillis(retentionSeconds);
+        this.purgeTask = simulationJobPurgeScheduler.scheduleWithFixedDelay(this::scheduledPurge,
+                purgeIntervalSeconds, purgeIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        purgeTask.cancel(false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationJob submitFullSimulation(int numeroDeCriaturas, Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("O ID do usuário não pode ser nulo.");
+        }
+        purgeExpired();
+
+        SimulationJob job = new SimulationJob(UUID.randomUUID().toString(), userId, numeroDeCriaturas,
+                System.currentTimeMillis());
+        jobs.put(job.getId(), job);
+        try {
+            futures.put(job.getId(), executor.submit(() -> execute(job)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new IllegalStateException("A fila de simulações assíncronas está cheia. Tente novamente mais tarde.");
+        }
+        return job;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationJob getJob(String jobId, Long userId) {
+        SimulationJob job = jobs.get(jobId);
+        if (job == null || !job.getUserId().equals(userId)) {
+            throw new NoSuchElementException("Job de simulação não encontrado: " + jobId);
+        }
+        return job;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationJob awaitJob(String jobId, Long userId, long timeoutMillis) {
+        if (timeoutMillis < 0) {
+            throw new IllegalArgumentException("O tempo de espera não pode ser negativo.");
+        }
+        SimulationJob job = getJob(jobId, userId);
+        Future<?> future = futures.get(jobId);
+        if (future == null || job.getStatus().isFinished()) {
+            return job;
+        }
+        try {
+            future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | CancellationException | ExecutionException e) {
+            // O estado do job já reflete o que aconteceu.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return job;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationJob cancelJob(String jobId, Long userId) {
+        SimulationJob job = getJob(jobId, userId);
+        if (job.cancel(System.currentTimeMillis())) {
+            Future<?> future = futures.get(jobId);
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+        return job;
+    }
+
+    private void execute(SimulationJob job) {
+        if (!job.start()) {
+            return;
+        }
+        try {
+            // Depois de beginRecording, um cancelamento não interrompe mais a
+            // thread: o job termina DONE com as estatísticas gravadas.
+            Horizon resultado = simulacaoUseCase.runFullSimulation(job.getNumeroDeCriaturas(), job.getUserId(),
+                    job::beginRecording);
+            job.complete(resultado, System.currentTimeMillis());
+        } catch (CancellationException e) {
+            job.cancel(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage(), System.currentTimeMillis());
+        }
+    }
+
+    // Uma exceção na tarefa periódica cancelaria as execuções seguintes.
+    private void scheduledPurge() {
+        try {
+            purgeExpired();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao descartar os jobs expirados.", e);
+        }
+    }
+
+    private void purgeExpired() {
+        long limite = System.currentTimeMillis() - retentionMillis;
+        jobs.values().removeIf(job -> {
+            boolean expirado = job.getStatus().isFinished() && job.getFinishedAtMillis() < limite;
+            if (expirado) {
+                futures.remove(job.getId());
+            }
+            return expirado;
+        });
+    }
+}
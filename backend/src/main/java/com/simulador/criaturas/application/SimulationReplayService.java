@@ -0,0 +1,157 @@
+package com.simulador.criaturas.application;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.model.HorizonSnapshot;
+import com.simulador.criaturas.domain.model.SimulationReplay;
+import com.simulador.criaturas.domain.port.in.SimulationReplayUseCase;
+import com.simulador.criaturas.domain.port.out.SimulationReplayRepositoryPort;
+import com.simulador.criaturas.domain.service.Simulation;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+/**
+ * {@inheritDoc} Os turnos são reexecutados direto no serviço de domínio, sem
+ * passar pelo SimulacaoUseCase, então as estatísticas não são tocadas.
+ * <p>
+ * Para não reexecutar desde o turno 0 a cada consulta, a reconstrução guarda
+ * uma fotografia a cada 'checkpointInterval' turnos (por semente e número de
+ * criaturas), em um cache limitado aos registros usados mais recentemente.
+ * Uma consulta parte da fotografia mais próxima antes do turno pedido.
+ */
+@Service
+public class SimulationReplayService implements SimulationReplayUseCase {
+
+    private static final int MAX_TURNOS = 10000;
+
+    private final Simulation simulation;
+    private final SimulationReplayRepositoryPort replayRepository;
+    private final int checkpointInterval;
+    private final Map<CheckpointKey, TreeMap<Integer, HorizonSnapshot>> checkpoints;
+
+    public SimulationReplayService(Simulation simulation, SimulationReplayRepositoryPort replayRepository,
+            @Value("${simulation.replay.checkpoint-interval:100}") int checkpointInterval,
+            @Value("${simulation.replay.cache-size:256}") int cacheSize) {
+        if (checkpointInterval < 1 || cacheSize < 1) {
+            throw new IllegalArgumentException("O intervalo de checkpoints e o tamanho do cache devem ser positivos.");
+        }
+        this.simulation = simulation;
+        this.replayRepository = replayRepository;
+        this.checkpointInterval = checkpointInterval;
+        this.checkpoints = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CheckpointKey, TreeMap<Integer, HorizonSnapshot>> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A simulação é executada até 'turnos' para validar o registro, o que
+     * também deixa os checkpoints prontos para as próximas consultas.
+     */
+    @Override
+    public SimulationReplay record(int numeroDeCriaturas, long seed, int turnos, Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("O ID do usuário não pode ser nulo.");
+        }
+        if (turnos < 0 || turnos > MAX_TURNOS) {
+            throw new IllegalArgumentException("O número de turnos deve estar entre 0 e " + MAX_TURNOS + ".");
+        }
+        Horizon horizonte = reconstruct(numeroDeCriaturas, seed, turnos);
+        return replayRepository.save(
+                new SimulationReplay(null, userId, numeroDeCriaturas, seed, turnos, horizonte.getStatus()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * O número de criaturas vem do ID do guardião, que a criação da simulação
+     * fixa em numeroDeCriaturas + 1.
+     */
+    @Override
+    public Optional<SimulationReplay> recordFinished(Horizon horizonte, Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("O ID do usuário não pode ser nulo.");
+        }
+        int numeroDeCriaturas = horizonte.getGuardiao() == null ? 0 : horizonte.getGuardiao().getId() - 1;
+        if (horizonte.getSeed() == null || horizonte.getTurn() > MAX_TURNOS
+                || numeroDeCriaturas < 1 || numeroDeCriaturas > 10) {
+            return Optional.empty();
+        }
+        return Optional.of(replayRepository.save(new SimulationReplay(null, userId, numeroDeCriaturas,
+                horizonte.getSeed(), horizonte.getTurn(), horizonte.getStatus())));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<SimulationReplay> listLatest(Long userId, int limite) {
+        if (limite < 1) {
+            throw new IllegalArgumentException("O limite deve ser positivo.");
+        }
+        return replayRepository.findLatestByUserId(userId, limite);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Horizon stateAt(Long replayId, Long userId, int turno) {
+        SimulationReplay replay = replayRepository.findById(replayId)
+                .filter(encontrado -> encontrado.getUserId().equals(userId))
+                .orElseThrow(() -> new NoSuchElementException("Replay não encontrado: " + replayId));
+        if (turno < 0 || turno > replay.getTurns()) {
+            throw new IllegalArgumentException("O turno deve estar entre 0 e " + replay.getTurns() + ".");
+        }
+        return reconstruct(replay.getCreatures(), replay.getSeed(), turno);
+    }
+
+    // Parte do checkpoint mais próximo antes de 'turno' (ou do estado inicial)
+    // e executa os turnos restantes, guardando os checkpoints do caminho.
+    private Horizon reconstruct(int numeroDeCriaturas, long seed, int turno) {
+        TreeMap<Integer, HorizonSnapshot> salvos = checkpointsFor(new CheckpointKey(numeroDeCriaturas, seed));
+        Map.Entry<Integer, HorizonSnapshot> base;
+        synchronized (salvos) {
+            base = salvos.floorEntry(turno);
+        }
+        Horizon horizonte = base == null
+                ? simulation.createNewSimulation(numeroDeCriaturas, seed)
+                : base.getValue().restore(seed);
+
+        while (horizonte.getTurn() < turno) {
+            if (horizonte.getStatus() != SimulationStatus.RUNNING) {
+                throw new IllegalArgumentException("A simulação termina no turno " + horizonte.getTurn()
+                        + ", antes do turno " + turno + ".");
+            }
+            simulation.runIteration(horizonte);
+            if (horizonte.getTurn() % checkpointInterval == 0) {
+                HorizonSnapshot checkpoint = HorizonSnapshot.of(horizonte);
+                synchronized (salvos) {
+                    salvos.put(horizonte.getTurn(), checkpoint);
+                }
+            }
+        }
+        return horizonte;
+    }
+
+    private TreeMap<Integer, HorizonSnapshot> checkpointsFor(CheckpointKey key) {
+        synchronized (checkpoints) {
+            return checkpoints.computeIfAbsent(key, ignored -> new TreeMap<>());
+        }
+    }
+
+    private record CheckpointKey(int creatures, long seed) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.simulador.criaturas.application;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.model.HorizonDelta;
+import com.simulador.criaturas.domain.model.HorizonSnapshot;
+import com.simulador.criaturas.domain.model.SimulationSession;
+import com.simulador.criaturas.domain.port.in.SimulacaoUseCase;
+import com.simulador.criaturas.domain.port.in.SimulationSessionUseCase;
+import com.simulador.criaturas.domain.port.out.SimulationSessionPort;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@inheritDoc} As regras da simulação e a atualização das estatísticas
+ * continuam no SimulacaoUseCase; este serviço só guarda o estado entre as
+ * iterações. Iterações concorrentes na mesma sessão são serializadas.
+ */
+@Service
+@RequiredArgsConstructor
+public class SimulationSessionService implements SimulationSessionUseCase {
+
+    private final SimulacaoUseCase simulacaoUseCase;
+    private final SimulationSessionPort sessionPort;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationSession startSession(int numeroDeCriaturas, Long seed, Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("O ID do usuário não pode ser nulo.");
+        }
+        Horizon horizonte = seed == null
+                ? simulacaoUseCase.initNewSimulation(numeroDeCriaturas)
+                : simulacaoUseCase.initNewSimulation(numeroDeCriaturas, seed);
+        SimulationSession session = new SimulationSession(UUID.randomUUID().toString(), userId, horizonte);
+        sessionPort.save(session);
+        return session;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationSession iterateSession(String sessionId, Long userId) {
+        SimulationSession session = getSession(sessionId, userId);
+        synchronized (session) {
+            simulacaoUseCase.runNextSimulation(session.getHorizon(), userId, true);
+        }
+        return session;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A fotografia do turno base é tirada dentro do mesmo bloco sincronizado
+     * da iteração, então o delta corresponde exatamente a um turno.
+     */
+    @Override
+    public HorizonDelta iterateSessionDelta(String sessionId, Long userId, int turnoDoCliente) {
+        SimulationSession session = getSession(sessionId, userId);
+        synchronized (session) {
+            Horizon horizonte = session.getHorizon();
+            if (horizonte.getTurn() != turnoDoCliente) {
+                // Cliente fora de sincronia: devolve o estado atual sem avançar.
+                return HorizonDelta.full(horizonte);
+            }
+            HorizonSnapshot antes = HorizonSnapshot.of(horizonte);
+            simulacaoUseCase.runNextSimulation(horizonte, userId, true);
+            return HorizonDelta.between(antes, horizonte);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationSession getSession(String sessionId, Long userId) {
+        return sessionPort.findById(sessionId)
+                .filter(session -> session.getUserId().equals(userId))
+                .orElseThrow(() -> new NoSuchElementException(
+                        "Sessão de simulação não encontrada ou expirada: " + sessionId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void closeSession(String sessionId, Long userId) {
+        getSession(sessionId, userId);
+        sessionPort.deleteById(sessionId);
+    }
+}
@@ -3,15 +3,14 @@ package com.simulador.criaturas.application;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.simulador.criaturas.domain.model.User;
 import com.simulador.criaturas.domain.port.in.StatisticsUseCase;
 import com.simulador.criaturas.domain.port.out.UserRepositoryPort;
 import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.GlobalStatisticsDTO;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.RankingPageDTO;
 import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.UserStatisticsDTO;
 
 import lombok.RequiredArgsConstructor;
@@ -20,19 +19,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class StatisticsService implements StatisticsUseCase {
 
+        private static final int MAX_RANKING_PAGE_SIZE = 100;
+
         private final UserRepositoryPort userRepository;
 
         @Override
         public GlobalStatisticsDTO getGlobalStatistics(Pageable pageable) {
-                Sort sort = Sort.by(Sort.Direction.DESC, "pontuation") // Critério principal: maior pontuação primeiro
-                                .and(Sort.by(Sort.Direction.ASC, "login")); // Desempate: ordem alfabética do login
-
-                // 2. Crie um novo objeto Pageable combinando a paginação original com a nova
-                // ordenação
-                Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
-
-                // 3. Use o Pageable ORDENADO na sua busca no banco de dados
-                Page<User> userPage = userRepository.findAll(sortedPageable);
+                // 1. Busca a página do ranking: maior pontuação primeiro, desempate pelo
+                // login. Servida pela cópia em memória do ranking, quando habilitada.
+                Page<User> userPage = userRepository.findRankingPage(pageable);
 
                 // 2. Mapeia a PÁGINA de usuários para uma LISTA de DTOs
                 List<UserStatisticsDTO> userStatsList = userPage.getContent().stream()
@@ -55,6 +50,29 @@ public class StatisticsService implements StatisticsUseCase {
                 );
         }
 
+        @Override
+        public RankingPageDTO getRankingAfter(Integer afterScore, String afterLogin, int size) {
+                if ((afterScore == null) != (afterLogin == null)) {
+                        throw new IllegalArgumentException("O cursor precisa da pontuação e do login juntos.");
+                }
+                if (size < 1 || size > MAX_RANKING_PAGE_SIZE) {
+                        throw new IllegalArgumentException(
+                                        "O tamanho do trecho deve estar entre 1 e " + MAX_RANKING_PAGE_SIZE + ".");
+                }
+
+                // Um usuário a mais só para saber se existe um próximo trecho, sem COUNT.
+                List<User> users = userRepository.findRankingAfter(afterScore, afterLogin, size + 1);
+                boolean hasMore = users.size() > size;
+                List<User> trecho = hasMore ? users.subList(0, size) : users;
+
+                User ultimo = hasMore ? trecho.get(trecho.size() - 1) : null;
+                return new RankingPageDTO(
+                                trecho.stream().map(this::mapToUserStatisticsDto).toList(),
+                                hasMore,
+                                ultimo != null ? ultimo.getPontuation() : null,
+                                ultimo != null ? ultimo.getLogin() : null);
+        }
+
         private UserStatisticsDTO mapToUserStatisticsDto(User user) {
                 return new UserStatisticsDTO(
                                 user.getLogin(),
@@ -21,6 +21,7 @@ public class UserService implements UserUseCase {
 
     private final UserRepositoryPort userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserStatsWriteBehindBuffer statsBuffer;
 
     /**
      * {@inheritDoc}
@@ -112,6 +113,27 @@ public class UserService implements UserUseCase {
         userRepository.update(user);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Não carrega o usuário: a atualização é um único UPDATE relativo, e a
+     * ausência de linha afetada indica que o usuário não existe. Com o
+     * write-behind ligado, o resultado só é acumulado e a verificação do
+     * usuário fica por conta do lote.
+     */
+    @Override
+    public void recordSimulationResult(Long userId, boolean wasSuccessful) {
+        if (userId == null) {
+            throw new IllegalArgumentException("O ID do usuário não pode ser nulo.");
+        }
+        if (statsBuffer.record(userId, wasSuccessful)) {
+            return;
+        }
+        if (!userRepository.recordSimulationResult(userId, wasSuccessful ? 1 : 0)) {
+            throw new IllegalArgumentException("Usuário com ID " + userId + " não encontrado.");
+        }
+    }
+
     /**
      * Método auxiliar privado para buscar um usuário pelo ID, garantindo que a
      * exceção correta do contrato seja lançada se o usuário não for encontrado.
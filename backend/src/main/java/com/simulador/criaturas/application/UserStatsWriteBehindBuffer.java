@@ -0,0 +1,160 @@
+package com.simulador.criaturas.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.simulador.criaturas.domain.model.UserStatsDelta;
+import com.simulador.criaturas.domain.port.out.UserRepositoryPort;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Acumula em memória as estatísticas das simulações terminadas e as grava em
+ * lote, periodicamente, em vez de uma escrita por simulação. Desligado por
+ * padrão ('simulation.stats.write-behind.enabled'); quando desligado, record
+ * recusa e o chamador grava direto.
+ * <p>
+ * Os incrementos de cada usuário ficam em LongAdder, que não disputa a mesma
+ * variável entre threads. O flush zera cada contador com sumThenReset: um
+ * incremento concorrente cai neste lote ou no seguinte, nunca se perde. Na
+ * parada do contexto, o que estiver pendente é gravado antes de encerrar.
+ */
+@Service
+public class UserStatsWriteBehindBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(UserStatsWriteBehindBuffer.class);
+
+    private final UserRepositoryPort userRepository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final ScheduledFuture<?> flushTask;
+
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    public UserStatsWriteBehindBuffer(UserRepositoryPort userRepository,
+            @Qualifier("userStatsFlushScheduler") ScheduledExecutorService userStatsFlushScheduler,
+            @Value("${simulation.stats.write-behind.enabled:false}") boolean enabled,
+            @Value("${simulation.stats.write-behind.flush-interval-ms:1000}") long flushIntervalMillis,
+            @Value("${simulation.stats.write-behind.batch-size:500}") int batchSize) {
+        if (flushIntervalMillis < 1) {
+            throw new IllegalArgumentException("O intervalo de gravação deve ser positivo.");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("O tamanho do lote deve ser positivo.");
+        }
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushTask = enabled
+                ? userStatsFlushScheduler.scheduleWithFixedDelay(this::scheduledFlush, flushIntervalMillis,
+                        flushIntervalMillis, TimeUnit.MILLISECONDS)
+                : null;
+    }
+
+    /**
+     * Acumula o resultado de uma simulação terminada, para gravação no próximo
+     * flush.
+     *
+     * @param userId O ID do usuário.
+     * @param wasSuccessful 'true' se a simulação terminou com sucesso.
+     * @return 'true' se o resultado foi acumulado; 'false' se o write-behind
+     * está desligado e o chamador deve gravar direto.
+     * @throws IllegalArgumentException Se o ID do usuário for nulo.
+     * @pre O ID do usuário não pode ser nulo.
+     * @post Se habilitado, o próximo flush inclui este resultado. Um usuário
+     * inexistente não é detectado aqui: o UPDATE dele não afeta linhas.
+     */
+    public boolean record(Long userId, boolean wasSuccessful) {
+        if (userId == null) {
+            throw new IllegalArgumentException("O ID do usuário não pode ser nulo.");
+        }
+        if (!enabled) {
+            return false;
+        }
+        Pending contadores = pending.computeIfAbsent(userId, id -> new Pending());
+        contadores.simulationsRun.increment();
+        if (wasSuccessful) {
+            contadores.pontuation.increment();
+        }
+        return true;
+    }
+
+    /**
+     * Grava os incrementos pendentes, em lotes de até
+     * 'simulation.stats.write-behind.batch-size' usuários por comando.
+     *
+     * @return Quantos usuários tiveram incrementos gravados.
+     * @throws RuntimeException Se o banco recusar um lote; os incrementos
+     * ainda não gravados voltam a ficar pendentes.
+     * @post Os incrementos acumulados até o início do flush estão no banco, ou
+     * de volta aos contadores pendentes em caso de falha.
+     */
+    public synchronized int flush() {
+        List<UserStatsDelta> deltas = new ArrayList<>();
+        pending.forEach((userId, contadores) -> {
+            long simulationsRun = contadores.simulationsRun.sumThenReset();
+            long pontuation = contadores.pontuation.sumThenReset();
+            if (simulationsRun != 0 || pontuation != 0) {
+                deltas.add(new UserStatsDelta(userId, simulationsRun, pontuation));
+            }
+        });
+
+        for (int inicio = 0; inicio < deltas.size(); inicio += batchSize) {
+            List<UserStatsDelta> lote = deltas.subList(inicio, Math.min(inicio + batchSize, deltas.size()));
+            try {
+                userRepository.recordSimulationResults(lote);
+            } catch (RuntimeException e) {
+                restore(deltas.subList(inicio, deltas.size()));
+                throw e;
+            }
+        }
+        return deltas.size();
+    }
+
+    /**
+     * Para o flush periódico e grava o que ainda estiver pendente.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+        }
+        flush();
+    }
+
+    // Uma exceção na tarefa periódica cancelaria as execuções seguintes; os
+    // incrementos já voltaram para os contadores, então basta registrar.
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar as estatísticas pendentes; nova tentativa no próximo ciclo.", e);
+        }
+    }
+
+    private void restore(List<UserStatsDelta> deltas) {
+        for (UserStatsDelta delta : deltas) {
+            Pending contadores = pending.computeIfAbsent(delta.getUserId(), id -> new Pending());
+            contadores.simulationsRun.add(delta.getSimulationsRun());
+            contadores.pontuation.add(delta.getPontuation());
+        }
+    }
+
+    private static final class Pending {
+
+        private final LongAdder simulationsRun = new LongAdder();
+        private final LongAdder pontuation = new LongAdder();
+    }
+}
@@ -0,0 +1,903 @@
+package com.simulador.criaturas.domain.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.simulador.criaturas.domain.behaviors.Fusion;
+import com.simulador.criaturas.domain.behaviors.HorizonEntities;
+import com.simulador.criaturas.domain.behaviors.LoseGold;
+import com.simulador.criaturas.domain.behaviors.Move;
+import com.simulador.criaturas.domain.behaviors.StealGold;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/*
+ * Versão compacta do horizonte, pensada para simulações com muitas criaturas.
+ *
+ * Em vez de um objeto por criatura, guarda cada atributo em um vetor primitivo
+ * ("structure of arrays"): ids em int[], posições e ouro em double[] e o tipo
+ * da entidade (unidade ou cluster) em byte[]. Os dados de cada entidade ocupam
+ * 21 bytes; com os vetores de trabalho do turno (permutação e buffer da
+ * ordenação, 4 + 4 bytes, e fator de movimento, 8 bytes), são 37 bytes por
+ * entidade, contra mais de 40 só do CreatureUnit referenciado por uma lista.
+ * Os laços de movimento, colisão e roubo percorrem memória contígua.
+ *
+ * Para o restante da API, o horizonte expõe visões leves (EntityView) que
+ * implementam HorizonEntities e os comportamentos do domínio lendo e escrevendo
+ * diretamente nos vetores. Uma visão aponta para um índice (slot): ela continua
+ * válida enquanto nenhuma entidade anterior a ela for removida.
+ */
+public class CompactHorizon {
+
+    public static final byte KIND_UNIT = 0;
+    public static final byte KIND_CLUSTER = 1;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    // Abaixo deste tamanho, as tarefas de ordenação e cópia rodam sem dividir.
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private int[] ids;
+    private double[] xs;
+    private double[] golds;
+    private byte[] kinds;
+    private int size;
+
+    // Vetores de apoio da ordenação e do movimento, reaproveitados entre
+    // turnos. A ordenação trabalha sobre os índices e depois permuta as
+    // colunas no lugar, sem cópias reservas delas.
+    private int[] permutation = new int[0];
+    private int[] sortBuffer = new int[0];
+    private double[] factors = new double[0];
+
+    @Getter
+    @Setter
+    private int turn;
+
+    @Getter
+    @Setter
+    private Guardian guardiao;
+
+    @Getter
+    @Setter
+    private SimulationStatus status = SimulationStatus.RUNNING;
+
+    public CompactHorizon() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Cria um horizonte compacto vazio com capacidade inicial reservada.
+     *
+     * @param capacity a quantidade de entidades para a qual reservar espaço.
+     * @throws IllegalArgumentException se capacity for negativa.
+     */
+    public CompactHorizon(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("A capacidade não pode ser negativa.");
+        }
+        this.ids = new int[capacity];
+        this.xs = new double[capacity];
+        this.golds = new double[capacity];
+        this.kinds = new byte[capacity];
+    }
+
+    /**
+     * Inicializa as criaturas do horizonte com as mesmas regras de
+     * CreatureUnit: X = 25000 * id e 1.000.000 de ouro.
+     *
+     * @param amount a quantidade de criaturas a serem criadas.
+     * @return Nenhum retorno.
+     * @pre amount deve ser um número inteiro positivo maior que zero.
+     * @post amount unidades são acrescentadas, com ids de 1 a amount.
+     * @throws IllegalArgumentException se amount for zero ou negativo.
+     */
+    public void initializeEntities(int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("A quantidade de criaturas deve ser positiva.");
+        }
+        ensureCapacity(size + amount);
+        for (int i = 1; i <= amount; i++) {
+            add(i, 25000.0 * i, 1_000_000, KIND_UNIT);
+        }
+    }
+
+    /**
+     * Acrescenta uma entidade ao fim do horizonte.
+     *
+     * @param id o identificador da entidade.
+     * @param x a posição da entidade.
+     * @param gold o ouro da entidade.
+     * @param kind KIND_UNIT ou KIND_CLUSTER.
+     * @return o slot ocupado pela nova entidade.
+     * @throws IllegalArgumentException se kind for desconhecido.
+     */
+    public int add(int id, double x, double gold, byte kind) {
+        if (kind != KIND_UNIT && kind != KIND_CLUSTER) {
+            throw new IllegalArgumentException("Tipo de entidade desconhecido: " + kind);
+        }
+        ensureCapacity(size + 1);
+        ids[size] = id;
+        xs[size] = x;
+        golds[size] = gold;
+        kinds[size] = kind;
+        return size++;
+    }
+
+    /**
+     * Remove a entidade de um slot, preservando a ordem das demais.
+     *
+     * @param slot o slot a remover.
+     * @post as entidades seguintes andam uma posição para trás.
+     * @throws IndexOutOfBoundsException se o slot não existir.
+     */
+    public void removeAt(int slot) {
+        checkSlot(slot);
+        int moved = size - slot - 1;
+        if (moved > 0) {
+            System.arraycopy(ids, slot + 1, ids, slot, moved);
+            System.arraycopy(xs, slot + 1, xs, slot, moved);
+            System.arraycopy(golds, slot + 1, golds, slot, moved);
+            System.arraycopy(kinds, slot + 1, kinds, slot, moved);
+        }
+        size--;
+    }
+
+    /**
+     * Remove, em uma única passada, todas as entidades marcadas.
+     *
+     * @param removed marcação por slot (true = remover); precisa cobrir
+     * todos os slots atuais.
+     * @return a quantidade de entidades removidas.
+     * @post as entidades restantes mantêm a ordem relativa. Custo O(n).
+     */
+    public int compact(boolean[] removed) {
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (removed[read]) {
+                continue;
+            }
+            if (write != read) {
+                ids[write] = ids[read];
+                xs[write] = xs[read];
+                golds[write] = golds[read];
+                kinds[write] = kinds[read];
+            }
+            write++;
+        }
+        int removedCount = size - write;
+        size = write;
+        return removedCount;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getId(int slot) {
+        checkSlot(slot);
+        return ids[slot];
+    }
+
+    public double getX(int slot) {
+        checkSlot(slot);
+        return xs[slot];
+    }
+
+    public void setX(int slot, double x) {
+        checkSlot(slot);
+        xs[slot] = x;
+    }
+
+    public double getGold(int slot) {
+        checkSlot(slot);
+        return golds[slot];
+    }
+
+    public void setGold(int slot, double gold) {
+        checkSlot(slot);
+        golds[slot] = gold;
+    }
+
+    public byte getKind(int slot) {
+        checkSlot(slot);
+        return kinds[slot];
+    }
+
+    public void setKind(int slot, byte kind) {
+        checkSlot(slot);
+        if (kind != KIND_UNIT && kind != KIND_CLUSTER) {
+            throw new IllegalArgumentException("Tipo de entidade desconhecido: " + kind);
+        }
+        kinds[slot] = kind;
+    }
+
+    public boolean isCluster(int slot) {
+        return getKind(slot) == KIND_CLUSTER;
+    }
+
+    // --- OPERAÇÕES EM LOTE (usadas pelo motor de simulação grande) ---
+    /**
+     * Move as entidades de um intervalo de slots com fatores já sorteados.
+     *
+     * @param from o primeiro slot do intervalo.
+     * @param to o slot seguinte ao último do intervalo.
+     * @param randomFactors os fatores, indexados pelo slot.
+     * @return Nenhum retorno.
+     * @pre 0 <= from <= to <= size e randomFactors tem ao menos 'to' posições.
+     * @post X = max(0, X + fator * ouro) para cada slot do intervalo. Só
+     * escreve no intervalo, então intervalos disjuntos podem ser movidos em
+     * paralelo.
+     * @throws IllegalArgumentException se algum fator estiver fora de [-1, 1].
+     */
+    public void moveRange(int from, int to, double[] randomFactors) {
+        for (int i = from; i < to; i++) {
+            double randomR = randomFactors[i];
+            if (Double.isNaN(randomR) || randomR < -1 || randomR > 1) {
+                throw new IllegalArgumentException("Valor aleatório deve estar entre -1 e 1.");
+            }
+            double newX = xs[i] + randomR * golds[i];
+            xs[i] = newX < 0 ? 0 : newX;
+        }
+    }
+
+    /**
+     * Devolve um vetor reaproveitável para os fatores de movimento do turno.
+     *
+     * @return um vetor com ao menos size posições (o conteúdo anterior não é
+     * limpo).
+     */
+    public double[] factorBuffer() {
+        if (factors.length < size) {
+            factors = new double[ids.length];
+        }
+        return factors;
+    }
+
+    /**
+     * Ordena as entidades pela posição X (ordenação estável).
+     *
+     * @return Nenhum retorno.
+     * @post os slots ficam em ordem crescente de X; empates mantêm a ordem
+     * anterior. Custo O(n log n), quase linear se já estiver quase ordenado.
+     */
+    public void sortByX() {
+        if (permutation.length < size) {
+            permutation = new int[ids.length];
+            sortBuffer = new int[ids.length];
+        }
+        boolean sorted = true;
+        for (int i = 0; i < size; i++) {
+            permutation[i] = i;
+            if (i > 0 && xs[i - 1] > xs[i]) {
+                sorted = false;
+            }
+        }
+        if (sorted) {
+            return;
+        }
+        mergeSort(0, size);
+        applyPermutation();
+    }
+
+    /**
+     * Ordena as entidades pela posição X usando um pool de threads.
+     *
+     * @param pool o pool onde as metades são ordenadas e intercaladas; se for
+     * nulo, a ordenação é sequencial.
+     * @return Nenhum retorno.
+     * @post o mesmo resultado de sortByX() (a ordenação estável é única),
+     * qualquer que seja o número de threads do pool.
+     */
+    public void sortByX(ForkJoinPool pool) {
+        if (pool == null || size < PARALLEL_THRESHOLD) {
+            sortByX();
+            return;
+        }
+        if (permutation.length < size) {
+            permutation = new int[ids.length];
+            sortBuffer = new int[ids.length];
+        }
+        boolean sorted = true;
+        for (int i = 0; i < size; i++) {
+            permutation[i] = i;
+            if (i > 0 && xs[i - 1] > xs[i]) {
+                sorted = false;
+            }
+        }
+        if (sorted) {
+            return;
+        }
+        pool.invoke(new SortTask(0, size));
+        applyPermutation();
+    }
+
+    /**
+     * Funde os grupos de entidades que colidem, em uma única varredura.
+     *
+     * Um grupo começa na entidade mais à esquerda ainda não agrupada e inclui
+     * todas as que estão a até range dela. O sobrevivente é o primeiro cluster
+     * do grupo ou, se não houver, um cluster novo com id e X da primeira
+     * entidade; ele fica com todo o ouro do grupo.
+     *
+     * @param range a distância máxima para haver colisão.
+     * @return a quantidade de entidades absorvidas.
+     * @pre as entidades devem estar ordenadas por X (sortByX).
+     * @post não há duas entidades a até range uma da outra que tenham sido
+     * consideradas no mesmo grupo; a ordem por X é preservada. Custo O(n).
+     */
+    public int fuseCollisions(double range) {
+        int survivors = fuseRange(0, size, range);
+        int absorbed = size - survivors;
+        size = survivors;
+        return absorbed;
+    }
+
+    /**
+     * Funde as colisões de um intervalo de slots, com as mesmas regras de
+     * fuseCollisions, escrevendo os sobreviventes no início do intervalo.
+     *
+     * @param from o primeiro slot do intervalo.
+     * @param to o slot seguinte ao último do intervalo.
+     * @param range a distância máxima para haver colisão.
+     * @return a quantidade de sobreviventes, que ficam em [from, from + k).
+     * @pre as entidades estão ordenadas por X e o intervalo começa em um
+     * limite de segmento (nextSegmentStart), para que nenhum grupo o cruze.
+     * @post os slots de [from + k, to) ficam com lixo até closeGaps. Só
+     * escreve no intervalo, então intervalos disjuntos podem ser fundidos em
+     * paralelo.
+     */
+    public int fuseRange(int from, int to, double range) {
+        int write = from;
+        int i = from;
+        while (i < to) {
+            int end = i + 1;
+            while (end < to && xs[end] - xs[i] <= range) {
+                end++;
+            }
+
+            int survivorId = ids[i];
+            double survivorX = xs[i];
+            byte survivorKind = kinds[i];
+            double survivorGold = golds[i];
+            if (end - i > 1) {
+                int base = i;
+                while (base < end && kinds[base] != KIND_CLUSTER) {
+                    base++;
+                }
+                if (base < end) {
+                    survivorId = ids[base];
+                    survivorX = xs[base];
+                }
+                survivorKind = KIND_CLUSTER;
+                survivorGold = 0;
+                for (int k = i; k < end; k++) {
+                    survivorGold += golds[k];
+                }
+            }
+
+            ids[write] = survivorId;
+            xs[write] = survivorX;
+            golds[write] = survivorGold;
+            kinds[write] = survivorKind;
+            write++;
+            i = end;
+        }
+        return write - from;
+    }
+
+    /**
+     * Procura o próximo ponto onde o eixo X pode ser cortado sem separar uma
+     * colisão: um slot cuja distância para o anterior é maior que range.
+     *
+     * @param from o slot a partir do qual procurar.
+     * @param range a distância máxima para haver colisão.
+     * @return o primeiro slot b >= from com X[b] - X[b - 1] > range, ou size.
+     * @pre as entidades estão ordenadas por X.
+     */
+    public int nextSegmentStart(int from, double range) {
+        int b = Math.max(from, 1);
+        while (b < size && xs[b] - xs[b - 1] <= range) {
+            b++;
+        }
+        return Math.min(b, size);
+    }
+
+    /**
+     * Junta os sobreviventes de cada segmento depois de fuseRange.
+     *
+     * @param starts o início de cada segmento; recebe os novos inícios.
+     * @param counts a quantidade de sobreviventes de cada segmento.
+     * @param segments a quantidade de segmentos.
+     * @return Nenhum retorno.
+     * @pre os segmentos são consecutivos, em ordem, e começam no slot 0.
+     * @post os sobreviventes ficam contíguos, na mesma ordem, e size passa a
+     * ser a soma de counts.
+     */
+    public void closeGaps(int[] starts, int[] counts, int segments) {
+        int write = 0;
+        for (int s = 0; s < segments; s++) {
+            int from = starts[s];
+            int count = counts[s];
+            if (write != from) {
+                System.arraycopy(ids, from, ids, write, count);
+                System.arraycopy(xs, from, xs, write, count);
+                System.arraycopy(golds, from, golds, write, count);
+                System.arraycopy(kinds, from, kinds, write, count);
+            }
+            starts[s] = write;
+            write += count;
+        }
+        size = write;
+    }
+
+    /**
+     * Cada entidade, na ordem de X, rouba metade do ouro da vizinha mais
+     * próxima (em empate, a da esquerda), como LoseGold/StealGold fariam.
+     *
+     * @return Nenhum retorno.
+     * @pre as entidades devem estar ordenadas por X (sortByX).
+     * @post o ouro total é conservado. Custo O(n).
+     */
+    public void stealFromNearestNeighbors() {
+        stealWithin(0, size);
+    }
+
+    /**
+     * Aplica o roubo das entidades de um intervalo cujas vizinhas mais
+     * próximas também estão no intervalo.
+     *
+     * @param from o primeiro slot do intervalo.
+     * @param to o slot seguinte ao último do intervalo.
+     * @return Nenhum retorno.
+     * @pre as entidades estão ordenadas por X.
+     * @post só o ouro do intervalo é alterado, então intervalos disjuntos
+     * podem ser processados em paralelo. Os roubos que cruzam as pontas do
+     * intervalo (no máximo dois) ficam para stealAcross.
+     */
+    public void stealWithin(int from, int to) {
+        if (size < 2) {
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            int victim = nearestNeighborSlot(i);
+            if (victim >= from && victim < to) {
+                steal(i, victim);
+            }
+        }
+    }
+
+    /**
+     * Aplica os roubos que cruzam o limite entre dois segmentos vizinhos.
+     *
+     * @param boundary o primeiro slot do segmento da direita.
+     * @return Nenhum retorno.
+     * @pre 0 < boundary < size e stealWithin já rodou nos dois segmentos.
+     * @post a última entidade da esquerda e a primeira da direita roubam,
+     * nessa ordem, se a vizinha mais próxima delas estiver do outro lado.
+     */
+    public void stealAcross(int boundary) {
+        int left = boundary - 1;
+        if (nearestNeighborSlot(left) == boundary) {
+            steal(left, boundary);
+        }
+        if (nearestNeighborSlot(boundary) == left) {
+            steal(boundary, left);
+        }
+    }
+
+    /**
+     * Procura o primeiro cluster (em ordem de X) a até range de uma posição.
+     *
+     * @param centerPosition a posição central da busca.
+     * @param range a distância máxima ao centro.
+     * @return o slot do cluster, ou -1 se não houver.
+     * @pre as entidades devem estar ordenadas por X (sortByX).
+     * @post custo O(log n + k).
+     */
+    public int findFirstClusterWithin(double centerPosition, double range) {
+        int low = 0;
+        int high = size;
+        double start = centerPosition - range;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (xs[mid] < start) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        while (low > 0 && Math.abs(xs[low - 1] - centerPosition) <= range) {
+            low--;
+        }
+        for (int i = low; i < size; i++) {
+            if (Math.abs(xs[i] - centerPosition) <= range) {
+                if (kinds[i] == KIND_CLUSTER) {
+                    return i;
+                }
+            } else if (xs[i] > centerPosition) {
+                break;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Devolve uma visão leve da entidade de um slot.
+     *
+     * @param slot o slot da entidade.
+     * @return uma visão que implementa HorizonEntities, Move, StealGold e
+     * LoseGold (e Fusion, se for um cluster), lendo e escrevendo nos vetores.
+     * @throws IndexOutOfBoundsException se o slot não existir.
+     */
+    public HorizonEntities view(int slot) {
+        checkSlot(slot);
+        return kinds[slot] == KIND_CLUSTER ? new ClusterView(this, slot) : new EntityView(this, slot);
+    }
+
+    /**
+     * Devolve a lista de entidades como visões, sem copiar os dados.
+     *
+     * @return uma lista somente leitura de visões, na ordem dos slots.
+     */
+    public List<HorizonEntities> getEntities() {
+        return new AbstractList<>() {
+            @Override
+            public HorizonEntities get(int index) {
+                return view(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Copia o estado deste horizonte (entidades, guardião, status e turno)
+     * para outro, reaproveitando os vetores do destino quando couberem.
+     *
+     * @param target o horizonte que recebe a cópia.
+     * @throws IllegalArgumentException se target for nulo ou este horizonte.
+     * @post Alterações posteriores em um dos horizontes não afetam o outro.
+     */
+    public void copyTo(CompactHorizon target) {
+        if (target == null || target == this) {
+            throw new IllegalArgumentException("O destino da cópia deve ser outro horizonte.");
+        }
+        target.size = 0;
+        target.ensureCapacity(size);
+        System.arraycopy(ids, 0, target.ids, 0, size);
+        System.arraycopy(xs, 0, target.xs, 0, size);
+        System.arraycopy(golds, 0, target.golds, 0, size);
+        System.arraycopy(kinds, 0, target.kinds, 0, size);
+        target.size = size;
+        target.turn = turn;
+        target.status = status;
+        target.guardiao = guardiao == null ? null : new Guardian(guardiao.getId(), guardiao.getX(), guardiao.getGold());
+    }
+
+    /**
+     * Cria um horizonte compacto a partir de um Horizon comum.
+     *
+     * @param horizon o horizonte de origem.
+     * @return um CompactHorizon com as mesmas entidades, guardião e status.
+     * @throws IllegalArgumentException se horizon for nulo ou tiver entidades
+     * de tipo desconhecido.
+     */
+    public static CompactHorizon fromHorizon(Horizon horizon) {
+        if (horizon == null) {
+            throw new IllegalArgumentException("Horizon não pode ser nulo.");
+        }
+        List<HorizonEntities> entities = horizon.getEntities();
+        CompactHorizon compact = new CompactHorizon(entities.size());
+        for (HorizonEntities entity : entities) {
+            byte kind;
+            if (entity instanceof CreatureCluster) {
+                kind = KIND_CLUSTER;
+            } else if (entity instanceof CreatureUnit) {
+                kind = KIND_UNIT;
+            } else {
+                throw new IllegalArgumentException("Tipo de entidade de domínio desconhecido: " + entity);
+            }
+            compact.add(entity.getId(), entity.getX(), entity.getGold(), kind);
+        }
+        compact.setGuardiao(horizon.getGuardiao());
+        compact.setStatus(horizon.getStatus());
+        return compact;
+    }
+
+    /**
+     * Materializa o horizonte compacto como um Horizon comum, com um objeto
+     * por entidade. Útil para reaproveitar mapeadores e DTOs existentes.
+     *
+     * @return um novo Horizon equivalente a este.
+     */
+    public Horizon toHorizon() {
+        Horizon horizon = new Horizon();
+        for (int i = 0; i < size; i++) {
+            if (kinds[i] == KIND_CLUSTER) {
+                horizon.addEntity(new CreatureCluster(ids[i], xs[i], golds[i]));
+            } else {
+                horizon.addEntity(new CreatureUnit(ids[i], xs[i], golds[i]));
+            }
+        }
+        horizon.setGuardiao(guardiao);
+        horizon.setStatus(status);
+        return horizon;
+    }
+
+    // --- AUXILIARES ---
+    // Vizinha mais próxima em X (em empate, a da esquerda).
+    private int nearestNeighborSlot(int i) {
+        double leftDistance = i > 0 ? xs[i] - xs[i - 1] : Double.POSITIVE_INFINITY;
+        double rightDistance = i < size - 1 ? xs[i + 1] - xs[i] : Double.POSITIVE_INFINITY;
+        return leftDistance <= rightDistance ? i - 1 : i + 1;
+    }
+
+    // Mesmas regras de LoseGold.loseGold(0.5) e StealGold.stealGold.
+    private void steal(int thief, int victim) {
+        if (golds[victim] <= 0.0) {
+            return;
+        }
+        double amountLost = golds[victim] * 0.5;
+        golds[victim] -= amountLost;
+        golds[thief] += amountLost;
+    }
+
+    /*
+     * Reordena as colunas no lugar para que o slot i receba a entidade que
+     * estava em permutation[i]. Segue cada ciclo da permutação guardando só a
+     * primeira entidade dele; o slot visitado é marcado com permutation[j] = j.
+     * Custo O(n), sem memória extra.
+     */
+    private void applyPermutation() {
+        for (int i = 0; i < size; i++) {
+            if (permutation[i] == i) {
+                continue;
+            }
+            int id = ids[i];
+            double x = xs[i];
+            double gold = golds[i];
+            byte kind = kinds[i];
+            int j = i;
+            while (true) {
+                int source = permutation[j];
+                permutation[j] = j;
+                if (source == i) {
+                    ids[j] = id;
+                    xs[j] = x;
+                    golds[j] = gold;
+                    kinds[j] = kind;
+                    break;
+                }
+                ids[j] = ids[source];
+                xs[j] = xs[source];
+                golds[j] = golds[source];
+                kinds[j] = kinds[source];
+                j = source;
+            }
+        }
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= size) {
+            throw new IndexOutOfBoundsException("Slot " + slot + " fora do intervalo [0, " + size + ").");
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, Math.max(DEFAULT_CAPACITY, ids.length * 2));
+        ids = Arrays.copyOf(ids, newCapacity);
+        xs = Arrays.copyOf(xs, newCapacity);
+        golds = Arrays.copyOf(golds, newCapacity);
+        kinds = Arrays.copyOf(kinds, newCapacity);
+    }
+
+    // Merge sort estável dos índices em permutation[from, to) pela posição X.
+    private void mergeSort(int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(from, mid);
+        mergeSort(mid, to);
+        if (xs[permutation[mid - 1]] <= xs[permutation[mid]]) {
+            return;
+        }
+        System.arraycopy(permutation, from, sortBuffer, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && xs[sortBuffer[left]] <= xs[sortBuffer[right]])) {
+                permutation[i] = sortBuffer[left++];
+            } else {
+                permutation[i] = sortBuffer[right++];
+            }
+        }
+    }
+
+    /*
+     * Merge sort paralelo de permutation[from, to): ordena as metades em
+     * paralelo e as intercala com MergeTask. Abaixo do limiar, usa o merge
+     * sort sequencial, que só toca o próprio intervalo.
+     */
+    private final class SortTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+
+        SortTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                mergeSort(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask(from, mid), new SortTask(mid, to));
+            if (xs[permutation[mid - 1]] <= xs[permutation[mid]]) {
+                return;
+            }
+            System.arraycopy(permutation, from, sortBuffer, from, to - from);
+            new MergeTask(from, mid, mid, to, from).compute();
+        }
+    }
+
+    /*
+     * Intercala sortBuffer[leftFrom, leftTo) e sortBuffer[rightFrom, rightTo)
+     * em permutation a partir de 'out', dividindo a maior sequência ao meio e
+     * achando o ponto de corte da outra por busca binária. Empates mantêm a
+     * esquerda primeiro, como no merge sequencial.
+     */
+    private final class MergeTask extends RecursiveAction {
+
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final int out;
+
+        MergeTask(int leftFrom, int leftTo, int rightFrom, int rightTo, int out) {
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            int leftLength = leftTo - leftFrom;
+            int rightLength = rightTo - rightFrom;
+            if (leftLength + rightLength <= PARALLEL_THRESHOLD) {
+                mergeSequential();
+                return;
+            }
+            int leftCut;
+            int rightCut;
+            if (leftLength >= rightLength) {
+                leftCut = (leftFrom + leftTo) >>> 1;
+                // Da direita, vão antes só as estritamente menores.
+                rightCut = searchBuffer(rightFrom, rightTo, xs[sortBuffer[leftCut]], false);
+            } else {
+                rightCut = (rightFrom + rightTo) >>> 1;
+                // Da esquerda, vão antes também as iguais.
+                leftCut = searchBuffer(leftFrom, leftTo, xs[sortBuffer[rightCut]], true);
+            }
+            int secondOut = out + (leftCut - leftFrom) + (rightCut - rightFrom);
+            invokeAll(new MergeTask(leftFrom, leftCut, rightFrom, rightCut, out),
+                    new MergeTask(leftCut, leftTo, rightCut, rightTo, secondOut));
+        }
+
+        private void mergeSequential() {
+            int left = leftFrom;
+            int right = rightFrom;
+            int total = (leftTo - leftFrom) + (rightTo - rightFrom);
+            for (int i = out; i < out + total; i++) {
+                if (right >= rightTo || (left < leftTo && xs[sortBuffer[left]] <= xs[sortBuffer[right]])) {
+                    permutation[i] = sortBuffer[left++];
+                } else {
+                    permutation[i] = sortBuffer[right++];
+                }
+            }
+        }
+    }
+
+    // Primeira posição de sortBuffer[from, to) com X > key (inclusive=true)
+    // ou com X >= key (inclusive=false).
+    private int searchBuffer(int from, int to, double key, boolean inclusive) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            double value = xs[sortBuffer[mid]];
+            if (value < key || (inclusive && value == key)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /*
+     * Visão leve de uma unidade: não guarda estado próprio além do slot.
+     */
+    static class EntityView implements HorizonEntities, Move, StealGold, LoseGold {
+
+        private final CompactHorizon owner;
+        private final int slot;
+
+        EntityView(CompactHorizon owner, int slot) {
+            this.owner = owner;
+            this.slot = slot;
+        }
+
+        @Override
+        public int getId() {
+            return owner.getId(slot);
+        }
+
+        @Override
+        public double getX() {
+            return owner.getX(slot);
+        }
+
+        @Override
+        public void setX(double newX) {
+            owner.setX(slot, newX);
+        }
+
+        @Override
+        public double getGold() {
+            return owner.getGold(slot);
+        }
+
+        @Override
+        public void setGold(double newGold) {
+            owner.setGold(slot, newGold);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof EntityView view && view.owner == owner && view.slot == slot;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(owner) + slot;
+        }
+
+        @Override
+        public String toString() {
+            return "EntityView(slot=" + slot + ", id=" + getId() + ", x=" + getX() + ", gold=" + getGold() + ")";
+        }
+    }
+
+    /*
+     * Visão leve de um cluster: acrescenta o comportamento de fusão.
+     */
+    static class ClusterView extends EntityView implements Fusion {
+
+        ClusterView(CompactHorizon owner, int slot) {
+            super(owner, slot);
+        }
+    }
+}
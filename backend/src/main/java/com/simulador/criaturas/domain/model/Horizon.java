@@ -1,28 +1,177 @@
 package com.simulador.criaturas.domain.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import com.simulador.criaturas.domain.behaviors.HorizonEntities;
+import com.simulador.criaturas.domain.behaviors.Move;
 import com.simulador.criaturas.utils.SimulationStatus;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 /*
  * Classe que representa o horizonte, contendo uma lista de entidades do horizonte
  * (que podem ser tanto unidades de criaturas, aglomerados de criaturas e Guardiões).
+ *
+ * Além da lista, o horizonte mantém um índice ordenado por X (SpatialIndex) para
+ * que as buscas por faixa custem O(log n + k) em vez de varrer todas as entidades.
+ * O índice é atualizado pelos métodos do próprio Horizon (addEntity, removeEntity,
+ * removeEntities e moveEntity). Como getEntities() expõe a lista mutável, quem a
+ * obtém pode alterar posições por fora; por isso o índice é reconstruído na
+ * próxima consulta depois de cada chamada a getEntities() ou setEntities().
+ * Quem só lê (o status do turno, fotografias, deltas, quadros) usa
+ * getEntitiesView(), que não invalida o índice.
+ *
+ * Remoções são feitas por referência (nunca por equals, já que duas criaturas
+ * com os mesmos campos são iguais para o Lombok) e em duas etapas: a entidade
+ * sai do índice e recebe uma lápide na sua posição da lista; a lista é
+ * compactada de uma só vez depois. Fora de um turno, a compactação acontece no
+ * fim de cada chamada de remoção. Dentro de um turno (beginTurn/endTurn), ela
+ * fica para o endTurn, de modo que um turno com muitas fusões compacta a lista
+ * uma única vez, e a lápide serve como flag de vida em O(1) para o laço do
+ * turno. Sempre que o índice está atualizado, a ordem de cada entidade no
+ * índice é a sua posição na lista, o que permite achar a lápide sem busca.
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class Horizon {
 
     private List<HorizonEntities> entities = new ArrayList<>();
     private Guardian guardiao;
     private SimulationStatus status = SimulationStatus.RUNNING;
 
+    // Semente da simulação (nula quando ela não é reproduzível) e quantidade
+    // de turnos já executados: juntos, definem o gerador de cada turno.
+    private Long seed;
+    private int turn;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final SpatialIndex index = new SpatialIndex();
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean indexStale = true;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private HorizonEntities[] turnEntities = new HorizonEntities[0];
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private int turnSize;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean turnOpen;
+
+    // Falso quando as posições da lista deixam de coincidir com os slots da
+    // fotografia do turno (a lista foi compactada ou exposta durante o turno).
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean turnTracked;
+
+    // Lápides, indexadas pela posição na lista.
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean[] dead = new boolean[0];
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private int deadCount;
+
+    // Visão somente leitura de 'entities', criada uma vez por lista.
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private List<HorizonEntities> readOnlyEntities;
+
+    // Posição nova de cada posição antiga, preenchida na compactação.
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private int[] compactionMap = new int[0];
+
+    public Horizon(List<HorizonEntities> entities, Guardian guardiao, SimulationStatus status) {
+        this.entities = entities;
+        this.guardiao = guardiao;
+        this.status = status;
+    }
+
+    /**
+     * Obtém a lista de entidades do horizonte.
+     *
+     * @return a lista mutável de entidades, sem entidades removidas.
+     * @post remoções pendentes são aplicadas e o índice espacial passa a ser
+     * considerado desatualizado, pois o chamador pode alterar a lista ou as
+     * posições das entidades.
+     */
+    public List<HorizonEntities> getEntities() {
+        compactRemoved();
+        this.indexStale = true;
+        this.turnTracked = false;
+        return entities;
+    }
+
+    /**
+     * Obtém as entidades do horizonte para leitura.
+     *
+     * @return uma visão somente leitura da lista de entidades, sem entidades
+     * removidas. Acompanha as alterações feitas depois pelos métodos do
+     * horizonte.
+     * @post remoções pendentes são aplicadas; o índice espacial continua
+     * válido, pois a visão não permite alterar a lista. As posições das
+     * entidades não devem ser alteradas por ela (use moveEntity).
+     */
+    public List<HorizonEntities> getEntitiesView() {
+        compactRemoved();
+        if (readOnlyEntities == null) {
+            readOnlyEntities = Collections.unmodifiableList(entities);
+        }
+        return readOnlyEntities;
+    }
+
+    /**
+     * Substitui a lista de entidades do horizonte.
+     *
+     * @param entities a nova lista de entidades.
+     * @post o índice espacial é reconstruído na próxima consulta.
+     */
+    public void setEntities(List<HorizonEntities> entities) {
+        this.entities = entities;
+        this.readOnlyEntities = null;
+        Arrays.fill(this.dead, false);
+        this.deadCount = 0;
+        this.indexStale = true;
+        this.turnTracked = false;
+    }
+
     /**
      * Inicializa as entidades do horizonte.
      *
@@ -37,7 +186,11 @@ public class Horizon {
             throw new IllegalArgumentException("A quantidade de criaturas deve ser positiva.");
         }
         for (int i = 1; i <= amount; i++) {
-            entities.add(new CreatureUnit(i));
+            CreatureUnit creature = new CreatureUnit(i);
+            entities.add(creature);
+            if (!indexStale) {
+                index.insert(creature);
+            }
         }
     }
 
@@ -55,6 +208,9 @@ public class Horizon {
             throw new IllegalArgumentException("Não é permitido adicionar uma entidade nula ao horizonte.");
         }
         this.entities.add(entity);
+        if (!indexStale) {
+            index.insert(entity);
+        }
     }
 
     /**
@@ -63,14 +219,19 @@ public class Horizon {
      * @param entity a entidade a ser removida
      * @return Nenhum retorno.
      * @pre entity não pode ser nula
-     * @post a entidade é removida do horizonte
+     * @post a própria instância (comparação por referência) é removida do
+     * horizonte. Durante um turno, a compactação da lista fica para o
+     * endTurn.
      * @throws IllegalArgumentException se entity for nula
      */
     public void removeEntity(HorizonEntities entity) {
         if (entity == null) {
             throw new IllegalArgumentException("Não é permitido remover uma entidade nula do horizonte.");
         }
-        this.entities.remove(entity);
+        bury(entity);
+        if (!turnOpen) {
+            compactRemoved();
+        }
     }
 
     /**
@@ -79,15 +240,50 @@ public class Horizon {
      * @param toRemove a lista de entidades a serem removidas
      * @return Nenhum retorno.
      * @pre toRemove não pode ser nula e não pode conter elementos nulos
-     * @post as entidades na lista toRemove são removidas do horizonte
+     * @post as instâncias da lista toRemove (comparação por referência) são
+     * removidas do horizonte. Custo O(m log n) para marcar e O(n) para
+     * compactar, uma única vez.
      * @throws IllegalArgumentException se toRemove for nula ou contiver
      * elementos nulos
      */
     public void removeEntities(List<HorizonEntities> toRemove) {
-        if (toRemove == null || toRemove.stream().anyMatch(e -> e == null)) {
+        if (toRemove == null) {
             throw new IllegalArgumentException("A lista de entidades a serem removidas não pode ser nula nem conter elementos nulos.");
         }
-        this.entities.removeAll(toRemove);
+        for (int i = 0; i < toRemove.size(); i++) {
+            if (toRemove.get(i) == null) {
+                throw new IllegalArgumentException("A lista de entidades a serem removidas não pode ser nula nem conter elementos nulos.");
+            }
+        }
+        for (int i = 0; i < toRemove.size(); i++) {
+            bury(toRemove.get(i));
+        }
+        if (!turnOpen) {
+            compactRemoved();
+        }
+    }
+
+    /**
+     * Move uma entidade do horizonte mantendo o índice espacial coerente.
+     *
+     * @param entity a entidade a ser movida.
+     * @param randomR o fator aleatório do movimento, no intervalo [-1, 1].
+     * @return Nenhum retorno.
+     * @pre entity não pode ser nula e deve implementar Move.
+     * @post a posição da entidade é atualizada por Move.move e o índice
+     * espacial passa a refletir a nova posição.
+     * @throws IllegalArgumentException se entity for nula ou não puder se
+     * mover, ou se randomR estiver fora de [-1, 1].
+     */
+    public void moveEntity(HorizonEntities entity, double randomR) {
+        if (!(entity instanceof Move movel)) {
+            throw new IllegalArgumentException("A entidade deve existir e ser capaz de se mover.");
+        }
+        double oldX = entity.getX();
+        movel.move(randomR);
+        if (!indexStale) {
+            index.relocate(entity, oldX);
+        }
     }
 
     /**
@@ -103,6 +299,7 @@ public class Horizon {
         if (Double.isNaN(position) || Double.isInfinite(position)) {
             throw new IllegalArgumentException("A posição não pode ser NaN ou Infinita.");
         }
+        compactRemoved();
         return this.entities.stream()
                 .filter(e -> e.getX() == position)
                 .toList();
@@ -132,13 +329,211 @@ public class Horizon {
         }
 
         List<HorizonEntities> foundEntities = new ArrayList<>();
-        // Inclui a busca na lista principal de entidades
-        for (HorizonEntities entity : this.getEntities()) {
-            if (Math.abs(entity.getX() - centerPosition) <= range) {
-                foundEntities.add(entity);
+        // Busca binária no índice ordenado por X; o resultado sai na ordem da lista
+        spatialIndex().collectWithinRange(centerPosition, range, foundEntities);
+
+        return foundEntities;
+    }
+
+    /**
+     * Variante de getEntitiesWithinRange que escreve o resultado em uma
+     * lista fornecida pelo chamador, para que ele possa reaproveitá-la.
+     *
+     * @param centerPosition A posição central da busca.
+     * @param range A distância máxima do centro.
+     * @param out A lista que recebe as entidades encontradas, na ordem da
+     * lista de entidades. Não é limpa antes.
+     * @return Nenhum retorno.
+     * @pre os mesmos de getEntitiesWithinRange; out não pode ser nula.
+     * @post out recebe as entidades da faixa. Nenhuma memória é alocada se
+     * out já tiver capacidade suficiente.
+     * @throws IllegalArgumentException nas mesmas condições de
+     * getEntitiesWithinRange, ou se out for nula.
+     */
+    public void collectEntitiesWithinRange(double centerPosition, double range, List<HorizonEntities> out) {
+        if (Double.isNaN(centerPosition) || Double.isInfinite(centerPosition) || centerPosition < 0) {
+            throw new IllegalArgumentException("A posição central não pode ser NaN, Infinita ou negativa.");
+        }
+        if (Double.isNaN(range) || Double.isInfinite(range) || range < 0) {
+            throw new IllegalArgumentException("A faixa deve ser um número positivo válido.");
+        }
+        if (out == null) {
+            throw new IllegalArgumentException("A lista de saída não pode ser nula.");
+        }
+        spatialIndex().collectWithinRange(centerPosition, range, out);
+    }
+
+    /**
+     * Encontra a entidade do horizonte mais próxima de uma entidade de
+     * referência.
+     *
+     * @param reference a entidade a partir da qual a busca é feita.
+     * @return a entidade vizinha mais próxima, ou null se não houver outras
+     * entidades.
+     * @pre reference não pode ser nula.
+     * @post o estado do horizonte não é modificado. A primeira entidade igual
+     * à referência é ignorada e, em caso de empate na distância, vence a que
+     * vem antes na lista de entidades. A busca parte da posição da referência
+     * no índice espacial e não aloca memória.
+     * @throws IllegalArgumentException se reference for nula.
+     */
+    public HorizonEntities findNearestNeighbor(HorizonEntities reference) {
+        if (reference == null) {
+            throw new IllegalArgumentException("A entidade de referência não pode ser nula.");
+        }
+        return spatialIndex().nearestTo(reference);
+    }
+
+    /**
+     * Abre um turno: fotografa as entidades atuais e marca todas como vivas.
+     *
+     * @return a quantidade de entidades fotografadas.
+     * @post getTurnEntity(i) devolve a i-ésima entidade da lista no início do
+     * turno e isAliveInTurn(i) é verdadeiro para todas elas. Até o endTurn,
+     * as remoções apenas marcam lápides. Os vetores são reaproveitados entre
+     * turnos, sem alocação quando o horizonte não cresce.
+     */
+    public int beginTurn() {
+        // Com o índice atualizado, a ordem de cada entidade é a sua posição
+        // na lista, que passa a ser também o seu slot na fotografia.
+        spatialIndex();
+
+        int n = entities.size();
+        if (turnEntities.length < n) {
+            turnEntities = new HorizonEntities[Math.max(n, turnEntities.length * 2)];
+        }
+        if (dead.length < n) {
+            dead = Arrays.copyOf(dead, turnEntities.length);
+        }
+        for (int i = 0; i < n; i++) {
+            turnEntities[i] = entities.get(i);
+        }
+        turnSize = n;
+        turnOpen = true;
+        turnTracked = true;
+        return n;
+    }
+
+    /**
+     * Obtém uma entidade da fotografia do turno aberto.
+     *
+     * @param slot a posição da entidade na lista no início do turno.
+     * @return a entidade, mesmo que já tenha sido removida no turno.
+     * @pre beginTurn foi chamado e 0 <= slot < valor retornado por ele.
+     * @throws IndexOutOfBoundsException se o slot não pertencer ao turno.
+     */
+    public HorizonEntities getTurnEntity(int slot) {
+        checkTurnSlot(slot);
+        return turnEntities[slot];
+    }
+
+    /**
+     * Verifica se uma entidade da fotografia do turno ainda está no horizonte.
+     *
+     * @param slot a posição da entidade na lista no início do turno.
+     * @return true se a própria instância (comparação por referência) ainda
+     * estiver no horizonte.
+     * @pre beginTurn foi chamado e 0 <= slot < valor retornado por ele.
+     * @post custo O(1) (consulta à lápide), a menos que a lista tenha sido
+     * exposta por getEntities() durante o turno; nesse caso a verificação
+     * volta a ser feita pelo índice espacial.
+     * @throws IndexOutOfBoundsException se o slot não pertencer ao turno.
+     */
+    public boolean isAliveInTurn(int slot) {
+        checkTurnSlot(slot);
+        if (turnTracked) {
+            return !dead[slot];
+        }
+        return spatialIndex().containsReference(turnEntities[slot]);
+    }
+
+    /**
+     * Fecha o turno aberto por beginTurn, compactando a lista de entidades
+     * uma única vez e soltando as referências da fotografia.
+     *
+     * @return Nenhum retorno.
+     * @post a lista não contém entidades removidas e nenhuma entidade
+     * removida continua referenciada pelo horizonte.
+     */
+    public void endTurn() {
+        turnOpen = false;
+        turnTracked = false;
+        compactRemoved();
+        Arrays.fill(turnEntities, 0, turnSize, null);
+        turnSize = 0;
+    }
+
+    private void checkTurnSlot(int slot) {
+        if (slot < 0 || slot >= turnSize) {
+            throw new IndexOutOfBoundsException("Slot " + slot + " fora do turno atual [0, " + turnSize + ").");
+        }
+    }
+
+    // Marca a lápide da própria instância, se ela estiver no horizonte.
+    private void bury(HorizonEntities entity) {
+        int position = -1;
+        if (!indexStale) {
+            position = (int) index.remove(entity);
+        } else {
+            for (int i = 0; i < entities.size(); i++) {
+                if (entities.get(i) == entity && (i >= dead.length || !dead[i])) {
+                    position = i;
+                    break;
+                }
+            }
+        }
+        if (position < 0) {
+            return;
+        }
+        if (dead.length < entities.size()) {
+            dead = Arrays.copyOf(dead, Math.max(entities.size(), dead.length * 2));
+        }
+        dead[position] = true;
+        deadCount++;
+    }
+
+    // Remove de uma vez as entidades com lápide, preservando a ordem das
+    // demais, e renumera as ordens do índice para as novas posições.
+    private void compactRemoved() {
+        if (deadCount == 0) {
+            return;
+        }
+        int total = entities.size();
+        if (compactionMap.length < total) {
+            compactionMap = new int[Math.max(total, compactionMap.length * 2)];
+        }
+        int write = 0;
+        for (int read = 0; read < total; read++) {
+            if (read < dead.length && dead[read]) {
+                dead[read] = false;
+                compactionMap[read] = -1;
+                continue;
+            }
+            if (write != read) {
+                entities.set(write, entities.get(read));
             }
+            compactionMap[read] = write++;
         }
+        for (int i = total - 1; i >= write; i--) {
+            entities.remove(i);
+        }
+        deadCount = 0;
+        // As posições mudaram: os slots do turno não batem mais com a lista.
+        turnTracked = false;
+        if (!indexStale) {
+            index.remapOrders(compactionMap, write);
+        }
+    }
 
-        return foundEntities;
+    /**
+     * Devolve o índice espacial, reconstruindo-o se estiver desatualizado.
+     */
+    private SpatialIndex spatialIndex() {
+        if (indexStale) {
+            compactRemoved();
+            index.rebuild(entities);
+            indexStale = false;
+        }
+        return index;
     }
 }
@@ -0,0 +1,145 @@
+package com.simulador.criaturas.domain.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.simulador.criaturas.domain.behaviors.HorizonEntities;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * O que mudou em um Horizon entre dois turnos, para enviar ao cliente apenas
+ * a diferença em vez do estado inteiro.
+ *
+ * Para aplicar um delta, o cliente que está no turno 'baseTurn' remove as
+ * entidades de 'removed', acrescenta as de 'added', atualiza posições e ouro
+ * com 'moved' e 'goldChanged' e, se 'guardiao' não for nulo, substitui o
+ * guardião. Um cluster novo pode reaproveitar o id de uma unidade fundida;
+ * nesse caso o id aparece em 'removed' e em 'added'.
+ *
+ * Quando 'resync' é verdadeiro, o delta é o estado completo: o cliente deve
+ * descartar o que tem e usar 'added' e 'guardiao' como o novo estado.
+ */
+@Getter
+@AllArgsConstructor
+public class HorizonDelta {
+
+    private final int baseTurn;
+    private final int turn;
+    private final boolean resync;
+    private final SimulationStatus status;
+    private final List<PositionChange> moved;
+    private final List<GoldChange> goldChanged;
+    private final int[] removed;
+    private final List<HorizonEntities> added;
+    private final Guardian guardiao;
+
+    /**
+     * Calcula a diferença entre uma fotografia e o estado atual do horizonte.
+     *
+     * @param antes O estado no turno base.
+     * @param depois O horizonte no estado atual.
+     * @return O delta de 'antes' para 'depois'.
+     * @throws IllegalArgumentException Se algum parâmetro for nulo.
+     * @pre Os ids das entidades são únicos em cada um dos estados.
+     * @post Nenhum dos dois estados é modificado; as entidades de 'added' e o
+     * guardião são cópias.
+     */
+    public static HorizonDelta between(HorizonSnapshot antes, Horizon depois) {
+        if (antes == null || depois == null) {
+            throw new IllegalArgumentException("Os estados comparados não podem ser nulos.");
+        }
+        Map<Integer, Integer> anteriores = new HashMap<>(antes.size() * 2);
+        for (int i = 0; i < antes.size(); i++) {
+            anteriores.put(antes.getId(i), i);
+        }
+
+        List<PositionChange> moved = new ArrayList<>();
+        List<GoldChange> goldChanged = new ArrayList<>();
+        List<HorizonEntities> added = new ArrayList<>();
+        List<Integer> removed = new ArrayList<>();
+        for (HorizonEntities entity : depois.getEntitiesView()) {
+            Integer anterior = anteriores.remove(entity.getId());
+            if (anterior == null || antes.isCluster(anterior) != (entity instanceof CreatureCluster)) {
+                if (anterior != null) {
+                    removed.add(entity.getId());
+                }
+                added.add(copy(entity));
+                continue;
+            }
+            if (antes.getX(anterior) != entity.getX()) {
+                moved.add(new PositionChange(entity.getId(), entity.getX()));
+            }
+            if (antes.getGold(anterior) != entity.getGold()) {
+                goldChanged.add(new GoldChange(entity.getId(), entity.getGold()));
+            }
+        }
+        removed.addAll(anteriores.keySet());
+
+        Guardian guardiao = depois.getGuardiao();
+        Guardian guardiaoAlterado = guardiao == null || guardiao.equals(antes.getGuardiao())
+                ? null
+                : copy(guardiao);
+        return new HorizonDelta(antes.getTurn(), depois.getTurn(), false, depois.getStatus(), moved, goldChanged,
+                removed.stream().mapToInt(Integer::intValue).sorted().toArray(), added, guardiaoAlterado);
+    }
+
+    /**
+     * Monta um delta de ressincronização, com o estado completo do horizonte.
+     *
+     * @param horizon O horizonte no estado atual.
+     * @return Um delta com 'resync' verdadeiro e todas as entidades em 'added'.
+     * @throws IllegalArgumentException Se o horizonte for nulo.
+     * @pre O horizonte não pode ser nulo.
+     * @post O horizonte não é modificado.
+     */
+    public static HorizonDelta full(Horizon horizon) {
+        if (horizon == null) {
+            throw new IllegalArgumentException("Horizon não pode ser nulo.");
+        }
+        List<HorizonEntities> added = new ArrayList<>();
+        for (HorizonEntities entity : horizon.getEntitiesView()) {
+            added.add(copy(entity));
+        }
+        Guardian guardiao = horizon.getGuardiao();
+        return new HorizonDelta(-1, horizon.getTurn(), true, horizon.getStatus(), List.of(), List.of(), new int[0],
+                added, guardiao == null ? null : copy(guardiao));
+    }
+
+    private static HorizonEntities copy(HorizonEntities entity) {
+        if (entity instanceof CreatureCluster) {
+            return new CreatureCluster(entity.getId(), entity.getX(), entity.getGold());
+        }
+        return new CreatureUnit(entity.getId(), entity.getX(), entity.getGold());
+    }
+
+    private static Guardian copy(Guardian guardiao) {
+        return new Guardian(guardiao.getId(), guardiao.getX(), guardiao.getGold());
+    }
+
+    /**
+     * Nova posição de uma entidade que se moveu.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PositionChange {
+
+        private final int id;
+        private final double x;
+    }
+
+    /**
+     * Novo ouro de uma entidade que ganhou ou perdeu ouro.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class GoldChange {
+
+        private final int id;
+        private final double gold;
+    }
+}
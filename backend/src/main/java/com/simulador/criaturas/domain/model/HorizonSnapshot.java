@@ -0,0 +1,119 @@
+package com.simulador.criaturas.domain.model;
+
+import java.util.List;
+
+import com.simulador.criaturas.domain.behaviors.HorizonEntities;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Cópia imutável e compacta do estado de um Horizon em um turno: as entidades
+ * em vetores primitivos (id, x, ouro e se é cluster), o guardião e o status.
+ * Serve de base para calcular o que mudou depois de uma iteração.
+ */
+@Getter
+public class HorizonSnapshot {
+
+    private final int turn;
+    private final SimulationStatus status;
+
+    @Getter(AccessLevel.NONE)
+    private final int[] ids;
+    @Getter(AccessLevel.NONE)
+    private final double[] xs;
+    @Getter(AccessLevel.NONE)
+    private final double[] golds;
+    @Getter(AccessLevel.NONE)
+    private final boolean[] clusters;
+
+    private final Guardian guardiao;
+
+    private HorizonSnapshot(int turn, SimulationStatus status, int[] ids, double[] xs, double[] golds,
+            boolean[] clusters, Guardian guardiao) {
+        this.turn = turn;
+        this.status = status;
+        this.ids = ids;
+        this.xs = xs;
+        this.golds = golds;
+        this.clusters = clusters;
+        this.guardiao = guardiao;
+    }
+
+    /**
+     * Fotografa o estado atual de um horizonte.
+     *
+     * @param horizon O horizonte a fotografar.
+     * @return Uma cópia independente do estado do horizonte.
+     * @throws IllegalArgumentException Se o horizonte for nulo.
+     * @pre O horizonte não pode ser nulo.
+     * @post Alterações posteriores no horizonte não afetam a fotografia.
+     */
+    public static HorizonSnapshot of(Horizon horizon) {
+        if (horizon == null) {
+            throw new IllegalArgumentException("Horizon não pode ser nulo.");
+        }
+        List<HorizonEntities> entities = horizon.getEntitiesView();
+        int n = entities.size();
+        int[] ids = new int[n];
+        double[] xs = new double[n];
+        double[] golds = new double[n];
+        boolean[] clusters = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            HorizonEntities entity = entities.get(i);
+            ids[i] = entity.getId();
+            xs[i] = entity.getX();
+            golds[i] = entity.getGold();
+            clusters[i] = entity instanceof CreatureCluster;
+        }
+        Guardian guardiao = horizon.getGuardiao();
+        Guardian copia = guardiao == null ? null : new Guardian(guardiao.getId(), guardiao.getX(), guardiao.getGold());
+        return new HorizonSnapshot(horizon.getTurn(), horizon.getStatus(), ids, xs, golds, clusters, copia);
+    }
+
+    /**
+     * Reconstrói um horizonte no estado fotografado.
+     *
+     * @param seed A semente da simulação, ou nula se ela não tiver semente.
+     * @return Um novo horizonte com as mesmas entidades, na mesma ordem, o
+     * mesmo guardião, status e turno.
+     * @pre Nenhuma.
+     * @post Cada chamada devolve objetos novos; a fotografia não é alterada.
+     */
+    public Horizon restore(Long seed) {
+        Horizon horizon = new Horizon();
+        for (int i = 0; i < ids.length; i++) {
+            horizon.addEntity(clusters[i]
+                    ? new CreatureCluster(ids[i], xs[i], golds[i])
+                    : new CreatureUnit(ids[i], xs[i], golds[i]));
+        }
+        if (guardiao != null) {
+            horizon.setGuardiao(new Guardian(guardiao.getId(), guardiao.getX(), guardiao.getGold()));
+        }
+        horizon.setStatus(status);
+        horizon.setSeed(seed);
+        horizon.setTurn(turn);
+        return horizon;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public int getId(int index) {
+        return ids[index];
+    }
+
+    public double getX(int index) {
+        return xs[index];
+    }
+
+    public double getGold(int index) {
+        return golds[index];
+    }
+
+    public boolean isCluster(int index) {
+        return clusters[index];
+    }
+}
@@ -0,0 +1,295 @@
+package com.simulador.criaturas.domain.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * Ranking de usuários em memória, ordenado por (pontuação desc, login asc).
+ *
+ * É uma skip list indexável: cada ponteiro guarda também quantas posições ele
+ * salta (o "span"), o que permite descer direto até a posição N do ranking em
+ * O(log n) e depois andar pelo nível 0 até completar a página. Um mapa por ID
+ * de usuário localiza o nó a ser reposicionado quando as estatísticas mudam.
+ *
+ * As leituras de página (o caso frequente: o frontend consulta o ranking
+ * periodicamente) compartilham a trava de leitura; as alterações são
+ * exclusivas.
+ *
+ * O desempate por login usa String.compareTo, isto é, a ordem binária dos
+ * caracteres UTF-16 ("Zoe" antes de "alice", "bob" antes de "álvaro"). É a
+ * ordem do H2 e do PostgreSQL com a collation "C"; com uma collation
+ * linguística (en_US, pt_BR), a consulta de ranking do banco desempata de
+ * outra forma quando os logins diferem em maiúsculas ou acentos. Cada cursor
+ * (pontuação, login) só vale para a fonte que o gerou, então a paginação de
+ * cada uma continua consistente.
+ */
+public final class LeaderboardIndex {
+
+    private static final int MAX_LEVEL = 32;
+
+    private final Node head = new Node(0L, null, 0L, 0L, MAX_LEVEL);
+    private final Map<Long, Node> byUserId = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SplittableRandom random = new SplittableRandom();
+    private int level = 1;
+    private int size;
+
+    /**
+     * Soma incrementos às estatísticas de um usuário e o reposiciona no
+     * ranking, inserindo-o se ainda não estiver no índice.
+     *
+     * @param userId O ID do usuário.
+     * @param login O login atual do usuário, ou nulo para manter o que já está
+     * no índice.
+     * @param simulationsDelta Quanto somar ao número de simulações.
+     * @param scoreDelta Quanto somar à pontuação.
+     * @pre userId não pode ser nulo. Para um usuário fora do índice, o login é
+     * obrigatório e os incrementos são os valores absolutos.
+     * @post O usuário ocupa a posição correspondente à nova pontuação. Um
+     * usuário ausente sem login é ignorado.
+     */
+    public void apply(Long userId, String login, long simulationsDelta, long scoreDelta) {
+        lock.writeLock().lock();
+        try {
+            Node atual = byUserId.get(userId);
+            if (atual == null) {
+                if (login != null) {
+                    insert(new Node(userId, login, scoreDelta, simulationsDelta, randomLevel()));
+                }
+                return;
+            }
+            if (scoreDelta == 0 && (login == null || login.equals(atual.login))) {
+                // A posição não muda: só o contador de simulações.
+                atual.simulationsRun += simulationsDelta;
+                return;
+            }
+            delete(atual);
+            insert(new Node(userId, login != null ? login : atual.login, atual.score + scoreDelta,
+                    atual.simulationsRun + simulationsDelta, atual.next.length));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove um usuário do ranking.
+     *
+     * @param userId O ID do usuário.
+     * @post O usuário não está mais no índice; nada muda se ele não estava.
+     */
+    public void remove(Long userId) {
+        lock.writeLock().lock();
+        try {
+            Node atual = byUserId.get(userId);
+            if (atual != null) {
+                delete(atual);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Devolve um trecho do ranking.
+     *
+     * @param offset A posição (0-indexada) do primeiro usuário do trecho.
+     * @param limit Quantos usuários devolver, no máximo.
+     * @return Os usuários do trecho, em ordem de ranking, com apenas o ID, o
+     * login, a pontuação e o número de simulações preenchidos.
+     * @throws IllegalArgumentException Se offset ou limit forem negativos.
+     * @post Custa O(log n + limit).
+     */
+    public List<User> page(long offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("A posição e o tamanho do trecho não podem ser negativos.");
+        }
+        lock.readLock().lock();
+        try {
+            List<User> pagina = new ArrayList<>(Math.min(limit, size));
+            Node x = offset < size ? nodeAt(offset + 1) : null;
+            while (x != null && pagina.size() < limit) {
+                pagina.add(toUser(x));
+                x = x.next[0];
+            }
+            return pagina;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Devolve os usuários que vêm logo depois de uma posição do ranking,
+     * identificada pelo par (pontuação, login) do último usuário já visto.
+     *
+     * @param score A pontuação do último usuário visto.
+     * @param login O login do último usuário visto.
+     * @param limit Quantos usuários devolver, no máximo.
+     * @return Os usuários seguintes, em ordem de ranking, preenchidos como em
+     * page.
+     * @throws IllegalArgumentException Se o login for nulo ou o limit
+     * negativo.
+     * @post Custa O(log n + limit), qualquer que seja a profundidade do
+     * cursor; o par não precisa mais existir no índice.
+     */
+    public List<User> after(long score, String login, int limit) {
+        if (login == null || limit < 0) {
+            throw new IllegalArgumentException("O cursor precisa de login e o tamanho não pode ser negativo.");
+        }
+        lock.readLock().lock();
+        try {
+            Node x = head;
+            for (int i = level - 1; i >= 0; i--) {
+                while (x.next[i] != null && compareToKey(x.next[i], score, login) <= 0) {
+                    x = x.next[i];
+                }
+            }
+            List<User> pagina = new ArrayList<>(Math.min(limit, size));
+            for (x = x.next[0]; x != null && pagina.size() < limit; x = x.next[0]) {
+                pagina.add(toUser(x));
+            }
+            return pagina;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Quantos usuários estão no ranking.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Encontra o nó na posição 'rank' (1-indexada) somando os spans.
+    private Node nodeAt(long rank) {
+        long percorrido = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && percorrido + x.span[i] <= rank) {
+                percorrido += x.span[i];
+                x = x.next[i];
+            }
+            if (percorrido == rank) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    private void insert(Node node) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && compare(x.next[i], node) < 0) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nivel = node.next.length;
+        if (nivel > level) {
+            for (int i = level; i < nivel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nivel;
+        }
+        for (int i = 0; i < nivel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = nivel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        byUserId.put(node.userId, node);
+        size++;
+    }
+
+    private void delete(Node node) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], node) < 0) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == node) {
+                update[i].span[i] += node.span[i] - 1;
+                update[i].next[i] = node.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        byUserId.remove(node.userId);
+        size--;
+    }
+
+    // Pontuação maior primeiro; empate pelo login (ordem binária, ver o
+    // comentário da classe) e, por garantia, pelo ID.
+    private static int compare(Node a, Node b) {
+        int porPontuacao = Long.compare(b.score, a.score);
+        if (porPontuacao != 0) {
+            return porPontuacao;
+        }
+        int porLogin = a.login.compareTo(b.login);
+        return porLogin != 0 ? porLogin : Long.compare(a.userId, b.userId);
+    }
+
+    // Mesma ordem de compare, mas contra um par (pontuação, login) solto.
+    private static int compareToKey(Node a, long score, String login) {
+        int porPontuacao = Long.compare(score, a.score);
+        return porPontuacao != 0 ? porPontuacao : a.login.compareTo(login);
+    }
+
+    private static User toUser(Node x) {
+        return new User(x.userId, x.login, null, 0, (int) x.score, (int) x.simulationsRun);
+    }
+
+    private int randomLevel() {
+        int nivel = 1;
+        while (nivel < MAX_LEVEL && random.nextBoolean()) {
+            nivel++;
+        }
+        return nivel;
+    }
+
+    private static final class Node {
+
+        private final long userId;
+        private final String login;
+        private final long score;
+        private long simulationsRun;
+        private final Node[] next;
+        private final int[] span;
+
+        private Node(long userId, String login, long score, long simulationsRun, int level) {
+            this.userId = userId;
+            this.login = login;
+            this.score = score;
+            this.simulationsRun = simulationsRun;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+}
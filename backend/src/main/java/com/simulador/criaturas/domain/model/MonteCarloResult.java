@@ -0,0 +1,89 @@
+package com.simulador.criaturas.domain.model;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.simulador.criaturas.utils.SimulationStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado agregado de um lote de simulações completas (Monte Carlo) com o
+ * mesmo número de criaturas: a taxa de sucesso, o histograma da quantidade de
+ * turnos até o fim e a distribuição do ouro final do guardião.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MonteCarloResult {
+
+    /**
+     * Quantidade de faixas do histograma de ouro do guardião.
+     */
+    public static final int GOLD_BUCKETS = 20;
+
+    private int creatures;
+    private int runs;
+    private long successes;
+    private double successRate;
+
+    // Turnos até o fim -> quantidade de execuções.
+    private SortedMap<Integer, Long> turnsHistogram;
+
+    private double guardianGoldMin;
+    private double guardianGoldMean;
+    private double guardianGoldMax;
+
+    // GOLD_BUCKETS faixas de mesma largura entre o mínimo e o máximo; a
+    // última inclui o máximo.
+    private double guardianGoldBucketWidth;
+    private long[] guardianGoldHistogram;
+
+    /**
+     * Agrega os resultados individuais de um lote de simulações.
+     *
+     * @param creatures O número de criaturas de cada simulação.
+     * @param statuses O status final de cada execução.
+     * @param turns A quantidade de turnos de cada execução.
+     * @param guardianGold O ouro final do guardião em cada execução.
+     * @return O resultado agregado do lote.
+     * @throws IllegalArgumentException Se os vetores estiverem vazios ou
+     * tiverem tamanhos diferentes.
+     * @pre Os três vetores têm o mesmo tamanho, maior que zero.
+     * @post Nenhum dos vetores é modificado.
+     */
+    public static MonteCarloResult aggregate(int creatures, SimulationStatus[] statuses, int[] turns,
+            double[] guardianGold) {
+        int runs = statuses.length;
+        if (runs == 0 || turns.length != runs || guardianGold.length != runs) {
+            throw new IllegalArgumentException("Os resultados do lote são inconsistentes.");
+        }
+
+        long successes = 0;
+        SortedMap<Integer, Long> turnsHistogram = new TreeMap<>();
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        double sum = 0;
+        for (int i = 0; i < runs; i++) {
+            if (statuses[i] == SimulationStatus.SUCCESSFUL) {
+                successes++;
+            }
+            turnsHistogram.merge(turns[i], 1L, Long::sum);
+            min = Math.min(min, guardianGold[i]);
+            max = Math.max(max, guardianGold[i]);
+            sum += guardianGold[i];
+        }
+
+        double width = (max - min) / GOLD_BUCKETS;
+        long[] goldHistogram = new long[GOLD_BUCKETS];
+        for (int i = 0; i < runs; i++) {
+            int bucket = width == 0 ? 0 : (int) ((guardianGold[i] - min) / width);
+            goldHistogram[Math.min(bucket, GOLD_BUCKETS - 1)]++;
+        }
+
+        return new MonteCarloResult(creatures, runs, successes, (double) successes / runs, turnsHistogram,
+                min, sum / runs, max, width, goldHistogram);
+    }
+}
@@ -0,0 +1,124 @@
+package com.simulador.criaturas.domain.model;
+
+import com.simulador.criaturas.utils.JobStatus;
+
+import lombok.Getter;
+
+/**
+ * Representa uma simulação completa executada de forma assíncrona. O job é
+ * lido pelas threads das requisições enquanto a simulação roda em outra
+ * thread; por isso o estado é volátil e as transições são sincronizadas.
+ *
+ * As transições válidas são QUEUED -> RUNNING -> DONE | FAILED, e
+ * QUEUED | RUNNING -> CANCELLED. Um job terminado não muda mais de estado, e
+ * um job que já começou a gravar as estatísticas não pode mais ser cancelado.
+ */
+@Getter
+public class SimulationJob {
+
+    private final String id;
+    private final Long userId;
+    private final int numeroDeCriaturas;
+    private final long submittedAtMillis;
+
+    private volatile JobStatus status = JobStatus.QUEUED;
+    private volatile Horizon result;
+    private volatile String error;
+    private volatile long finishedAtMillis;
+    private boolean recording;
+
+    /**
+     * Cria um job na fila.
+     *
+     * @param id O identificador do job.
+     * @param userId O usuário que submeteu o job.
+     * @param numeroDeCriaturas O número de criaturas da simulação.
+     * @param submittedAtMillis O instante da submissão, em milissegundos.
+     * @post O job é criado com status QUEUED.
+     */
+    public SimulationJob(String id, Long userId, int numeroDeCriaturas, long submittedAtMillis) {
+        this.id = id;
+        this.userId = userId;
+        this.numeroDeCriaturas = numeroDeCriaturas;
+        this.submittedAtMillis = submittedAtMillis;
+    }
+
+    /**
+     * Marca o início da execução.
+     *
+     * @return 'true' se o job estava na fila; 'false' se já foi cancelado.
+     * @post Se retornar 'true', o status é RUNNING.
+     */
+    public synchronized boolean start() {
+        if (status != JobStatus.QUEUED) {
+            return false;
+        }
+        status = JobStatus.RUNNING;
+        return true;
+    }
+
+    /**
+     * Marca o início da gravação das estatísticas: a partir daqui o job só
+     * termina como DONE ou FAILED.
+     *
+     * @return 'true' se o job está em execução; 'false' se já foi cancelado,
+     * e nesse caso as estatísticas não devem ser gravadas.
+     * @post Se retornar 'true', cancel passa a devolver 'false'.
+     */
+    public synchronized boolean beginRecording() {
+        if (status != JobStatus.RUNNING) {
+            return false;
+        }
+        recording = true;
+        return true;
+    }
+
+    /**
+     * Registra o resultado da simulação.
+     *
+     * @param resultado O estado final do horizonte.
+     * @param nowMillis O instante do término, em milissegundos.
+     * @post Se o job estava em execução, o status é DONE.
+     */
+    public synchronized void complete(Horizon resultado, long nowMillis) {
+        if (status == JobStatus.RUNNING) {
+            this.result = resultado;
+            finish(JobStatus.DONE, nowMillis);
+        }
+    }
+
+    /**
+     * Registra o erro que encerrou a simulação.
+     *
+     * @param mensagem A mensagem do erro.
+     * @param nowMillis O instante do término, em milissegundos.
+     * @post Se o job estava em execução, o status é FAILED.
+     */
+    public synchronized void fail(String mensagem, long nowMillis) {
+        if (status == JobStatus.RUNNING) {
+            this.error = mensagem;
+            finish(JobStatus.FAILED, nowMillis);
+        }
+    }
+
+    /**
+     * Cancela o job, se ele ainda não terminou.
+     *
+     * @param nowMillis O instante do cancelamento, em milissegundos.
+     * @return 'true' se o job foi cancelado; 'false' se já havia terminado
+     * ou se já estava gravando as estatísticas.
+     * @post Se retornar 'true', o status é CANCELLED.
+     */
+    public synchronized boolean cancel(long nowMillis) {
+        if (status.isFinished() || recording) {
+            return false;
+        }
+        finish(JobStatus.CANCELLED, nowMillis);
+        return true;
+    }
+
+    private void finish(JobStatus finalStatus, long nowMillis) {
+        this.finishedAtMillis = nowMillis;
+        this.status = finalStatus;
+    }
+}
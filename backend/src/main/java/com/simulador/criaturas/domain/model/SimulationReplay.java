@@ -0,0 +1,26 @@
+package com.simulador.criaturas.domain.model;
+
+import com.simulador.criaturas.utils.SimulationStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Registro de uma simulação com semente. Como cada turno é determinado pela
+ * semente, pelo número de criaturas e pelo número do turno, isso basta para
+ * reconstruir o estado em qualquer turno, sem guardar os estados.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SimulationReplay {
+
+    private Long id;
+    private Long userId;
+    private int creatures;
+    private long seed;
+    // Último turno registrado e o status da simulação nele.
+    private int turns;
+    private SimulationStatus status;
+}
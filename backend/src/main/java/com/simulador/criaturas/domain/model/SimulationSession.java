@@ -0,0 +1,38 @@
+package com.simulador.criaturas.domain.model;
+
+import lombok.Getter;
+
+/**
+ * Representa uma simulação mantida no servidor entre as iterações. O cliente
+ * guarda apenas o id da sessão, em vez de reenviar o Horizon inteiro a cada
+ * turno.
+ *
+ * O Horizon da sessão é mutável e não é thread-safe: quem o altera deve
+ * sincronizar na própria sessão.
+ */
+@Getter
+public class SimulationSession {
+
+    private final String id;
+    private final Long userId;
+    private final Horizon horizon;
+
+    /**
+     * Cria uma sessão para um horizonte.
+     *
+     * @param id O identificador da sessão.
+     * @param userId O usuário dono da sessão.
+     * @param horizon O estado da simulação.
+     * @throws IllegalArgumentException Se algum parâmetro for nulo.
+     * @pre Nenhum parâmetro pode ser nulo.
+     * @post A sessão é criada com o horizonte informado.
+     */
+    public SimulationSession(String id, Long userId, Horizon horizon) {
+        if (id == null || userId == null || horizon == null) {
+            throw new IllegalArgumentException("Id, usuário e horizonte da sessão não podem ser nulos.");
+        }
+        this.id = id;
+        this.userId = userId;
+        this.horizon = horizon;
+    }
+}
@@ -0,0 +1,371 @@
+package com.simulador.criaturas.domain.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.simulador.criaturas.domain.behaviors.HorizonEntities;
+
+/*
+ * Índice espacial das entidades do horizonte, ordenado pela coordenada X.
+ *
+ * Guarda três vetores paralelos: a referência da entidade, a posição X em que
+ * ela foi indexada e a sua ordem de inserção no horizonte. Empates de X são
+ * desempatados pela ordem de inserção, o que permite devolver os resultados
+ * na mesma ordem da lista de entidades do Horizon.
+ *
+ * É um detalhe interno do Horizon: só ele sabe quando uma posição muda.
+ */
+final class SpatialIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private HorizonEntities[] refs = new HorizonEntities[INITIAL_CAPACITY];
+    private double[] keys = new double[INITIAL_CAPACITY];
+    private long[] orders = new long[INITIAL_CAPACITY];
+    private int size;
+    private long nextOrder;
+
+    // Vetores de trabalho reaproveitados entre consultas e reconstruções.
+    private int[] scratch = new int[INITIAL_CAPACITY];
+    private int[] sortBuffer = new int[INITIAL_CAPACITY];
+    private int[] permutation = new int[INITIAL_CAPACITY];
+    private double[] positions = new double[INITIAL_CAPACITY];
+
+    /**
+     * Reconstrói o índice a partir da lista de entidades do horizonte.
+     *
+     * @param entities a lista de entidades, na ordem do horizonte.
+     * @pre entities não pode ser nula nem conter elementos nulos.
+     * @post o índice contém todas as entidades, ordenadas por (X, ordem na
+     * lista), e a ordem de cada entidade é a sua posição na lista. Não aloca
+     * memória quando a capacidade já é suficiente.
+     */
+    void rebuild(List<HorizonEntities> entities) {
+        int n = entities.size();
+        ensureCapacity(n);
+        if (sortBuffer.length < n) {
+            sortBuffer = new int[refs.length];
+            permutation = new int[refs.length];
+            positions = new double[refs.length];
+        }
+
+        for (int i = 0; i < n; i++) {
+            permutation[i] = i;
+            positions[i] = entities.get(i).getX();
+        }
+        mergeSort(0, n);
+
+        Arrays.fill(refs, n, size > n ? size : n, null);
+        for (int i = 0; i < n; i++) {
+            int original = permutation[i];
+            refs[i] = entities.get(original);
+            keys[i] = positions[original];
+            orders[i] = original;
+        }
+        size = n;
+        nextOrder = n;
+    }
+
+    /**
+     * Insere uma entidade no fim da ordem do horizonte.
+     *
+     * @param entity a entidade recém-adicionada ao horizonte.
+     * @pre entity não pode ser nula.
+     * @post a entidade é indexada pela sua posição X atual.
+     */
+    void insert(HorizonEntities entity) {
+        ensureCapacity(size + 1);
+        double key = entity.getX();
+        // A ordem nova é a maior de todas, então fica depois dos empates.
+        int position = upperBound(key);
+        shiftRight(position);
+        refs[position] = entity;
+        keys[position] = key;
+        orders[position] = nextOrder++;
+        size++;
+    }
+
+    /**
+     * Remove exatamente a instância informada (comparação por referência).
+     *
+     * @param entity a entidade a remover.
+     * @return a ordem de inserção da entidade removida, ou -1 se ela não
+     * estava indexada.
+     * @post se a instância estava indexada, deixa de estar.
+     */
+    long remove(HorizonEntities entity) {
+        int position = locate(entity, entity.getX());
+        if (position < 0) {
+            return -1;
+        }
+        long order = orders[position];
+        removeAt(position);
+        return order;
+    }
+
+    /**
+     * Renumera as ordens de inserção depois de uma compactação da lista.
+     *
+     * @param newOrders a nova ordem de cada ordem antiga (as removidas não são
+     * consultadas).
+     * @param nextOrder a ordem a ser usada pela próxima inserção.
+     * @pre as ordens atuais são posições válidas em newOrders e a renumeração
+     * preserva a ordem relativa das entidades.
+     * @post a ordenação do índice não muda; só as ordens são trocadas. Custo
+     * O(n).
+     */
+    void remapOrders(int[] newOrders, int nextOrder) {
+        for (int i = 0; i < size; i++) {
+            orders[i] = newOrders[(int) orders[i]];
+        }
+        this.nextOrder = nextOrder;
+    }
+
+    /**
+     * Reposiciona uma entidade cuja coordenada X acabou de mudar.
+     *
+     * @param entity a entidade que se moveu.
+     * @param oldX a posição em que ela estava indexada.
+     * @post o índice volta a estar ordenado. O custo é proporcional ao número
+     * de entidades ultrapassadas no movimento.
+     */
+    void relocate(HorizonEntities entity, double oldX) {
+        int from = locate(entity, oldX);
+        if (from < 0) {
+            return;
+        }
+        double newKey = entity.getX();
+        long order = orders[from];
+
+        int to = from;
+        while (to > 0 && compare(keys[to - 1], orders[to - 1], newKey, order) > 0) {
+            to--;
+        }
+        while (to < size - 1 && compare(keys[to + 1], orders[to + 1], newKey, order) < 0) {
+            to++;
+        }
+
+        if (to < from) {
+            System.arraycopy(refs, to, refs, to + 1, from - to);
+            System.arraycopy(keys, to, keys, to + 1, from - to);
+            System.arraycopy(orders, to, orders, to + 1, from - to);
+        } else if (to > from) {
+            System.arraycopy(refs, from + 1, refs, from, to - from);
+            System.arraycopy(keys, from + 1, keys, from, to - from);
+            System.arraycopy(orders, from + 1, orders, from, to - from);
+        }
+        refs[to] = entity;
+        keys[to] = newKey;
+        orders[to] = order;
+    }
+
+    /**
+     * Coleta as entidades com |X - centerPosition| <= range, na ordem da lista
+     * do horizonte.
+     *
+     * @param centerPosition a posição central da busca.
+     * @param range a distância máxima ao centro.
+     * @param out a lista que recebe os resultados.
+     * @post out recebe as k entidades da faixa. Custo O(log n + k log k).
+     */
+    void collectWithinRange(double centerPosition, double range, List<HorizonEntities> out) {
+        // Usa a busca binária só para achar o ponto de partida; o critério
+        // de pertinência é o mesmo da varredura linear, para não mudar
+        // resultados por arredondamento em (centro - faixa).
+        int start = lowerBound(centerPosition - range);
+        while (start > 0 && Math.abs(keys[start - 1] - centerPosition) <= range) {
+            start--;
+        }
+
+        int found = 0;
+        for (int i = start; i < size; i++) {
+            if (Math.abs(keys[i] - centerPosition) <= range) {
+                if (found == scratch.length) {
+                    scratch = Arrays.copyOf(scratch, found * 2);
+                }
+                scratch[found++] = i;
+            } else if (keys[i] > centerPosition) {
+                break;
+            }
+        }
+
+        // Ordena os achados pela ordem de inserção (k costuma ser pequeno).
+        for (int i = 1; i < found; i++) {
+            int current = scratch[i];
+            int j = i - 1;
+            while (j >= 0 && orders[scratch[j]] > orders[current]) {
+                scratch[j + 1] = scratch[j];
+                j--;
+            }
+            scratch[j + 1] = current;
+        }
+        for (int i = 0; i < found; i++) {
+            out.add(refs[scratch[i]]);
+        }
+    }
+
+    /**
+     * Verifica se exatamente a instância informada está indexada.
+     *
+     * @param entity a entidade procurada.
+     * @return true se a própria instância (não uma igual) estiver no índice.
+     */
+    boolean containsReference(HorizonEntities entity) {
+        return locate(entity, entity.getX()) >= 0;
+    }
+
+    /**
+     * Encontra a entidade mais próxima da referência, sem alocar memória.
+     *
+     * Reproduz a busca linear original: a primeira entidade (na ordem da
+     * lista) igual à referência é desconsiderada e, entre as que estão à
+     * menor distância, vence a que aparece primeiro na lista.
+     *
+     * @param reference a entidade a partir da qual a busca é feita.
+     * @return a vizinha mais próxima, ou null se não houver candidatas.
+     * @pre entidades iguais (equals) à referência estão na mesma posição X.
+     */
+    HorizonEntities nearestTo(HorizonEntities reference) {
+        double center = reference.getX();
+        int pivot = lowerBound(center);
+
+        int excluded = -1;
+        for (int i = pivot; i < size && keys[i] == center; i++) {
+            if (reference.equals(refs[i]) && (excluded < 0 || orders[i] < orders[excluded])) {
+                excluded = i;
+            }
+        }
+
+        int left = pivot - 1;
+        int right = pivot == excluded ? pivot + 1 : pivot;
+        double leftDistance = left >= 0 ? Math.abs(center - keys[left]) : Double.POSITIVE_INFINITY;
+        double rightDistance = right < size ? Math.abs(center - keys[right]) : Double.POSITIVE_INFINITY;
+        double minDistance = Math.min(leftDistance, rightDistance);
+        if (minDistance == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+
+        // Entre os empates de distância (dos dois lados), vence a menor ordem.
+        int best = -1;
+        for (int i = left; i >= 0 && Math.abs(center - keys[i]) == minDistance; i--) {
+            if (best < 0 || orders[i] < orders[best]) {
+                best = i;
+            }
+        }
+        for (int i = right; i < size && Math.abs(center - keys[i]) == minDistance; i++) {
+            if (i != excluded && (best < 0 || orders[i] < orders[best])) {
+                best = i;
+            }
+        }
+        return refs[best];
+    }
+
+    int size() {
+        return size;
+    }
+
+    // --- AUXILIARES ---
+    private int locate(HorizonEntities entity, double key) {
+        for (int i = lowerBound(key); i < size && keys[i] == key; i++) {
+            if (refs[i] == entity) {
+                return i;
+            }
+        }
+        // A posição indexada não bate (alteração feita por fora do Horizon):
+        // cai para a busca linear por referência.
+        for (int i = 0; i < size; i++) {
+            if (refs[i] == entity) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int lowerBound(double key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(double key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(double keyA, long orderA, double keyB, long orderB) {
+        if (keyA != keyB) {
+            return keyA < keyB ? -1 : 1;
+        }
+        return Long.compare(orderA, orderB);
+    }
+
+    private void removeAt(int position) {
+        int moved = size - position - 1;
+        if (moved > 0) {
+            System.arraycopy(refs, position + 1, refs, position, moved);
+            System.arraycopy(keys, position + 1, keys, position, moved);
+            System.arraycopy(orders, position + 1, orders, position, moved);
+        }
+        size--;
+        refs[size] = null;
+    }
+
+    private void shiftRight(int position) {
+        int moved = size - position;
+        if (moved > 0) {
+            System.arraycopy(refs, position, refs, position + 1, moved);
+            System.arraycopy(keys, position, keys, position + 1, moved);
+            System.arraycopy(orders, position, orders, position + 1, moved);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= refs.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, refs.length * 2);
+        refs = Arrays.copyOf(refs, newCapacity);
+        keys = Arrays.copyOf(keys, newCapacity);
+        orders = Arrays.copyOf(orders, newCapacity);
+    }
+
+    // Merge sort estável de índices por posição: empates mantêm a ordem da lista.
+    private void mergeSort(int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(from, mid);
+        mergeSort(mid, to);
+        if (positions[permutation[mid - 1]] <= positions[permutation[mid]]) {
+            return;
+        }
+        System.arraycopy(permutation, from, sortBuffer, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && positions[sortBuffer[left]] <= positions[sortBuffer[right]])) {
+                permutation[i] = sortBuffer[left++];
+            } else {
+                permutation[i] = sortBuffer[right++];
+            }
+        }
+    }
+}
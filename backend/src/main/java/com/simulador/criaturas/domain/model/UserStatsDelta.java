@@ -0,0 +1,19 @@
+package com.simulador.criaturas.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Incrementos acumulados das estatísticas de um usuário, ainda não gravados:
+ * quantas simulações ele terminou e quantas delas com sucesso.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserStatsDelta {
+
+    private Long userId;
+    private long simulationsRun;
+    private long pontuation;
+}
@@ -0,0 +1,63 @@
+package com.simulador.criaturas.domain.port.in;
+
+import com.simulador.criaturas.domain.model.CompactHorizon;
+
+/**
+ * Porta de Entrada para o modo de simulação grande, usado em cenários de
+ * estresse com muito mais criaturas do que o jogo normal permite.
+ */
+public interface LargeSimulationUseCase {
+
+    /**
+     * Cria e executa uma simulação grande, do início ao fim.
+     *
+     * @param numeroDeCriaturas O número de criaturas da simulação.
+     * @return O estado final do horizonte compacto.
+     * @throws IllegalArgumentException Se o número de criaturas estiver fora
+     * dos limites configurados para o modo grande.
+     * @pre O número de criaturas deve estar dentro dos limites configurados
+     * (simulation.large.min-creatures e simulation.large.max-creatures).
+     * @post A simulação é executada até terminar ou até atingir o limite de
+     * turnos configurado. As estatísticas dos usuários não são alteradas.
+     */
+    CompactHorizon runLargeSimulation(int numeroDeCriaturas);
+
+    /**
+     * Igual a runLargeSimulation, mas grava um checkpoint a cada
+     * simulation.large.checkpoint-interval turnos, para retomar a simulação
+     * com resumeLargeSimulation se o servidor cair.
+     *
+     * @param numeroDeCriaturas O número de criaturas da simulação.
+     * @param checkpointId O id do checkpoint (1 a 64 letras, dígitos, '-' ou
+     * '_'), único entre os checkpoints do usuário.
+     * @param userId O ID do usuário dono do checkpoint.
+     * @return O estado final do horizonte compacto.
+     * @throws IllegalArgumentException Se o número de criaturas estiver fora
+     * dos limites, o id for inválido ou o userId for nulo.
+     * @throws IllegalStateException Se outra execução do mesmo usuário já
+     * estiver usando esse id.
+     * @pre O número de criaturas deve estar dentro dos limites configurados.
+     * @post Os checkpoints são gravados fora da thread que executa os turnos,
+     * em um espaço de ids separado por usuário. Quando a simulação termina, o
+     * checkpoint é removido.
+     */
+    CompactHorizon runLargeSimulation(int numeroDeCriaturas, String checkpointId, Long userId);
+
+    /**
+     * Retoma uma simulação grande a partir do último checkpoint gravado.
+     *
+     * @param checkpointId O id usado em runLargeSimulation.
+     * @param userId O ID do usuário que gravou o checkpoint.
+     * @return O estado final do horizonte compacto.
+     * @throws java.util.NoSuchElementException Se o usuário não tiver
+     * checkpoint com esse id.
+     * @throws IllegalArgumentException Se o id for inválido ou o userId for
+     * nulo.
+     * @throws IllegalStateException Se outra execução do mesmo usuário já
+     * estiver usando esse id.
+     * @pre Nenhuma.
+     * @post A simulação continua do turno gravado, com os mesmos checkpoints
+     * e o mesmo limite de turnos de runLargeSimulation.
+     */
+    CompactHorizon resumeLargeSimulation(String checkpointId, Long userId);
+}
@@ -1,6 +1,10 @@
 package com.simulador.criaturas.domain.port.in;
 
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
 import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.model.MonteCarloResult;
 
 /**
  * Porta de Entrada que define os Casos de Uso para manipular a simulação.
@@ -21,6 +25,20 @@ public interface SimulacaoUseCase {
      */
     Horizon initNewSimulation(int numeroDeCriaturas);
 
+    /**
+     * Inicia uma nova simulação a partir de uma semente conhecida, para
+     * reproduzir uma simulação anterior.
+     *
+     * @param numeroDeCriaturas O número de criaturas para iniciar a simulação.
+     * @param seed A semente devolvida junto com o Horizonte original.
+     * @return O estado inicial do Horizonte, com a semente informada.
+     * @throws IllegalArgumentException Se o número de criaturas for inválido.
+     * @pre O número de criaturas deve estar no intervalo [1,10].
+     * @post Iterar o Horizonte retornado produz os mesmos turnos que iterar o
+     * Horizonte criado com a mesma semente.
+     */
+    Horizon initNewSimulation(int numeroDeCriaturas, long seed);
+
     /**
      * Executa um único turno (iteração) da simulação a partir de um estado
      * existente.
@@ -44,6 +62,48 @@ public interface SimulacaoUseCase {
      */
     Horizon runNextSimulation(Horizon estadoAtual, Long userId);
 
+    /**
+     * Igual a runNextSimulation, para um horizonte mantido pelo servidor
+     * (sessão, transmissão ou WebSocket). Como a semente e o turno nunca
+     * vieram do cliente, a simulação, se tiver semente, pode ser registrada
+     * para replay quando terminar.
+     *
+     * @param estadoAtual O estado atual da simulação, guardado no servidor
+     * desde a criação.
+     * @param userId O ID do usuário que está executando a simulação.
+     * @param registrarReplay Se a simulação deve ser registrada para replay
+     * ao terminar.
+     * @return O objeto Horizon com o estado atualizado.
+     * @throws IllegalArgumentException Nos mesmos casos de runNextSimulation.
+     * @throws IllegalStateException Nos mesmos casos de runNextSimulation.
+     * @pre As mesmas de runNextSimulation.
+     * @post Como em runNextSimulation. Se a simulação terminar neste turno, o
+     * replay é gravado antes das estatísticas do usuário.
+     */
+    Horizon runNextSimulation(Horizon estadoAtual, Long userId, boolean registrarReplay);
+
+    /**
+     * Executa até 'passos' turnos de uma vez a partir de um estado existente,
+     * entregando a cada 'amostragem' turnos o estado intermediário.
+     *
+     * @param estadoAtual O estado atual da simulação, atualizado a cada turno.
+     * @param userId O ID do usuário que está executando a simulação.
+     * @param passos A quantidade máxima de turnos a executar.
+     * @param amostragem O intervalo, em turnos, entre os quadros entregues.
+     * @param quadros Recebe os estados intermediários amostrados (o estado
+     * final não é entregue a ele). Deve copiar o que quiser guardar, pois o
+     * mesmo Horizon continua sendo alterado.
+     * @return O estado após o último turno executado.
+     * @throws IllegalArgumentException Se 'userId' for nulo, se 'passos' estiver
+     * fora de [1, MAX_ITERACOES] ou se 'amostragem' não for positiva.
+     * @throws IllegalStateException Se a simulação já tiver terminado.
+     * @pre O 'estadoAtual' deve representar uma simulação em andamento.
+     * @post A execução para antes de 'passos' turnos se o status deixar de ser
+     * RUNNING; nesse caso as estatísticas do usuário são atualizadas uma única
+     * vez.
+     */
+    Horizon runSteps(Horizon estadoAtual, Long userId, int passos, int amostragem, Consumer<Horizon> quadros);
+
     /**
      * Cria e executa uma simulação completa, do início ao fim, para um usuário.
      *
@@ -57,7 +117,44 @@ public interface SimulacaoUseCase {
      * 'userId' deve corresponder a um usuário existente.
      * @post Uma simulação completa é executada até que uma condição de término
      * seja atingida. As estatísticas do usuário (pontuação, simulações) são
-     * atualizadas. O objeto retornado representa o estado final da simulação.
+     * atualizadas e a simulação, se tiver semente, é registrada para replay
+     * antes delas. O objeto retornado representa o estado final da simulação.
      */
     Horizon runFullSimulation(int numeroDeCriaturas, Long userId);
+
+    /**
+     * Igual a runFullSimulation, mas consulta quem chamou antes de gravar as
+     * estatísticas, para que um cancelamento não chegue depois da gravação.
+     *
+     * @param numeroDeCriaturas O número de criaturas para iniciar a simulação.
+     * @param userId O ID do usuário que está executando a simulação.
+     * @param antesDeGravar Chamado uma vez, depois do último turno; 'false'
+     * cancela a simulação sem gravar.
+     * @return O estado final do Horizonte.
+     * @throws IllegalArgumentException Nos mesmos casos de runFullSimulation.
+     * @throws java.util.concurrent.CancellationException Se a thread for
+     * interrompida durante os turnos ou se antesDeGravar devolver 'false'.
+     * @pre As mesmas de runFullSimulation.
+     * @post As estatísticas do usuário e o replay só são gravados se
+     * antesDeGravar devolver 'true'.
+     */
+    Horizon runFullSimulation(int numeroDeCriaturas, Long userId, BooleanSupplier antesDeGravar);
+
+    /**
+     * Executa um lote de simulações completas independentes (Monte Carlo) e
+     * agrega os resultados, para estimar a probabilidade de sucesso de um
+     * número de criaturas.
+     *
+     * @param numeroDeCriaturas O número de criaturas de cada simulação.
+     * @param execucoes A quantidade de simulações do lote.
+     * @return O resultado agregado: taxa de sucesso, histograma de turnos e
+     * distribuição do ouro final do guardião.
+     * @throws IllegalArgumentException Se o 'numeroDeCriaturas' for inválido ou
+     * se 'execucoes' não for positivo.
+     * @pre O 'numeroDeCriaturas' deve estar no intervalo [1,10] e 'execucoes'
+     * deve ser maior que zero.
+     * @post As simulações do lote são executadas em paralelo. Nenhuma
+     * estatística de usuário é alterada.
+     */
+    MonteCarloResult runMonteCarlo(int numeroDeCriaturas, int execucoes);
 }
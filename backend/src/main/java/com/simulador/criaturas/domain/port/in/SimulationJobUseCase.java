@@ -0,0 +1,68 @@
+package com.simulador.criaturas.domain.port.in;
+
+import com.simulador.criaturas.domain.model.SimulationJob;
+
+/**
+ * Porta de Entrada para executar simulações completas de forma assíncrona:
+ * o cliente submete o job, recebe o seu id e depois consulta ou aguarda o
+ * resultado, sem ocupar uma thread de requisição durante a simulação.
+ */
+public interface SimulationJobUseCase {
+
+    /**
+     * Submete uma simulação completa para execução assíncrona.
+     *
+     * @param numeroDeCriaturas O número de criaturas da simulação.
+     * @param userId O ID do usuário que receberá as estatísticas.
+     * @return O job criado, com status QUEUED ou já em execução.
+     * @throws IllegalArgumentException Se o 'userId' for nulo.
+     * @throws IllegalStateException Se a fila de jobs estiver cheia.
+     * @pre O 'numeroDeCriaturas' deve estar no intervalo [1,10].
+     * @post A simulação é executada como em runFullSimulation, inclusive a
+     * atualização das estatísticas do usuário ao final.
+     */
+    SimulationJob submitFullSimulation(int numeroDeCriaturas, Long userId);
+
+    /**
+     * Consulta um job.
+     *
+     * @param jobId O ID do job.
+     * @param userId O ID do usuário que submeteu o job.
+     * @return O job, no estado atual.
+     * @throws java.util.NoSuchElementException Se o job não existir, tiver
+     * expirado ou pertencer a outro usuário.
+     * @pre Nenhuma.
+     * @post Nenhuma alteração é feita no job.
+     */
+    SimulationJob getJob(String jobId, Long userId);
+
+    /**
+     * Aguarda o término de um job por no máximo 'timeoutMillis'.
+     *
+     * @param jobId O ID do job.
+     * @param userId O ID do usuário que submeteu o job.
+     * @param timeoutMillis O tempo máximo de espera, em milissegundos.
+     * @return O job, terminado ou no estado em que estava ao fim da espera.
+     * @throws java.util.NoSuchElementException Se o job não existir, tiver
+     * expirado ou pertencer a outro usuário.
+     * @pre timeoutMillis >= 0.
+     * @post Nenhuma alteração é feita no job.
+     */
+    SimulationJob awaitJob(String jobId, Long userId, long timeoutMillis);
+
+    /**
+     * Cancela um job que ainda não terminou, interrompendo a simulação.
+     *
+     * @param jobId O ID do job.
+     * @param userId O ID do usuário que submeteu o job.
+     * @return O job, no estado após o cancelamento.
+     * @throws java.util.NoSuchElementException Se o job não existir, tiver
+     * expirado ou pertencer a outro usuário.
+     * @pre Nenhuma.
+     * @post Se o job não tinha terminado nem começado a gravar as
+     * estatísticas, o status é CANCELLED e as estatísticas do usuário não são
+     * alteradas por ele. Se a gravação já começou, o job segue até DONE (ou
+     * FAILED) e é devolvido como está.
+     */
+    SimulationJob cancelJob(String jobId, Long userId);
+}
@@ -0,0 +1,76 @@
+package com.simulador.criaturas.domain.port.in;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.model.SimulationReplay;
+
+/**
+ * Porta de Entrada para o replay de simulações com semente: em vez dos estados
+ * de cada turno, guarda só a semente, o número de criaturas e o último turno,
+ * e reconstrói o estado de qualquer turno sob demanda.
+ */
+public interface SimulationReplayUseCase {
+
+    /**
+     * Registra uma simulação com semente para replay.
+     *
+     * @param numeroDeCriaturas O número de criaturas da simulação.
+     * @param seed A semente da simulação.
+     * @param turnos O último turno a registrar.
+     * @param userId O ID do usuário dono do registro.
+     * @return O registro salvo, com o status da simulação no turno 'turnos'.
+     * @throws IllegalArgumentException Se o número de criaturas for inválido,
+     * se 'userId' for nulo, se 'turnos' for negativo ou se a simulação terminar
+     * antes do turno 'turnos'.
+     * @pre O número de criaturas deve estar no intervalo [1,10].
+     * @post As estatísticas do usuário não são alteradas.
+     */
+    SimulationReplay record(int numeroDeCriaturas, long seed, int turnos, Long userId);
+
+    /**
+     * Registra para replay uma simulação com semente que acabou de terminar,
+     * sem reexecutá-la.
+     *
+     * @param horizonte O estado final da simulação.
+     * @param userId O ID do usuário dono do registro.
+     * @return O registro salvo, com o turno e o status de 'horizonte', ou vazio
+     * se a simulação não tiver semente, passar do limite de turnos do replay
+     * ou tiver um guardião que não indique um número de criaturas válido.
+     * @throws IllegalArgumentException Se 'userId' for nulo.
+     * @pre 'horizonte' foi criado no servidor por
+     * Simulation.createNewSimulation e só avançou por runIteration; o guardião
+     * tem o ID dado na criação, o número inicial de criaturas mais um.
+     * @post As estatísticas do usuário não são alteradas.
+     */
+    Optional<SimulationReplay> recordFinished(Horizon horizonte, Long userId);
+
+    /**
+     * Lista os registros mais recentes de um usuário.
+     *
+     * @param userId O ID do usuário.
+     * @param limite Quantos registros devolver, no máximo.
+     * @return Os registros do usuário, do mais recente para o mais antigo.
+     * @throws IllegalArgumentException Se 'limite' não for positivo.
+     * @pre Nenhuma.
+     * @post Nenhum registro é alterado.
+     */
+    List<SimulationReplay> listLatest(Long userId, int limite);
+
+    /**
+     * Reconstrói o estado de uma simulação registrada em um turno.
+     *
+     * @param replayId O ID do registro.
+     * @param userId O ID do usuário dono do registro.
+     * @param turno O turno desejado.
+     * @return Um novo Horizonte no estado do turno 'turno'.
+     * @throws java.util.NoSuchElementException Se o registro não existir ou
+     * pertencer a outro usuário.
+     * @throws IllegalArgumentException Se 'turno' estiver fora de [0, turnos].
+     * @pre Nenhuma.
+     * @post O estado é idêntico ao da simulação original nesse turno; as
+     * estatísticas do usuário não são alteradas.
+     */
+    Horizon stateAt(Long replayId, Long userId, int turno);
+}
@@ -0,0 +1,87 @@
+package com.simulador.criaturas.domain.port.in;
+
+import com.simulador.criaturas.domain.model.HorizonDelta;
+import com.simulador.criaturas.domain.model.SimulationSession;
+
+/**
+ * Porta de Entrada para simulações mantidas no servidor: o estado fica em uma
+ * sessão e cada iteração só precisa do id dela.
+ */
+public interface SimulationSessionUseCase {
+
+    /**
+     * Inicia uma simulação e a guarda em uma nova sessão.
+     *
+     * @param numeroDeCriaturas O número de criaturas para iniciar a simulação.
+     * @param seed A semente para reproduzir uma simulação anterior, ou nula
+     * para uma semente nova.
+     * @param userId O ID do usuário dono da sessão.
+     * @return A sessão criada, com o estado inicial do Horizonte.
+     * @throws IllegalArgumentException Se o número de criaturas for inválido
+     * ou o 'userId' for nulo.
+     * @pre O número de criaturas deve estar no intervalo [1,10].
+     * @post A sessão fica disponível até ser encerrada ou expirar.
+     */
+    SimulationSession startSession(int numeroDeCriaturas, Long seed, Long userId);
+
+    /**
+     * Executa um turno da simulação de uma sessão.
+     *
+     * @param sessionId O ID da sessão.
+     * @param userId O ID do usuário dono da sessão.
+     * @return A sessão, com o Horizonte avançado em um turno.
+     * @throws java.util.NoSuchElementException Se a sessão não existir, tiver
+     * expirado ou pertencer a outro usuário.
+     * @throws IllegalStateException Se a simulação da sessão já terminou.
+     * @pre Nenhuma.
+     * @post O turno é executado como em runNextSimulation, inclusive a
+     * atualização das estatísticas do usuário quando a simulação termina; o
+     * horizonte é do servidor, então a simulação também é registrada para
+     * replay.
+     */
+    SimulationSession iterateSession(String sessionId, Long userId);
+
+    /**
+     * Executa um turno da simulação de uma sessão e devolve só o que mudou.
+     *
+     * @param sessionId O ID da sessão.
+     * @param userId O ID do usuário dono da sessão.
+     * @param turnoDoCliente O último turno que o cliente tem aplicado.
+     * @return O delta do turno 'turnoDoCliente' para o novo turno, ou um delta
+     * de ressincronização (estado completo do turno atual) se o cliente estiver
+     * em outro turno que não o atual da sessão.
+     * @throws java.util.NoSuchElementException Se a sessão não existir, tiver
+     * expirado ou pertencer a outro usuário.
+     * @throws IllegalStateException Se o cliente estiver no turno atual e a
+     * simulação da sessão já tiver terminado.
+     * @pre Nenhuma.
+     * @post Se o cliente estiver no turno atual, o turno é executado como em
+     * iterateSession; senão, nada é executado e a sessão não muda.
+     */
+    HorizonDelta iterateSessionDelta(String sessionId, Long userId, int turnoDoCliente);
+
+    /**
+     * Consulta uma sessão.
+     *
+     * @param sessionId O ID da sessão.
+     * @param userId O ID do usuário dono da sessão.
+     * @return A sessão, no estado atual.
+     * @throws java.util.NoSuchElementException Se a sessão não existir, tiver
+     * expirado ou pertencer a outro usuário.
+     * @pre Nenhuma.
+     * @post O prazo de expiração da sessão é renovado.
+     */
+    SimulationSession getSession(String sessionId, Long userId);
+
+    /**
+     * Encerra uma sessão, liberando a memória.
+     *
+     * @param sessionId O ID da sessão.
+     * @param userId O ID do usuário dono da sessão.
+     * @throws java.util.NoSuchElementException Se a sessão não existir, tiver
+     * expirado ou pertencer a outro usuário.
+     * @pre Nenhuma.
+     * @post A sessão deixa de existir.
+     */
+    void closeSession(String sessionId, Long userId);
+}
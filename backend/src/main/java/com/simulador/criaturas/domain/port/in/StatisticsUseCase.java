@@ -3,6 +3,7 @@ package com.simulador.criaturas.domain.port.in;
 import org.springframework.data.domain.Pageable;
 
 import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.GlobalStatisticsDTO;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.RankingPageDTO;
 
 public interface StatisticsUseCase {
 
@@ -12,4 +13,19 @@ public interface StatisticsUseCase {
      * @return um DTO contendo as estatísticas agregadas.
      */
     GlobalStatisticsDTO getGlobalStatistics(Pageable pageable);
+
+    /**
+     * Retorna um trecho do ranking de usuários a partir de um cursor, sem
+     * calcular o total de páginas: o custo não cresce com a profundidade.
+     *
+     * @param afterScore A pontuação do último usuário já visto, ou nula para
+     * começar do topo.
+     * @param afterLogin O login do último usuário já visto, ou nulo para
+     * começar do topo.
+     * @param size Quantos usuários devolver, entre 1 e 100.
+     * @return Os usuários do trecho e o cursor do trecho seguinte.
+     * @throws IllegalArgumentException Se só um dos campos do cursor for
+     * informado ou se o tamanho estiver fora do intervalo.
+     */
+    RankingPageDTO getRankingAfter(Integer afterScore, String afterLogin, int size);
 }
@@ -98,4 +98,21 @@ public interface UserUseCase {
      * incrementado.
      */
     void incrementSimulationsRun(Long userId);
+
+    /**
+     * Registra o fim de uma simulação do usuário: incrementa o número de
+     * simulações executadas e, se ela terminou com sucesso, a pontuação, numa
+     * única operação atômica.
+     *
+     * @param userId O ID do usuário.
+     * @param wasSuccessful 'true' se a simulação terminou com sucesso.
+     * @return Nenhum retorno.
+     * @throws IllegalArgumentException Se o ID do usuário for nulo ou não
+     * corresponder a um usuário existente.
+     * @pre O ID do usuário não pode ser nulo e deve corresponder a um usuário
+     * existente no sistema.
+     * @post O contador de simulações é incrementado em 1 e a pontuação em 1 se
+     * 'wasSuccessful' for verdadeiro, sem perder incrementos concorrentes.
+     */
+    void recordSimulationResult(Long userId, boolean wasSuccessful);
 }
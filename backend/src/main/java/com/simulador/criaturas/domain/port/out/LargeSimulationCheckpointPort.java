@@ -0,0 +1,33 @@
+package com.simulador.criaturas.domain.port.out;
+
+import java.util.Optional;
+
+import com.simulador.criaturas.domain.model.CompactHorizon;
+
+/*
+ * Checkpoints de simulações grandes, para retomá-las depois de uma queda ou
+ * reinício do servidor. Um checkpoint é identificado por um id escolhido por
+ * quem executa a simulação e guarda só o último estado gravado.
+ */
+public interface LargeSimulationCheckpointPort {
+
+    /**
+     * Agenda a gravação de um checkpoint. O estado é copiado na hora e gravado
+     * fora da thread chamadora; se a gravação anterior do mesmo id ainda não
+     * terminou, este checkpoint é descartado.
+     *
+     * @return true se a gravação foi agendada.
+     */
+    boolean offer(String checkpointId, CompactHorizon horizonte);
+
+    /**
+     * Lê o último checkpoint gravado por completo, esperando uma gravação em
+     * andamento terminar.
+     */
+    Optional<CompactHorizon> load(String checkpointId);
+
+    /**
+     * Remove o checkpoint, depois que uma gravação em andamento terminar.
+     */
+    void delete(String checkpointId);
+}
@@ -2,4 +2,21 @@ package com.simulador.criaturas.domain.port.out;
 
 public interface RandomPort {
     double nextFactor();
+
+    /**
+     * Sorteia vários fatores de uma vez, com a mesma distribuição de
+     * nextFactor.
+     *
+     * @param out O vetor que recebe os fatores.
+     * @param n A quantidade de fatores a sortear.
+     * @pre 0 <= n <= out.length.
+     * @post out[0..n) contém n fatores novos; o restante do vetor não é
+     * alterado. Esta implementação padrão chama nextFactor n vezes; os
+     * adaptadores a sobrescrevem com um laço direto sobre o gerador.
+     */
+    default void fill(double[] out, int n) {
+        for (int i = 0; i < n; i++) {
+            out[i] = nextFactor();
+        }
+    }
 }
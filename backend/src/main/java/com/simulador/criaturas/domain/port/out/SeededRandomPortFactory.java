@@ -0,0 +1,32 @@
+package com.simulador.criaturas.domain.port.out;
+
+/*
+ * SeededRandomPortFactory.java
+ *
+ * Essa interface define como o domínio obtém geradores de aleatoriedade
+ * próprios de cada simulação. Cada simulação recebe uma semente e, a cada
+ * turno, um RandomPort derivado de (semente, turno): o gerador não é
+ * compartilhado entre threads e a mesma semente reproduz a mesma simulação,
+ * mesmo quando o estado vai e volta pelo cliente entre os turnos.
+ */
+public interface SeededRandomPortFactory {
+
+    /**
+     * Sorteia a semente de uma nova simulação.
+     *
+     * @return Uma semente nova.
+     */
+    long newSeed();
+
+    /**
+     * Cria o gerador de um turno de uma simulação.
+     *
+     * @param seed A semente da simulação.
+     * @param turn O número do turno, a partir de 0.
+     * @return Um RandomPort de uso exclusivo da thread chamadora.
+     * @pre turn >= 0.
+     * @post Chamadas com a mesma semente e o mesmo turno produzem a mesma
+     * sequência de fatores.
+     */
+    RandomPort forTurn(long seed, int turn);
+}
@@ -0,0 +1,19 @@
+package com.simulador.criaturas.domain.port.out;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.simulador.criaturas.domain.model.SimulationReplay;
+
+/*
+ * Persistência dos registros de replay: só a semente, o número de criaturas e
+ * o último turno de cada simulação.
+ */
+public interface SimulationReplayRepositoryPort {
+
+    SimulationReplay save(SimulationReplay replay);
+
+    Optional<SimulationReplay> findById(Long id);
+
+    List<SimulationReplay> findLatestByUserId(Long userId, int limit);
+}
@@ -0,0 +1,21 @@
+package com.simulador.criaturas.domain.port.out;
+
+import java.util.Optional;
+
+import com.simulador.criaturas.domain.model.SimulationSession;
+
+/*
+ * SimulationSessionPort.java
+ *
+ * Essa interface define onde o domínio guarda as simulações em andamento
+ * entre as iterações. O armazenamento pode descartar sessões (por tempo
+ * ocioso ou por limite de tamanho); quem consulta deve tratar a ausência.
+ */
+public interface SimulationSessionPort {
+
+    void save(SimulationSession session);
+
+    Optional<SimulationSession> findById(String id);
+
+    void deleteById(String id);
+}
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import com.simulador.criaturas.domain.model.User;
+import com.simulador.criaturas.domain.model.UserStatsDelta;
 
 /*
  * UserRepositoryPort.java
@@ -29,6 +30,10 @@ public interface UserRepositoryPort {
 
     void update(User user);
 
+    boolean recordSimulationResult(Long id, int scoreDelta);
+
+    void recordSimulationResults(List<UserStatsDelta> deltas);
+
     boolean existsByLogin(String login);
 
     boolean existsById(Long id);
@@ -37,6 +42,14 @@ public interface UserRepositoryPort {
 
     Page<User> findAll(Pageable pageable);
 
+    // Ranking por pontuação (desc) e login (asc); a ordenação do pageable é
+    // ignorada. Os usuários trazem só ID, login, pontuação e simulações.
+    Page<User> findRankingPage(Pageable pageable);
+
+    // Mesmo ranking, a partir do par (pontuação, login) do último usuário
+    // visto (nulos para o topo), sem contar o total.
+    List<User> findRankingAfter(Integer afterScore, String afterLogin, int limit);
+
     long countTotalSimulations();
 
     long countTotalSuccesses();
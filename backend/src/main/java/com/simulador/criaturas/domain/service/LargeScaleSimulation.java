@@ -0,0 +1,258 @@
+package com.simulador.criaturas.domain.service;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+import com.simulador.criaturas.domain.model.CompactHorizon;
+import com.simulador.criaturas.domain.model.Guardian;
+import com.simulador.criaturas.domain.port.out.RandomPort;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+/*
+ * Motor de simulação para horizontes grandes (de centenas de milhares a milhões
+ * de criaturas), separado do fluxo de jogo de 1 a 10 criaturas.
+ *
+ * Trabalha sobre o CompactHorizon e processa o turno em fases, cada uma em lote:
+ * 1. todas as entidades se movem;
+ * 2. as entidades são ordenadas por X;
+ * 3. os grupos que colidem são fundidos em uma varredura;
+ * 4. cada sobrevivente rouba metade do ouro da vizinha mais próxima;
+ * 5. o guardião se move e absorve o primeiro cluster ao seu alcance.
+ *
+ * O custo de um turno é O(n log n) (dominado pela ordenação) em vez de O(n²).
+ * As regras são as mesmas do Simulation, mas aplicadas em fases: por isso o
+ * resultado não é idêntico ao da simulação entidade a entidade.
+ *
+ * As fases rodam em paralelo em um ForkJoinPool. Depois da ordenação, o eixo X
+ * é dividido em segmentos de cerca de SEGMENT_SIZE entidades, sempre cortados
+ * em um intervalo maior que COLLISION_RANGE entre duas entidades vizinhas:
+ * assim nenhuma colisão cruza um corte e a fusão por segmento é idêntica à
+ * varredura única. Os roubos cujo alvo está do outro lado de um corte são
+ * aplicados depois, em uma passada sequencial pelos cortes, da esquerda para a
+ * direita. Os fatores aleatórios são sorteados em sequência antes do
+ * movimento. Como os cortes dependem só dos dados, o resultado é o mesmo para
+ * qualquer número de threads (e sem pool).
+ */
+public class LargeScaleSimulation {
+
+    private static final double COLLISION_RANGE = 25000.0;
+    private static final int SEGMENT_SIZE = 1 << 12;
+
+    private final RandomPort randomPort;
+    private final int minCreatures;
+    private final int maxCreatures;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constrói o motor de simulação grande.
+     *
+     * @param randomPort A porta para obter fatores de aleatoriedade.
+     * @param minCreatures O menor número de criaturas aceito.
+     * @param maxCreatures O maior número de criaturas aceito.
+     * @throws IllegalArgumentException Se os limites forem inválidos.
+     * @pre 'randomPort' não pode ser nulo e 1 <= minCreatures <= maxCreatures.
+     * @post Uma nova instância é criada com os limites informados, processando
+     * os segmentos na thread chamadora.
+     */
+    public LargeScaleSimulation(RandomPort randomPort, int minCreatures, int maxCreatures) {
+        this(randomPort, minCreatures, maxCreatures, null);
+    }
+
+    /**
+     * Constrói o motor de simulação grande com um pool para as fases
+     * paralelas.
+     *
+     * @param randomPort A porta para obter fatores de aleatoriedade.
+     * @param minCreatures O menor número de criaturas aceito.
+     * @param maxCreatures O maior número de criaturas aceito.
+     * @param pool O pool que processa os segmentos; se for nulo, eles são
+     * processados na thread chamadora, com o mesmo resultado.
+     * @throws IllegalArgumentException Se os limites forem inválidos.
+     * @pre 'randomPort' não pode ser nulo e 1 <= minCreatures <= maxCreatures.
+     * @post Uma nova instância é criada com os limites e o pool informados.
+     */
+    public LargeScaleSimulation(RandomPort randomPort, int minCreatures, int maxCreatures, ForkJoinPool pool) {
+        this.pool = pool;
+        this.randomPort = Objects.requireNonNull(randomPort, "A porta de aleatoriedade não pode ser nula.");
+        if (minCreatures < 1 || maxCreatures < minCreatures) {
+            throw new IllegalArgumentException("Os limites de criaturas do modo grande são inválidos.");
+        }
+        this.minCreatures = minCreatures;
+        this.maxCreatures = maxCreatures;
+    }
+
+    /**
+     * Cria um novo horizonte compacto com um número específico de criaturas.
+     *
+     * @param numeroDeCriaturas O número de criaturas para iniciar a simulação.
+     * @return Um CompactHorizon inicializado, com guardião e status RUNNING.
+     * @throws IllegalArgumentException Se o número de criaturas estiver fora
+     * dos limites configurados para o modo grande.
+     * @pre minCreatures <= numeroDeCriaturas <= maxCreatures.
+     * @post O horizonte contém as criaturas de 1 a numeroDeCriaturas e um
+     * guardião com id numeroDeCriaturas + 1.
+     */
+    public CompactHorizon createNewSimulation(int numeroDeCriaturas) {
+        if (numeroDeCriaturas < minCreatures || numeroDeCriaturas > maxCreatures) {
+            throw new IllegalArgumentException("O número de criaturas deve estar entre " + minCreatures
+                    + " e " + maxCreatures + ".");
+        }
+        CompactHorizon horizon = new CompactHorizon(numeroDeCriaturas);
+        horizon.initializeEntities(numeroDeCriaturas);
+        horizon.setGuardiao(new Guardian(numeroDeCriaturas + 1));
+        return horizon;
+    }
+
+    /**
+     * Executa um turno da simulação grande.
+     *
+     * @param horizonte O estado atual do horizonte compacto.
+     * @return O mesmo horizonte, atualizado.
+     * @throws IllegalArgumentException Se o horizonte for nulo.
+     * @throws IllegalStateException Se o status não for RUNNING.
+     * @pre O horizonte não pode ser nulo e deve estar em andamento.
+     * @post As fases do turno são aplicadas, o contador de turnos é
+     * incrementado e o status é recalculado.
+     */
+    public CompactHorizon runIteration(CompactHorizon horizonte) {
+        if (horizonte == null) {
+            throw new IllegalArgumentException("Horizon não pode ser nulo.");
+        }
+        if (horizonte.getStatus() != SimulationStatus.RUNNING) {
+            throw new IllegalStateException("A simulação não pode ser executada pois seu status é: " + horizonte.getStatus());
+        }
+
+        // 1. Movimento: sorteio em sequência (ordem fixa), aplicação em blocos.
+        int n = horizonte.size();
+        double[] factors = horizonte.factorBuffer();
+        randomPort.fill(factors, n);
+        int blocks = (n + SEGMENT_SIZE - 1) / SEGMENT_SIZE;
+        forEachSegment(blocks, block -> {
+            int from = block * SEGMENT_SIZE;
+            horizonte.moveRange(from, Math.min(n, from + SEGMENT_SIZE), factors);
+        });
+
+        // 2. Ordenação.
+        horizonte.sortByX(pool);
+
+        // 3. Segmentos cortados onde nenhuma colisão atravessa.
+        int[] starts = segmentStarts(horizonte);
+        int segments = starts.length - 1;
+
+        // 4. Fusão por segmento e junção dos sobreviventes.
+        int[] counts = new int[segments];
+        forEachSegment(segments, segment ->
+                counts[segment] = horizonte.fuseRange(starts[segment], starts[segment + 1], COLLISION_RANGE));
+        horizonte.closeGaps(starts, counts, segments);
+        starts[segments] = horizonte.size();
+
+        // 5. Roubo por segmento e, depois, os roubos que cruzam os cortes.
+        forEachSegment(segments, segment -> horizonte.stealWithin(starts[segment], starts[segment + 1]));
+        for (int segment = 1; segment < segments; segment++) {
+            horizonte.stealAcross(starts[segment]);
+        }
+
+        Guardian guardiao = horizonte.getGuardiao();
+        if (guardiao != null) {
+            guardiao.move(randomPort.nextFactor());
+            int victim = horizonte.findFirstClusterWithin(guardiao.getX(), COLLISION_RANGE);
+            if (victim >= 0) {
+                guardiao.stealGold(horizonte.getGold(victim));
+                horizonte.removeAt(victim);
+            }
+        }
+
+        horizonte.setTurn(horizonte.getTurn() + 1);
+        horizonte.setStatus(getStatus(horizonte));
+        return horizonte;
+    }
+
+    /**
+     * Verifica o estado atual da simulação, com as mesmas regras de
+     * Simulation.getStatus.
+     *
+     * @param horizonte O estado atual a ser avaliado.
+     * @return O status correspondente da simulação.
+     * @throws IllegalArgumentException Se o horizonte for nulo.
+     * @pre O horizonte não pode ser nulo.
+     * @post Nenhuma modificação é feita no horizonte.
+     */
+    public SimulationStatus getStatus(CompactHorizon horizonte) {
+        if (horizonte == null) {
+            throw new IllegalArgumentException("Horizon não pode ser nulo.");
+        }
+        if (horizonte.isEmpty()) {
+            return SimulationStatus.SUCCESSFUL;
+        }
+        if (horizonte.size() == 1) {
+            Guardian guardiao = horizonte.getGuardiao();
+            if (guardiao != null && guardiao.getGold() > horizonte.getGold(0)) {
+                return SimulationStatus.SUCCESSFUL;
+            }
+            return SimulationStatus.FAILED;
+        }
+        return SimulationStatus.RUNNING;
+    }
+
+    // Inícios dos segmentos (o último elemento é size): um corte a cada
+    // SEGMENT_SIZE entidades, empurrado até o próximo intervalo seguro.
+    private static int[] segmentStarts(CompactHorizon horizonte) {
+        int n = horizonte.size();
+        int[] starts = new int[n / SEGMENT_SIZE + 2];
+        int segments = 0;
+        int start = 0;
+        while (start < n) {
+            starts[segments++] = start;
+            start = horizonte.nextSegmentStart(start + SEGMENT_SIZE, COLLISION_RANGE);
+        }
+        starts[segments] = n;
+        return Arrays.copyOf(starts, segments + 1);
+    }
+
+    private void forEachSegment(int segments, IntConsumer body) {
+        if (pool == null || segments < 2) {
+            for (int segment = 0; segment < segments; segment++) {
+                body.accept(segment);
+            }
+            return;
+        }
+        pool.invoke(new SegmentTask(body, 0, segments));
+    }
+
+    /*
+     * Divide os segmentos [from, to) ao meio até sobrar um por tarefa.
+     */
+    private static final class SegmentTask extends RecursiveAction {
+
+        private final IntConsumer body;
+        private final int from;
+        private final int to;
+
+        SegmentTask(IntConsumer body, int from, int to) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SegmentTask(body, from, mid), new SegmentTask(body, mid, to));
+        }
+    }
+
+    public int getMinCreatures() {
+        return minCreatures;
+    }
+
+    public int getMaxCreatures() {
+        return maxCreatures;
+    }
+}
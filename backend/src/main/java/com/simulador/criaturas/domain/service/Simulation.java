@@ -13,13 +13,23 @@ import com.simulador.criaturas.domain.model.CreatureCluster;
 import com.simulador.criaturas.domain.model.Guardian;
 import com.simulador.criaturas.domain.model.Horizon;
 import com.simulador.criaturas.domain.port.out.RandomPort;
+import com.simulador.criaturas.domain.port.out.SeededRandomPortFactory;
 import com.simulador.criaturas.utils.SimulationStatus;
 
 public class Simulation {
 
     private final RandomPort randomPort;
+    private final SeededRandomPortFactory seededRandom;
     private static final double COLLISION_RANGE = 25000.0;
 
+    // Lista reaproveitada para as buscas por faixa: o serviço é compartilhado
+    // entre requisições, então cada thread tem a sua.
+    private static final ThreadLocal<List<HorizonEntities>> RANGE_BUFFER = ThreadLocal.withInitial(ArrayList::new);
+
+    // Fatores do turno, sorteados de uma vez: um por slot e o do guardião no
+    // fim. Também reaproveitado por thread, crescendo só quando preciso.
+    private static final ThreadLocal<double[]> FACTOR_BUFFER = ThreadLocal.withInitial(() -> new double[16]);
+
     /**
      * Constrói uma nova instância do serviço de simulação.
      *
@@ -31,7 +41,24 @@ public class Simulation {
      * fornecida.
      */
     public Simulation(RandomPort randomPort) {
+        this(randomPort, null);
+    }
+
+    /**
+     * Constrói uma nova instância do serviço de simulação com geradores por
+     * simulação.
+     *
+     * @param randomPort A porta usada pelos horizontes sem semente.
+     * @param seededRandom A fábrica dos geradores de cada simulação; se for
+     * nula, todos os horizontes usam 'randomPort'.
+     * @throws IllegalArgumentException Se a porta de aleatoriedade for nula.
+     * @pre A porta 'randomPort' não pode ser nula.
+     * @post Novas simulações recebem uma semente, e cada turno de um horizonte
+     * com semente usa um gerador derivado de (semente, turno).
+     */
+    public Simulation(RandomPort randomPort, SeededRandomPortFactory seededRandom) {
         this.randomPort = Objects.requireNonNull(randomPort, "A porta de aleatoriedade não pode ser nula.");
+        this.seededRandom = seededRandom;
     }
 
     /**
@@ -44,9 +71,42 @@ public class Simulation {
      * intervalo permitido [1, 10].
      * @pre O número de criaturas deve ser um valor entre 1 e 10, inclusive.
      * @post Um novo Horizon é criado com o número especificado de criaturas e
-     * um guardião, com o status inicial 'RUNNING'.
+     * um guardião, com o status inicial 'RUNNING'. Se houver fábrica de
+     * geradores, o horizonte recebe uma semente nova.
      */
     public Horizon createNewSimulation(int numeroDeCriaturas) {
+        Horizon horizon = newHorizon(numeroDeCriaturas);
+        if (seededRandom != null) {
+            horizon.setSeed(seededRandom.newSeed());
+        }
+        return horizon;
+    }
+
+    /**
+     * Cria um novo estado de simulação com uma semente escolhida, para
+     * reproduzir uma simulação anterior.
+     *
+     * @param numeroDeCriaturas O número de criaturas para iniciar a simulação.
+     * @param seed A semente da simulação.
+     * @return Um objeto Horizon inicializado, com a semente informada.
+     * @throws IllegalArgumentException Se o número de criaturas estiver fora do
+     * intervalo permitido [1, 10].
+     * @throws IllegalStateException Se o serviço não tiver fábrica de
+     * geradores por simulação.
+     * @pre O número de criaturas deve ser um valor entre 1 e 10, inclusive.
+     * @post Duas simulações criadas com a mesma semente e o mesmo número de
+     * criaturas evoluem da mesma forma.
+     */
+    public Horizon createNewSimulation(int numeroDeCriaturas, long seed) {
+        if (seededRandom == null) {
+            throw new IllegalStateException("Este serviço de simulação não aceita sementes.");
+        }
+        Horizon horizon = newHorizon(numeroDeCriaturas);
+        horizon.setSeed(seed);
+        return horizon;
+    }
+
+    private static Horizon newHorizon(int numeroDeCriaturas) {
         if (numeroDeCriaturas <= 0 || numeroDeCriaturas > 10) {
             throw new IllegalArgumentException("O número de criaturas deve estar entre 1 e 10.");
         }
@@ -66,7 +126,9 @@ public class Simulation {
      * @param horizonte O estado atual do horizonte.
      * @return O horizonte atualizado após a iteração.
      * @pre O horizonte não pode ser nulo.
-     * @post O horizonte é atualizado com o resultado da iteração.
+     * @post O horizonte é atualizado com o resultado da iteração e o contador
+     * de turnos é incrementado. Em regime (sem fusões), o turno não aloca
+     * memória por entidade.
      * @throws IllegalArgumentException Se o horizonte for nulo.
      */
     public Horizon runIteration(Horizon horizonte) {
@@ -77,14 +139,23 @@ public class Simulation {
             throw new IllegalStateException("A simulação não pode ser executada pois seu status é: " + horizonte.getStatus());
         }
 
-        List<HorizonEntities> toProcess = new ArrayList<>(horizonte.getEntities());
-        for (HorizonEntities entity : toProcess) {
-            if (entity != null) {
-                if (!horizonte.getEntities().contains(entity)) {
+        RandomPort random = randomFor(horizonte);
+
+        // Processa as entidades existentes no início do turno; as removidas
+        // no caminho são puladas pela lápide, sem busca na lista. A lista só é
+        // compactada uma vez, no endTurn.
+        int toProcess = horizonte.beginTurn();
+        try {
+            double[] factors = factorBuffer(toProcess + 1);
+            random.fill(factors, toProcess + 1);
+
+            for (int slot = 0; slot < toProcess; slot++) {
+                if (!horizonte.isAliveInTurn(slot)) {
                     continue;
                 }
-                if (entity instanceof Move movel) {
-                    movel.move(randomPort.nextFactor());
+                HorizonEntities entity = horizonte.getTurnEntity(slot);
+                if (entity instanceof Move) {
+                    horizonte.moveEntity(entity, factors[slot]);
                 }
 
                 HorizonEntities survivor = resolveInteractionsAt(horizonte, entity.getX());
@@ -93,20 +164,42 @@ public class Simulation {
                     treatNeighborTheft(horizonte, survivor);
                 }
             }
-        }
 
-        Guardian guardiao = horizonte.getGuardiao();
-        if (guardiao != null) {
-            guardiao.move(randomPort.nextFactor());
+            Guardian guardiao = horizonte.getGuardiao();
+            if (guardiao != null) {
+                guardiao.move(factors[toProcess]);
 
-            resolveInteractionsAt(horizonte, guardiao.getX());
+                resolveInteractionsAt(horizonte, guardiao.getX());
+            }
+        } finally {
+            horizonte.endTurn();
         }
 
+        horizonte.setTurn(horizonte.getTurn() + 1);
         SimulationStatus novoStatus = getStatus(horizonte);
         horizonte.setStatus(novoStatus);
         return horizonte;
     }
 
+    private static double[] factorBuffer(int n) {
+        double[] buffer = FACTOR_BUFFER.get();
+        if (buffer.length < n) {
+            buffer = new double[Math.max(n, buffer.length * 2)];
+            FACTOR_BUFFER.set(buffer);
+        }
+        return buffer;
+    }
+
+    // Gerador do turno: derivado de (semente, turno) quando o horizonte tem
+    // semente, ou a porta compartilhada caso contrário.
+    private RandomPort randomFor(Horizon horizonte) {
+        Long seed = horizonte.getSeed();
+        if (seed == null || seededRandom == null) {
+            return randomPort;
+        }
+        return seededRandom.forTurn(seed, horizonte.getTurn());
+    }
+
     /**
      * Verifica o estado atual da simulação (Em Andamento, Sucesso ou Falha).
      *
@@ -122,7 +215,7 @@ public class Simulation {
             throw new IllegalArgumentException("Horizon não pode ser nulo.");
         }
 
-        List<HorizonEntities> remainingEntities = horizonte.getEntities();
+        List<HorizonEntities> remainingEntities = horizonte.getEntitiesView();
         Guardian guardiao = horizonte.getGuardiao();
 
         // 1. Primeiro, tratamos o caso da lista vazia
@@ -159,26 +252,9 @@ public class Simulation {
             throw new IllegalArgumentException("Horizon e entidade atual não podem ser nulos.");
         }
 
-        List<HorizonEntities> allEntities = new ArrayList<>(horizonte.getEntities());
-
-        // Remove a própria entidade da lista de candidatos a vizinho
-        allEntities.remove(currentEntity);
-
-        if (allEntities.isEmpty()) {
-            return null;
-        }
-
-        HorizonEntities nearest = null;
-        double minDistance = Double.MAX_VALUE;
-
-        for (HorizonEntities neighbor : allEntities) {
-            double distance = Math.abs(currentEntity.getX() - neighbor.getX());
-            if (distance < minDistance) {
-                minDistance = distance;
-                nearest = neighbor;
-            }
-        }
-        return nearest;
+        // O índice espacial do horizonte reproduz a busca linear (inclusive o
+        // desempate pela ordem da lista) sem copiar a lista de entidades.
+        return horizonte.findNearestNeighbor(currentEntity);
     }
 
     /**
@@ -233,8 +309,19 @@ public class Simulation {
             throw new IllegalArgumentException("Horizon não pode ser nulo e a posição deve ser um número válido.");
         }
 
-        List<HorizonEntities> entitiesInRange = horizonte.getEntitiesWithinRange(centerPosition, COLLISION_RANGE);
+        List<HorizonEntities> entitiesInRange = RANGE_BUFFER.get();
+        try {
+            horizonte.collectEntitiesWithinRange(centerPosition, COLLISION_RANGE, entitiesInRange);
+            return resolveInteractions(horizonte, centerPosition, entitiesInRange);
+        } finally {
+            // Não retém referências a entidades entre chamadas.
+            entitiesInRange.clear();
+        }
+    }
 
+    // Aplica as regras de interação às entidades da faixa, sem streams nem
+    // cópias da lista.
+    private HorizonEntities resolveInteractions(Horizon horizonte, double centerPosition, List<HorizonEntities> entitiesInRange) {
         Guardian guardiao = horizonte.getGuardiao();
 
         // Verifica se o guardião está envolvido na colisão
@@ -242,11 +329,12 @@ public class Simulation {
 
         // --- REGRA DE PRIORIDADE 1: INTERAÇÃO COM O GUARDIÃO ---
         if (guardianIsInvolved) {
-            CreatureCluster clusterVictim = entitiesInRange.stream()
-                    .filter(e -> e instanceof CreatureCluster)
-                    .map(e -> (CreatureCluster) e)
-                    .findFirst()
-                    .orElse(null);
+            CreatureCluster clusterVictim = null;
+            for (int i = 0; i < entitiesInRange.size() && clusterVictim == null; i++) {
+                if (entitiesInRange.get(i) instanceof CreatureCluster cluster) {
+                    clusterVictim = cluster;
+                }
+            }
 
             if (clusterVictim != null) {
                 ((StealGold) guardiao).stealGold(clusterVictim.getGold());
@@ -261,27 +349,30 @@ public class Simulation {
         }
 
         // --- REGRA DE PRIORIDADE 3: FUSÃO DE CLUSTERS OU CRIATURAS ---
-        Fusion baseFusion = entitiesInRange.stream()
-                .filter(c -> c instanceof Fusion)
-                .map(c -> (Fusion) c)
-                .findFirst().orElse(null);
+        Fusion baseFusion = null;
+        int basePosition = -1;
+        for (int i = 0; i < entitiesInRange.size() && baseFusion == null; i++) {
+            if (entitiesInRange.get(i) instanceof Fusion fusion) {
+                baseFusion = fusion;
+                basePosition = i;
+            }
+        }
 
         if (baseFusion != null) { // Caso 1: Já existe um cluster na colisão
-            List<HorizonEntities> toBeAbsorbed = entitiesInRange.stream()
-                    .filter(c -> c != baseFusion).toList();
-            for (HorizonEntities victim : toBeAbsorbed) {
-                baseFusion.fusion(victim);
+            // A própria lista da faixa vira a lista de absorvidos.
+            entitiesInRange.remove(basePosition);
+            for (int i = 0; i < entitiesInRange.size(); i++) {
+                baseFusion.fusion(entitiesInRange.get(i));
             }
-            horizonte.removeEntities(toBeAbsorbed);
+            horizonte.removeEntities(entitiesInRange);
             return (HorizonEntities) baseFusion;
 
         } else { // Caso 2: Só há criaturas individuais na colisão
             HorizonEntities baseCreature = entitiesInRange.get(0);
             CreatureCluster novoCluster = new CreatureCluster(baseCreature.getId(), baseCreature.getX(), baseCreature.getGold());
-            List<HorizonEntities> toBeAbsorbed = entitiesInRange.subList(1, entitiesInRange.size());
 
-            for (HorizonEntities victim : toBeAbsorbed) {
-                novoCluster.fusion(victim);
+            for (int i = 1; i < entitiesInRange.size(); i++) {
+                novoCluster.fusion(entitiesInRange.get(i));
             }
             horizonte.removeEntities(entitiesInRange);
             horizonte.addEntity(novoCluster);
@@ -0,0 +1,77 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest;
+
+import java.security.Principal;
+import java.util.function.Supplier;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.simulador.criaturas.domain.model.CompactHorizon;
+import com.simulador.criaturas.domain.model.User;
+import com.simulador.criaturas.domain.port.in.LargeSimulationUseCase;
+import com.simulador.criaturas.domain.port.in.UserUseCase;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.LargeSimulationResultDTO;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.mapper.HorizonMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/simulacao/grande")
+@RequiredArgsConstructor
+public class LargeSimulationController {
+
+    private final LargeSimulationUseCase largeSimulationUseCase;
+    private final UserUseCase userUseCase;
+    private final HorizonMapper horizonMapper;
+
+    /**
+     * Executa uma simulação grande (modo de estresse) e devolve apenas um
+     * resumo do resultado. Os limites de criaturas são configurados em
+     * simulation.large.* e validados pelo motor de domínio. Com 'checkpoint',
+     * o estado é gravado periodicamente para ser retomado em /retomar pelo
+     * mesmo usuário.
+     */
+    @PostMapping("/executar")
+    public LargeSimulationResultDTO executar(@RequestParam int numeroDeCriaturas,
+            @RequestParam(required = false) String checkpoint, Principal principal) {
+        if (checkpoint == null) {
+            return timed(numeroDeCriaturas, () -> largeSimulationUseCase.runLargeSimulation(numeroDeCriaturas));
+        }
+        Long userId = userId(principal);
+        return timed(numeroDeCriaturas,
+                () -> largeSimulationUseCase.runLargeSimulation(numeroDeCriaturas, checkpoint, userId));
+    }
+
+    /**
+     * Retoma uma simulação grande a partir do último checkpoint gravado pelo
+     * usuário autenticado.
+     */
+    @PostMapping("/retomar")
+    public LargeSimulationResultDTO retomar(@RequestParam String checkpoint, Principal principal) {
+        Long userId = userId(principal);
+        return timed(null, () -> largeSimulationUseCase.resumeLargeSimulation(checkpoint, userId));
+    }
+
+    private Long userId(Principal principal) {
+        User user = userUseCase.findUserByLogin(principal.getName())
+                .orElseThrow(() -> new RuntimeException("Usuário autenticado não encontrado."));
+        return user.getId();
+    }
+
+    private LargeSimulationResultDTO timed(Integer numeroDeCriaturas, Supplier<CompactHorizon> execucao) {
+        long inicio = System.nanoTime();
+        CompactHorizon horizonte = execucao.get();
+        long elapsedMillis = (System.nanoTime() - inicio) / 1_000_000;
+
+        return new LargeSimulationResultDTO(
+                // O guardião recebe o id numeroDeCriaturas + 1 ao ser criado.
+                numeroDeCriaturas != null ? numeroDeCriaturas : horizonte.getGuardiao().getId() - 1,
+                horizonte.getTurn(),
+                horizonte.getStatus(),
+                horizonte.size(),
+                horizonMapper.toDto(horizonte.getGuardiao()),
+                elapsedMillis);
+    }
+}
@@ -1,6 +1,8 @@
 package com.simulador.criaturas.infrastructure.adapter.in.rest;
 
 import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -11,10 +13,15 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.model.HorizonDelta;
+import com.simulador.criaturas.domain.model.HorizonSnapshot;
+import com.simulador.criaturas.domain.model.MonteCarloResult;
 import com.simulador.criaturas.domain.model.User;
 import com.simulador.criaturas.domain.port.in.SimulacaoUseCase;
 import com.simulador.criaturas.domain.port.in.UserUseCase;
 import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.HorizonDTO;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.MonteCarloResultDTO;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.MultiStepIterationDTO;
 import com.simulador.criaturas.infrastructure.adapter.in.rest.mapper.HorizonMapper;
 import com.simulador.criaturas.utils.SimulationStatus;
 
@@ -34,11 +41,17 @@ public class SimulacaoController {
 
     /**
      * Inicia uma nova simulação. O endpoint é protegido, garantindo que apenas
-     * usuários logados possam iniciar simulações.
+     * usuários logados possam iniciar simulações. A semente devolvida no DTO
+     * pode ser enviada de volta em 'seed' para reproduzir a simulação. O
+     * estado fica com o cliente, então o fim dela não é registrado para
+     * replay; use /api/simulacao/replays com a semente.
      */
     @PostMapping("/iniciar")
-    public HorizonDTO iniciar(@RequestParam @Min(1) @Max(10) int numeroDeCriaturas, Principal principal) {
-        Horizon horizonDominio = simulacaoUseCase.initNewSimulation(numeroDeCriaturas);
+    public HorizonDTO iniciar(@RequestParam @Min(1) @Max(10) int numeroDeCriaturas,
+            @RequestParam(required = false) Long seed, Principal principal) {
+        Horizon horizonDominio = seed == null
+                ? simulacaoUseCase.initNewSimulation(numeroDeCriaturas)
+                : simulacaoUseCase.initNewSimulation(numeroDeCriaturas, seed);
         return horizonMapper.toDto(horizonDominio);
     }
 
@@ -68,9 +81,61 @@ public class SimulacaoController {
         return ResponseEntity.ok(horizonMapper.toDto(novoHorizonDominio));
     }
 
+    /**
+     * Igual a /iterar, mas devolve só a diferença entre o estado enviado e o
+     * estado após a iteração, com o número do turno para o cliente detectar
+     * lacunas.
+     */
+    @PostMapping("/iterar-delta")
+    public ResponseEntity<?> iterarDelta(@Valid @RequestBody HorizonDTO estadoAtualDTO, Principal principal) {
+        if (estadoAtualDTO.getStatus() != SimulationStatus.RUNNING) {
+            String errorMessage = "Não é possível iterar uma simulação que já foi concluída com o status: "
+                    + estadoAtualDTO.getStatus();
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(errorMessage);
+        }
+
+        User user = userUseCase.findUserByLogin(principal.getName())
+                .orElseThrow(() -> new RuntimeException("Usuário autenticado não encontrado."));
+
+        Horizon horizonDominio = horizonMapper.toDomain(estadoAtualDTO);
+        HorizonSnapshot antes = HorizonSnapshot.of(horizonDominio);
+        Horizon novoHorizonDominio = simulacaoUseCase.runNextSimulation(horizonDominio, user.getId());
+
+        return ResponseEntity.ok(horizonMapper.toDto(HorizonDelta.between(antes, novoHorizonDominio)));
+    }
+
+    /**
+     * Igual a /iterar, mas executa até 'passos' turnos de uma vez e devolve,
+     * além do estado final, um quadro a cada 'amostragem' turnos. Para antes
+     * se a simulação terminar; as estatísticas são atualizadas uma única vez.
+     */
+    @PostMapping("/iterar-passos")
+    public ResponseEntity<?> iterarPassos(@Valid @RequestBody HorizonDTO estadoAtualDTO,
+            @RequestParam @Min(1) @Max(1000) int passos,
+            @RequestParam(defaultValue = "1") @Min(1) int amostragem, Principal principal) {
+        if (estadoAtualDTO.getStatus() != SimulationStatus.RUNNING) {
+            String errorMessage = "Não é possível iterar uma simulação que já foi concluída com o status: "
+                    + estadoAtualDTO.getStatus();
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(errorMessage);
+        }
+
+        User user = userUseCase.findUserByLogin(principal.getName())
+                .orElseThrow(() -> new RuntimeException("Usuário autenticado não encontrado."));
+
+        Horizon horizonDominio = horizonMapper.toDomain(estadoAtualDTO);
+        int turnoInicial = horizonDominio.getTurn();
+        // O mapeamento copia cada quadro antes que o próximo turno o altere.
+        List<HorizonDTO> quadros = new ArrayList<>();
+        Horizon novoHorizonDominio = simulacaoUseCase.runSteps(horizonDominio, user.getId(), passos, amostragem,
+                quadro -> quadros.add(horizonMapper.toDto(quadro)));
+
+        return ResponseEntity.ok(new MultiStepIterationDTO(novoHorizonDominio.getTurn() - turnoInicial, quadros,
+                horizonMapper.toDto(novoHorizonDominio)));
+    }
+
     /**
      * Executa uma simulação completa do início ao fim para o usuário
-     * autenticado.
+     * autenticado e a registra para replay.
      */
     @PostMapping("/executar-completa")
     public HorizonDTO executarCompleta(@RequestParam @Min(1) @Max(10) int numeroDeCriaturas, Principal principal) {
@@ -80,4 +145,29 @@ public class SimulacaoController {
         Horizon horizonDominio = simulacaoUseCase.runFullSimulation(numeroDeCriaturas, user.getId());
         return horizonMapper.toDto(horizonDominio);
     }
+
+    /**
+     * Executa um lote de simulações completas (Monte Carlo) e devolve apenas
+     * os resultados agregados. Nenhuma estatística do usuário é alterada.
+     */
+    @PostMapping("/monte-carlo")
+    public MonteCarloResultDTO monteCarlo(@RequestParam @Min(1) @Max(10) int numeroDeCriaturas,
+            @RequestParam @Min(1) @Max(100000) int execucoes) {
+        long inicio = System.nanoTime();
+        MonteCarloResult resultado = simulacaoUseCase.runMonteCarlo(numeroDeCriaturas, execucoes);
+        long elapsedMillis = (System.nanoTime() - inicio) / 1_000_000;
+
+        return new MonteCarloResultDTO(
+                resultado.getCreatures(),
+                resultado.getRuns(),
+                resultado.getSuccesses(),
+                resultado.getSuccessRate(),
+                resultado.getTurnsHistogram(),
+                resultado.getGuardianGoldMin(),
+                resultado.getGuardianGoldMean(),
+                resultado.getGuardianGoldMax(),
+                resultado.getGuardianGoldBucketWidth(),
+                resultado.getGuardianGoldHistogram(),
+                elapsedMillis);
+    }
 }
@@ -0,0 +1,86 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest;
+
+import java.security.Principal;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.simulador.criaturas.domain.model.SimulationJob;
+import com.simulador.criaturas.domain.model.User;
+import com.simulador.criaturas.domain.port.in.SimulationJobUseCase;
+import com.simulador.criaturas.domain.port.in.UserUseCase;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.SimulationJobDTO;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.mapper.HorizonMapper;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/simulacao/jobs")
+@RequiredArgsConstructor
+public class SimulationJobController {
+
+    private final SimulationJobUseCase simulationJobUseCase;
+    private final UserUseCase userUseCase;
+    private final HorizonMapper horizonMapper;
+
+    /**
+     * Submete uma simulação completa para execução assíncrona e devolve o job
+     * imediatamente, sem esperar a simulação.
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SimulationJobDTO submeter(@RequestParam @Min(1) @Max(10) int numeroDeCriaturas, Principal principal) {
+        SimulationJob job = simulationJobUseCase.submitFullSimulation(numeroDeCriaturas, userId(principal));
+        return toDto(job);
+    }
+
+    /**
+     * Consulta o estado de um job do usuário autenticado.
+     */
+    @GetMapping("/{jobId}")
+    public SimulationJobDTO consultar(@PathVariable String jobId, Principal principal) {
+        return toDto(simulationJobUseCase.getJob(jobId, userId(principal)));
+    }
+
+    /**
+     * Aguarda o término de um job por até 'timeoutMillis' e devolve o estado
+     * em que ele estiver ao fim da espera.
+     */
+    @GetMapping("/{jobId}/aguardar")
+    public SimulationJobDTO aguardar(@PathVariable String jobId,
+            @RequestParam(defaultValue = "10000") @Min(0) @Max(30000) long timeoutMillis, Principal principal) {
+        return toDto(simulationJobUseCase.awaitJob(jobId, userId(principal), timeoutMillis));
+    }
+
+    /**
+     * Cancela um job que ainda não terminou.
+     */
+    @DeleteMapping("/{jobId}")
+    public SimulationJobDTO cancelar(@PathVariable String jobId, Principal principal) {
+        return toDto(simulationJobUseCase.cancelJob(jobId, userId(principal)));
+    }
+
+    private Long userId(Principal principal) {
+        User user = userUseCase.findUserByLogin(principal.getName())
+                .orElseThrow(() -> new RuntimeException("Usuário autenticado não encontrado."));
+        return user.getId();
+    }
+
+    private SimulationJobDTO toDto(SimulationJob job) {
+        return new SimulationJobDTO(
+                job.getId(),
+                job.getStatus(),
+                job.getNumeroDeCriaturas(),
+                job.getResult() == null ? null : horizonMapper.toDto(job.getResult()),
+                job.getError());
+    }
+}
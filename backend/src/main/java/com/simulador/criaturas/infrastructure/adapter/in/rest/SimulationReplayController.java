@@ -0,0 +1,81 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest;
+
+import java.security.Principal;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.simulador.criaturas.domain.model.SimulationReplay;
+import com.simulador.criaturas.domain.model.User;
+import com.simulador.criaturas.domain.port.in.SimulationReplayUseCase;
+import com.simulador.criaturas.domain.port.in.UserUseCase;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.HorizonDTO;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.SimulationReplayDTO;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.mapper.HorizonMapper;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/simulacao/replays")
+@RequiredArgsConstructor
+public class SimulationReplayController {
+
+    private final SimulationReplayUseCase replayUseCase;
+    private final UserUseCase userUseCase;
+    private final HorizonMapper horizonMapper;
+
+    /**
+     * Registra uma simulação com semente para consultar depois o estado de
+     * qualquer turno. A semente ('seed') e o último turno ('turnos') vêm como
+     * parâmetros da requisição, como os devolvidos no HorizonDTO. As
+     * simulações completas, as sessões, as transmissões e as do WebSocket já
+     * são registradas sozinhas quando terminam; este endpoint serve para as
+     * demais, como as iniciadas por /api/simulacao/iniciar.
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public SimulationReplayDTO registrar(@RequestParam @Min(1) @Max(10) int numeroDeCriaturas,
+            @RequestParam long seed, @RequestParam @Min(0) @Max(10000) int turnos, Principal principal) {
+        return toDto(replayUseCase.record(numeroDeCriaturas, seed, turnos, userId(principal)));
+    }
+
+    /**
+     * Lista os registros mais recentes do usuário, incluindo os gravados
+     * automaticamente no fim das simulações com semente.
+     */
+    @GetMapping
+    public List<SimulationReplayDTO> listar(@RequestParam(defaultValue = "20") @Min(1) @Max(100) int limite,
+            Principal principal) {
+        return replayUseCase.listLatest(userId(principal), limite).stream()
+                .map(SimulationReplayController::toDto).toList();
+    }
+
+    /**
+     * Reconstrói o estado da simulação registrada no turno 'turno'.
+     */
+    @GetMapping("/{replayId}")
+    public HorizonDTO estadoNoTurno(@PathVariable Long replayId, @RequestParam @Min(0) int turno,
+            Principal principal) {
+        return horizonMapper.toDto(replayUseCase.stateAt(replayId, userId(principal), turno));
+    }
+
+    private Long userId(Principal principal) {
+        User user = userUseCase.findUserByLogin(principal.getName())
+                .orElseThrow(() -> new RuntimeException("Usuário autenticado não encontrado."));
+        return user.getId();
+    }
+
+    private static SimulationReplayDTO toDto(SimulationReplay replay) {
+        return new SimulationReplayDTO(replay.getId(), replay.getCreatures(), replay.getSeed(), replay.getTurns(),
+                replay.getStatus());
+    }
+}
@@ -0,0 +1,100 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest;
+
+import java.security.Principal;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.simulador.criaturas.domain.model.SimulationSession;
+import com.simulador.criaturas.domain.model.User;
+import com.simulador.criaturas.domain.port.in.SimulationSessionUseCase;
+import com.simulador.criaturas.domain.port.in.UserUseCase;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.HorizonDTO;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.HorizonDeltaDTO;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.SimulationSessionDTO;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.mapper.HorizonMapper;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/simulacao/sessoes")
+@RequiredArgsConstructor
+public class SimulationSessionController {
+
+    private final SimulationSessionUseCase sessionUseCase;
+    private final UserUseCase userUseCase;
+    private final HorizonMapper horizonMapper;
+
+    /**
+     * Inicia uma simulação mantida no servidor. As próximas iterações só
+     * precisam do id devolvido.
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public SimulationSessionDTO iniciar(@RequestParam @Min(1) @Max(10) int numeroDeCriaturas,
+            @RequestParam(required = false) Long seed, Principal principal) {
+        return toDto(sessionUseCase.startSession(numeroDeCriaturas, seed, userId(principal)));
+    }
+
+    /**
+     * Executa uma iteração da simulação da sessão, sem corpo na requisição.
+     */
+    @PostMapping("/{sessionId}/iterar")
+    public SimulationSessionDTO iterar(@PathVariable String sessionId, Principal principal) {
+        return toDto(sessionUseCase.iterateSession(sessionId, userId(principal)));
+    }
+
+    /**
+     * Executa uma iteração da sessão e devolve só o que mudou desde o turno
+     * 'turno', o último que o cliente aplicou. Se o cliente estiver
+     * dessincronizado, a resposta traz o estado completo do turno atual
+     * ('resync') e nenhuma iteração é executada.
+     */
+    @PostMapping("/{sessionId}/iterar-delta")
+    public HorizonDeltaDTO iterarDelta(@PathVariable String sessionId, @RequestParam @Min(0) int turno,
+            Principal principal) {
+        return horizonMapper.toDto(sessionUseCase.iterateSessionDelta(sessionId, userId(principal), turno));
+    }
+
+    /**
+     * Consulta o estado atual da simulação da sessão.
+     */
+    @GetMapping("/{sessionId}")
+    public SimulationSessionDTO consultar(@PathVariable String sessionId, Principal principal) {
+        return toDto(sessionUseCase.getSession(sessionId, userId(principal)));
+    }
+
+    /**
+     * Encerra a sessão.
+     */
+    @DeleteMapping("/{sessionId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void encerrar(@PathVariable String sessionId, Principal principal) {
+        sessionUseCase.closeSession(sessionId, userId(principal));
+    }
+
+    private Long userId(Principal principal) {
+        User user = userUseCase.findUserByLogin(principal.getName())
+                .orElseThrow(() -> new RuntimeException("Usuário autenticado não encontrado."));
+        return user.getId();
+    }
+
+    private SimulationSessionDTO toDto(SimulationSession session) {
+        // O mapeamento lê o Horizon, que uma iteração concorrente pode estar
+        // alterando.
+        HorizonDTO horizonte;
+        synchronized (session) {
+            horizonte = horizonMapper.toDto(session.getHorizon());
+        }
+        return new SimulationSessionDTO(session.getId(), horizonte);
+    }
+}
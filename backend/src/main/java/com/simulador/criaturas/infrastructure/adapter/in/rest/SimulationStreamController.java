@@ -0,0 +1,120 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.model.User;
+import com.simulador.criaturas.domain.port.in.SimulacaoUseCase;
+import com.simulador.criaturas.domain.port.in.UserUseCase;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.mapper.HorizonMapper;
+import com.simulador.criaturas.infrastructure.adapter.in.stream.FrameSink;
+import com.simulador.criaturas.infrastructure.adapter.in.stream.SimulationFrameTask;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+@RestController
+@RequestMapping("/api/simulacao")
+public class SimulationStreamController {
+
+    private final SimulacaoUseCase simulacaoUseCase;
+    private final UserUseCase userUseCase;
+    private final HorizonMapper horizonMapper;
+    private final ScheduledExecutorService scheduler;
+    private final int defaultFps;
+    private final int maxFps;
+    private final int maxTurns;
+    private final long timeoutMillis;
+
+    public SimulationStreamController(SimulacaoUseCase simulacaoUseCase, UserUseCase userUseCase,
+            HorizonMapper horizonMapper, ScheduledExecutorService simulationStreamScheduler,
+            @Value("${simulation.stream.default-fps:10}") int defaultFps,
+            @Value("${simulation.stream.max-fps:60}") int maxFps,
+            @Value("${simulation.stream.max-turns:10000}") int maxTurns,
+            @Value("${simulation.stream.timeout-seconds:600}") long timeoutSeconds) {
+        this.simulacaoUseCase = simulacaoUseCase;
+        this.userUseCase = userUseCase;
+        this.horizonMapper = horizonMapper;
+        this.scheduler = simulationStreamScheduler;
+        this.defaultFps = defaultFps;
+        this.maxFps = maxFps;
+        this.maxTurns = maxTurns;
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+    }
+
+    /**
+     * Executa uma simulação no servidor e transmite os quadros por Server-Sent
+     * Events (evento "frame", com o HorizonDTO), em uma única conexão. Cada
+     * quadro avança 'passo' turnos; 'fps' quadros são enviados por segundo,
+     * limitados por simulation.stream.max-fps. A transmissão termina quando o
+     * status deixa de ser RUNNING, e as estatísticas do usuário são
+     * atualizadas uma única vez, ao final.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam @Min(1) @Max(10) int numeroDeCriaturas,
+            @RequestParam(required = false) Long seed,
+            @RequestParam(required = false) @Min(1) Integer fps,
+            @RequestParam(defaultValue = "1") @Min(1) @Max(1000) int passo,
+            Principal principal) {
+        User user = userUseCase.findUserByLogin(principal.getName())
+                .orElseThrow(() -> new RuntimeException("Usuário autenticado não encontrado."));
+        Horizon horizonte = seed == null
+                ? simulacaoUseCase.initNewSimulation(numeroDeCriaturas)
+                : simulacaoUseCase.initNewSimulation(numeroDeCriaturas, seed);
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        SimulationFrameTask task = new SimulationFrameTask(simulacaoUseCase, horizonte, user.getId(), passo,
+                maxTurns, new EmitterSink(emitter));
+
+        long periodMicros = TimeUnit.SECONDS.toMicros(1) / Math.min(fps == null ? defaultFps : fps, maxFps);
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(task, 0, periodMicros, TimeUnit.MICROSECONDS);
+        task.onDone(() -> future.cancel(false));
+        emitter.onCompletion(task::stop);
+        emitter.onTimeout(task::stop);
+        emitter.onError(error -> task.stop());
+        return emitter;
+    }
+
+    /*
+     * Envia cada quadro como um evento SSE "frame", com o turno como id do
+     * evento.
+     */
+    private final class EmitterSink implements FrameSink {
+
+        private final SseEmitter emitter;
+
+        private EmitterSink(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(Horizon horizonte) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .name("frame")
+                    .id(Integer.toString(horizonte.getTurn()))
+                    .data(horizonMapper.toDto(horizonte), MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void complete() {
+            emitter.complete();
+        }
+
+        @Override
+        public void fail(Exception error) {
+            emitter.completeWithError(error);
+        }
+    }
+}
@@ -6,10 +6,12 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.simulador.criaturas.domain.port.in.StatisticsUseCase;
 import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.GlobalStatisticsDTO;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.RankingPageDTO;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,4 +32,17 @@ public class StatisticsController {
         GlobalStatisticsDTO stats = statisticsUseCase.getGlobalStatistics(pageable);
         return ResponseEntity.ok(stats);
     }
+
+    /**
+     * Retorna um trecho do ranking por cursor: o cliente envia a pontuação e o
+     * login do último usuário que recebeu (nenhum dos dois no primeiro
+     * trecho). Páginas profundas custam o mesmo que a primeira.
+     */
+    @GetMapping("/ranking")
+    public ResponseEntity<RankingPageDTO> getRanking(
+            @RequestParam(required = false) Integer afterScore,
+            @RequestParam(required = false) String afterLogin,
+            @RequestParam(defaultValue = "5") int size) {
+        return ResponseEntity.ok(statisticsUseCase.getRankingAfter(afterScore, afterLogin, size));
+    }
 }
@@ -0,0 +1,13 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// --- Novo ouro de uma entidade, em um delta ---
+@Data
+@NoArgsConstructor
+public class EntityGoldDTO {
+
+    private int id;
+    private double gold;
+}
@@ -0,0 +1,13 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// --- Nova posição de uma entidade, em um delta ---
+@Data
+@NoArgsConstructor
+public class EntityPositionDTO {
+
+    private int id;
+    private double x;
+}
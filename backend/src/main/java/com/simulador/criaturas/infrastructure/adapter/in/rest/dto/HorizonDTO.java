@@ -2,9 +2,12 @@ package com.simulador.criaturas.infrastructure.adapter.in.rest.dto;
 
 import java.util.List;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.simulador.criaturas.utils.SimulationStatus;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -16,6 +19,8 @@ public class HorizonDTO {
 
     @NotNull(message = "A lista de entidades não pode ser nula.")
     @Valid
+    @JsonSerialize(using = HorizonEntityListSerializer.class)
+    @JsonDeserialize(using = HorizonEntityListDeserializer.class)
     private List<HorizonEntityDTO> entities;
 
     @NotNull(message = "O guardião não pode ser nulo.")
@@ -24,4 +29,10 @@ public class HorizonDTO {
 
     @NotNull(message = "O status da simulação não pode ser nulo.")
     private SimulationStatus status;
+
+    // Opcionais: sem semente, os turnos usam o gerador compartilhado.
+    private Long seed;
+
+    @Min(value = 0, message = "O turno não pode ser negativo.")
+    private int turn;
 }
@@ -0,0 +1,33 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Diferença entre dois turnos de uma simulação. O cliente só deve aplicá-la
+ * se estiver no turno 'baseTurn'; se 'resync' for verdadeiro, 'added' e
+ * 'guardiao' são o estado completo.
+ */
+@Data
+@NoArgsConstructor
+public class HorizonDeltaDTO {
+
+    private int baseTurn;
+    private int turn;
+    private boolean resync;
+    private SimulationStatus status;
+    private List<EntityPositionDTO> moved;
+    private List<EntityGoldDTO> goldChanged;
+    private int[] removed;
+    @JsonSerialize(using = HorizonEntityListSerializer.class)
+    @JsonDeserialize(using = HorizonEntityListDeserializer.class)
+    private List<HorizonEntityDTO> added;
+    // Nulo quando o guardião não mudou.
+    private GuardianDTO guardiao;
+}
@@ -0,0 +1,68 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest.dto;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/*
+ * Lê uma lista de entidades do horizonte no formato escrito por
+ * HorizonEntityListSerializer: o bloco de bytes compacto dos formatos
+ * binários ou o array polimórfico do JSON.
+ */
+public class HorizonEntityListDeserializer extends StdDeserializer<List<HorizonEntityDTO>> {
+
+    public HorizonEntityListDeserializer() {
+        super(List.class);
+    }
+
+    @Override
+    public List<HorizonEntityDTO> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            return unpack(p.getBinaryValue(), ctxt);
+        }
+        if (token != JsonToken.START_ARRAY) {
+            return ctxt.reportInputMismatch(this, "A lista de entidades deve ser um array ou um bloco binário.");
+        }
+        List<HorizonEntityDTO> entities = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            entities.add(p.currentToken() == JsonToken.VALUE_NULL
+                    ? null
+                    : ctxt.readValue(p, HorizonEntityDTO.class));
+        }
+        return entities;
+    }
+
+    private List<HorizonEntityDTO> unpack(byte[] bytes, DeserializationContext ctxt) throws IOException {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            int count = buffer.getInt();
+            if (count < 0 || buffer.remaining() != (long) count * HorizonEntityListSerializer.RECORD_BYTES) {
+                throw new BufferUnderflowException();
+            }
+            List<HorizonEntityDTO> entities = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                byte kind = buffer.get();
+                HorizonEntityDTO entity = switch (kind) {
+                    case HorizonEntityListSerializer.KIND_UNIT -> new CreatureUnitDTO();
+                    case HorizonEntityListSerializer.KIND_CLUSTER -> new CreatureClusterDTO();
+                    default -> throw new IllegalArgumentException("Tipo de entidade desconhecido: " + kind);
+                };
+                entity.setId(buffer.getInt());
+                entity.setX(buffer.getDouble());
+                entity.setGold(buffer.getDouble());
+                entities.add(entity);
+            }
+            return entities;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return ctxt.reportInputMismatch(this, "Bloco binário de entidades inválido.");
+        }
+    }
+}
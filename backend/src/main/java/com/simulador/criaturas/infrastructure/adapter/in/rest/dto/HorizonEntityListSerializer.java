@@ -0,0 +1,64 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest.dto;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/*
+ * Serializa uma lista de entidades do horizonte.
+ *
+ * Em JSON, escreve o mesmo array polimórfico de sempre (com o campo "type").
+ * Em formatos binários (como CBOR, em application/cbor), escreve um único
+ * bloco de bytes com registros de tamanho fixo, em vez de um mapa com nomes de
+ * campo por entidade (big-endian):
+ *   int quantidade de entidades
+ *   e, para cada entidade: byte tipo (0 = unidade, 1 = cluster), int id,
+ *   double x, double ouro
+ *
+ * HorizonEntityListDeserializer lê os dois formatos.
+ */
+public class HorizonEntityListSerializer extends StdSerializer<List<HorizonEntityDTO>> {
+
+    static final byte KIND_UNIT = 0;
+    static final byte KIND_CLUSTER = 1;
+    static final int RECORD_BYTES = 1 + 4 + 8 + 8;
+
+    @SuppressWarnings("unchecked")
+    public HorizonEntityListSerializer() {
+        super((Class<List<HorizonEntityDTO>>) (Class<?>) List.class);
+    }
+
+    @Override
+    public void serialize(List<HorizonEntityDTO> entities, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (gen.canWriteBinaryNatively()) {
+            gen.writeBinary(pack(entities));
+            return;
+        }
+        gen.writeStartArray(entities, entities.size());
+        for (HorizonEntityDTO entity : entities) {
+            if (entity == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                provider.findTypedValueSerializer(entity.getClass(), true, null).serialize(entity, gen, provider);
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    static byte[] pack(List<HorizonEntityDTO> entities) {
+        ByteBuffer buffer = ByteBuffer.allocate(4 + entities.size() * RECORD_BYTES);
+        buffer.putInt(entities.size());
+        for (HorizonEntityDTO entity : entities) {
+            buffer.put(entity instanceof CreatureClusterDTO ? KIND_CLUSTER : KIND_UNIT)
+                    .putInt(entity.getId())
+                    .putDouble(entity.getX())
+                    .putDouble(entity.getGold());
+        }
+        return buffer.array();
+    }
+}
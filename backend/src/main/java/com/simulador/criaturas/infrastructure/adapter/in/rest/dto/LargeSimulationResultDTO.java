@@ -0,0 +1,24 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest.dto;
+
+import com.simulador.criaturas.utils.SimulationStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resumo de uma simulação grande. Não traz a lista de entidades, que pode ter
+ * milhões de elementos.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LargeSimulationResultDTO {
+
+    private int creatures;
+    private int iterations;
+    private SimulationStatus status;
+    private int remainingEntities;
+    private GuardianDTO guardiao;
+    private long elapsedMillis;
+}
@@ -0,0 +1,32 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest.dto;
+
+import java.util.SortedMap;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado agregado de um lote de simulações (Monte Carlo).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonteCarloResultDTO {
+
+    private int creatures;
+    private int runs;
+    private long successes;
+    private double successRate;
+
+    // Turnos até o fim -> quantidade de execuções.
+    private SortedMap<Integer, Long> turnsHistogram;
+
+    private double guardianGoldMin;
+    private double guardianGoldMean;
+    private double guardianGoldMax;
+    private double guardianGoldBucketWidth;
+    private long[] guardianGoldHistogram;
+
+    private long elapsedMillis;
+}
@@ -0,0 +1,21 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de várias iterações em uma única requisição: os quadros
+ * intermediários amostrados, em ordem de turno, e o estado final.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultiStepIterationDTO {
+
+    private int passosExecutados;
+    private List<HorizonDTO> quadros;
+    private HorizonDTO estadoFinal;
+}
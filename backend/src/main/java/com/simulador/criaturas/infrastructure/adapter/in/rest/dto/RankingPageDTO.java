@@ -0,0 +1,22 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingPageDTO {
+
+    // Usuários do trecho, em ordem de ranking
+    private List<UserStatisticsDTO> users;
+
+    // Cursor para o próximo trecho: o par (pontuação, login) do último usuário
+    // devolvido, nulo quando não há mais usuários
+    private boolean hasMore;
+    private Integer nextAfterScore;
+    private String nextAfterLogin;
+}
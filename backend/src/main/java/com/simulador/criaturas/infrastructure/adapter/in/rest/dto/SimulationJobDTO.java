@@ -0,0 +1,23 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest.dto;
+
+import com.simulador.criaturas.utils.JobStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Estado de um job de simulação assíncrona. 'resultado' só é preenchido
+ * quando o status é DONE, e 'erro' quando é FAILED.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationJobDTO {
+
+    private String id;
+    private JobStatus status;
+    private int numeroDeCriaturas;
+    private HorizonDTO resultado;
+    private String erro;
+}
@@ -0,0 +1,23 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest.dto;
+
+import com.simulador.criaturas.utils.SimulationStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Uma simulação registrada para replay: o que basta para reconstruir o estado
+ * de qualquer turno entre 0 e 'turnos'.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationReplayDTO {
+
+    private Long id;
+    private int numeroDeCriaturas;
+    private long seed;
+    private int turnos;
+    private SimulationStatus status;
+}
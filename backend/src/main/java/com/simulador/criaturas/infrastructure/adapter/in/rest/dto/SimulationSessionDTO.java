@@ -0,0 +1,18 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Uma simulação mantida no servidor: o id a usar nas próximas iterações e o
+ * estado atual do horizonte.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationSessionDTO {
+
+    private String id;
+    private HorizonDTO horizonte;
+}
@@ -7,10 +7,12 @@ import com.simulador.criaturas.domain.model.CreatureCluster;
 import com.simulador.criaturas.domain.model.CreatureUnit;
 import com.simulador.criaturas.domain.model.Guardian;
 import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.model.HorizonDelta;
 import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.CreatureClusterDTO;
 import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.CreatureUnitDTO;
 import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.GuardianDTO;
 import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.HorizonDTO;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.HorizonDeltaDTO;
 import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.HorizonEntityDTO;
 
 @Mapper(componentModel = "spring")
@@ -34,6 +36,8 @@ public interface HorizonMapper {
 
     CreatureClusterDTO toDto(CreatureCluster domain);
 
+    HorizonDeltaDTO toDto(HorizonDelta domain);
+
     // --- LÓGICA POLIMÓRFICA CUSTOMIZADA ---
     // Este método ensina o MapStruct a converter do Domínio para o DTO correto
     default HorizonEntityDTO toEntityDto(HorizonEntities entity) {
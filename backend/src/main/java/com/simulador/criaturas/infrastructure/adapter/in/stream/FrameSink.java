@@ -0,0 +1,34 @@
+package com.simulador.criaturas.infrastructure.adapter.in.stream;
+
+import java.io.IOException;
+
+import com.simulador.criaturas.domain.model.Horizon;
+
+/*
+ * Destino dos quadros de uma simulação transmitida (SSE, WebSocket...).
+ * Os métodos são chamados sempre pela mesma thread de cada transmissão.
+ */
+public interface FrameSink {
+
+    /**
+     * Envia o estado atual da simulação.
+     *
+     * @param horizonte O horizonte no turno atual; não deve ser guardado, pois
+     * continua sendo alterado pelos próximos turnos.
+     * @throws IOException Se o cliente não puder mais receber quadros.
+     */
+    void send(Horizon horizonte) throws IOException;
+
+    /**
+     * Encerra a transmissão depois do último quadro.
+     */
+    void complete();
+
+    /**
+     * Encerra a transmissão por causa de um erro (inclusive cliente
+     * desconectado).
+     *
+     * @param error O erro que encerrou a transmissão.
+     */
+    void fail(Exception error);
+}
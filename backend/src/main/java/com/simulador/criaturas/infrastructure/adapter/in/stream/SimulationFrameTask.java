@@ -0,0 +1,114 @@
+package com.simulador.criaturas.infrastructure.adapter.in.stream;
+
+import java.io.IOException;
+
+import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.port.in.SimulacaoUseCase;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+/*
+ * Um quadro de uma simulação transmitida: a primeira execução envia o estado
+ * inicial, e cada uma das seguintes avança 'stride' turnos e envia o estado
+ * resultante. É agendada a uma taxa fixa (a taxa de
+ * quadros); como um agendamento a taxa fixa nunca sobrepõe execuções, o
+ * Horizon é alterado por uma thread de cada vez.
+ *
+ * Os turnos passam pelo SimulacaoUseCase, então as estatísticas do usuário são
+ * atualizadas uma única vez, quando a simulação termina. A transmissão para
+ * quando o status deixa de ser RUNNING, quando 'maxTurns' é atingido ou
+ * quando o cliente deixa de receber quadros.
+ */
+public class SimulationFrameTask implements Runnable {
+
+    private final SimulacaoUseCase simulacaoUseCase;
+    private final Horizon horizonte;
+    private final Long userId;
+    private final int stride;
+    private final int maxTurns;
+    private final FrameSink sink;
+
+    private boolean started;
+    private volatile boolean done;
+    private Runnable onDone;
+
+    /**
+     * @param simulacaoUseCase O caso de uso que executa cada turno.
+     * @param horizonte O estado inicial, alterado a cada quadro.
+     * @param userId O usuário que recebe as estatísticas ao final.
+     * @param stride Quantos turnos cada quadro avança.
+     * @param maxTurns O limite de turnos da transmissão.
+     * @param sink O destino dos quadros.
+     * @throws IllegalArgumentException Se 'stride' ou 'maxTurns' não forem
+     * positivos.
+     */
+    public SimulationFrameTask(SimulacaoUseCase simulacaoUseCase, Horizon horizonte, Long userId, int stride,
+            int maxTurns, FrameSink sink) {
+        if (stride < 1 || maxTurns < 1) {
+            throw new IllegalArgumentException("O passo e o limite de turnos devem ser positivos.");
+        }
+        this.simulacaoUseCase = simulacaoUseCase;
+        this.horizonte = horizonte;
+        this.userId = userId;
+        this.stride = stride;
+        this.maxTurns = maxTurns;
+        this.sink = sink;
+    }
+
+    @Override
+    public void run() {
+        if (done) {
+            return;
+        }
+        try {
+            if (started) {
+                for (int i = 0; i < stride && !finished(); i++) {
+                    simulacaoUseCase.runNextSimulation(horizonte, userId, true);
+                }
+            }
+            started = true;
+            sink.send(horizonte);
+            if (finished()) {
+                stop();
+                sink.complete();
+            }
+        } catch (IOException | RuntimeException e) {
+            // Cliente desconectado ou erro no turno: a transmissão termina aqui.
+            stop();
+            sink.fail(e);
+        }
+    }
+
+    /**
+     * Registra a ação a executar quando a transmissão terminar (por exemplo,
+     * cancelar o agendamento). Se ela já terminou, a ação é executada agora.
+     *
+     * @param action A ação de término.
+     */
+    public synchronized void onDone(Runnable action) {
+        this.onDone = action;
+        if (done) {
+            action.run();
+        }
+    }
+
+    /**
+     * Interrompe a transmissão; as próximas execuções não fazem nada.
+     */
+    public synchronized void stop() {
+        if (done) {
+            return;
+        }
+        done = true;
+        if (onDone != null) {
+            onDone.run();
+        }
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    private boolean finished() {
+        return horizonte.getStatus() != SimulationStatus.RUNNING || horizonte.getTurn() >= maxTurns;
+    }
+}
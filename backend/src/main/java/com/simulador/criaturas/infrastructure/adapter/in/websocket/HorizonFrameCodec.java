@@ -0,0 +1,102 @@
+package com.simulador.criaturas.infrastructure.adapter.in.websocket;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.simulador.criaturas.domain.behaviors.HorizonEntities;
+import com.simulador.criaturas.domain.model.CreatureCluster;
+import com.simulador.criaturas.domain.model.Guardian;
+import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+/*
+ * Formato binário das mensagens do WebSocket de simulação (big-endian).
+ *
+ * Quadro, do servidor para o cliente:
+ *   byte   'F'
+ *   byte   status (0 = RUNNING, 1 = SUCCESSFUL, 2 = FAILED)
+ *   int    turno
+ *   int    id do guardião (-1 se não houver)
+ *   double x do guardião
+ *   double ouro do guardião
+ *   int    quantidade de entidades
+ *   e, para cada entidade, um registro de tamanho fixo (RECORD_BYTES):
+ *   int id, double x, double ouro, byte tipo (0 = unidade, 1 = cluster)
+ *
+ * Erro, do servidor para o cliente: byte 'E' seguido da mensagem em UTF-8.
+ *
+ * Comandos, do cliente para o servidor (byte de operação e argumentos):
+ *   START        int numeroDeCriaturas [long seed]
+ *   PLAY         int quadros por segundo
+ *   PAUSE
+ *   STEP
+ *   FAST_FORWARD int turnos
+ */
+public final class HorizonFrameCodec {
+
+    public static final byte FRAME = 'F';
+    public static final byte ERROR = 'E';
+
+    public static final byte START = 1;
+    public static final byte PLAY = 2;
+    public static final byte PAUSE = 3;
+    public static final byte STEP = 4;
+    public static final byte FAST_FORWARD = 5;
+
+    public static final byte KIND_UNIT = 0;
+    public static final byte KIND_CLUSTER = 1;
+
+    public static final int HEADER_BYTES = 1 + 1 + 4 + 4 + 8 + 8 + 4;
+    public static final int RECORD_BYTES = 4 + 8 + 8 + 1;
+
+    private HorizonFrameCodec() {
+    }
+
+    /**
+     * Codifica o estado de um horizonte em um quadro.
+     *
+     * @param horizonte O horizonte a codificar.
+     * @return Um buffer pronto para leitura com o quadro completo.
+     */
+    public static ByteBuffer encodeFrame(Horizon horizonte) {
+        List<HorizonEntities> entities = horizonte.getEntitiesView();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + entities.size() * RECORD_BYTES);
+        buffer.put(FRAME);
+        buffer.put(statusCode(horizonte.getStatus()));
+        buffer.putInt(horizonte.getTurn());
+        Guardian guardiao = horizonte.getGuardiao();
+        if (guardiao == null) {
+            buffer.putInt(-1).putDouble(0).putDouble(0);
+        } else {
+            buffer.putInt(guardiao.getId()).putDouble(guardiao.getX()).putDouble(guardiao.getGold());
+        }
+        buffer.putInt(entities.size());
+        for (HorizonEntities entity : entities) {
+            buffer.putInt(entity.getId())
+                    .putDouble(entity.getX())
+                    .putDouble(entity.getGold())
+                    .put(entity instanceof CreatureCluster ? KIND_CLUSTER : KIND_UNIT);
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Codifica uma mensagem de erro.
+     *
+     * @param mensagem A mensagem do erro.
+     * @return Um buffer pronto para leitura.
+     */
+    public static ByteBuffer encodeError(String mensagem) {
+        byte[] texto = (mensagem == null ? "" : mensagem).getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(1 + texto.length).put(ERROR).put(texto).flip();
+    }
+
+    private static byte statusCode(SimulationStatus status) {
+        return switch (status) {
+            case RUNNING -> 0;
+            case SUCCESSFUL -> 1;
+            case FAILED -> 2;
+        };
+    }
+}
@@ -0,0 +1,203 @@
+package com.simulador.criaturas.infrastructure.adapter.in.websocket;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.security.Principal;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+
+import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.model.User;
+import com.simulador.criaturas.domain.port.in.SimulacaoUseCase;
+import com.simulador.criaturas.domain.port.in.UserUseCase;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+/*
+ * Controla uma simulação por conexão WebSocket, com o protocolo binário de
+ * HorizonFrameCodec. O cliente envia START, PLAY, PAUSE, STEP e FAST_FORWARD;
+ * o servidor responde com quadros (ou mensagens de erro) na mesma conexão.
+ *
+ * Os turnos passam pelo SimulacaoUseCase, então as estatísticas do usuário são
+ * atualizadas uma única vez, quando a simulação termina. Os comandos e as
+ * execuções agendadas de PLAY são serializados pela conexão, então o Horizon é
+ * alterado, e a sessão recebe mensagens, por uma thread de cada vez.
+ */
+@Component
+public class SimulationWebSocketHandler extends BinaryWebSocketHandler {
+
+    private static final String CONNECTION = "simulationConnection";
+
+    private final SimulacaoUseCase simulacaoUseCase;
+    private final UserUseCase userUseCase;
+    private final ScheduledExecutorService scheduler;
+    private final int maxFps;
+    private final int maxTurns;
+
+    public SimulationWebSocketHandler(SimulacaoUseCase simulacaoUseCase, UserUseCase userUseCase,
+            ScheduledExecutorService simulationStreamScheduler,
+            @Value("${simulation.stream.max-fps:60}") int maxFps,
+            @Value("${simulation.stream.max-turns:10000}") int maxTurns) {
+        this.simulacaoUseCase = simulacaoUseCase;
+        this.userUseCase = userUseCase;
+        this.scheduler = simulationStreamScheduler;
+        this.maxFps = maxFps;
+        this.maxTurns = maxTurns;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        Principal principal = session.getPrincipal();
+        User user = principal == null ? null : userUseCase.findUserByLogin(principal.getName()).orElse(null);
+        if (user == null) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("Usuário autenticado não encontrado."));
+            return;
+        }
+        session.getAttributes().put(CONNECTION, new Connection(session, user.getId()));
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+        Connection connection = (Connection) session.getAttributes().get(CONNECTION);
+        if (connection == null) {
+            return;
+        }
+        ByteBuffer comando = message.getPayload();
+        try {
+            if (!comando.hasRemaining()) {
+                throw new IllegalArgumentException("Comando vazio.");
+            }
+            switch (comando.get()) {
+                case HorizonFrameCodec.START -> connection.start(comando.getInt(),
+                        comando.remaining() >= Long.BYTES ? comando.getLong() : null);
+                case HorizonFrameCodec.PLAY -> connection.play(comando.getInt());
+                case HorizonFrameCodec.PAUSE -> connection.pause();
+                case HorizonFrameCodec.STEP -> connection.advance(1);
+                case HorizonFrameCodec.FAST_FORWARD -> connection.advance(comando.getInt());
+                default -> throw new IllegalArgumentException("Comando desconhecido.");
+            }
+        } catch (BufferUnderflowException e) {
+            connection.sendError("Comando incompleto.");
+        } catch (IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+            connection.sendError(e.getMessage());
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Connection connection = (Connection) session.getAttributes().remove(CONNECTION);
+        if (connection != null) {
+            connection.pause();
+        }
+    }
+
+    /*
+     * O estado de uma conexão: a simulação em andamento e, durante PLAY, o
+     * agendamento que avança um turno por quadro.
+     */
+    private final class Connection implements Runnable {
+
+        private final WebSocketSession session;
+        private final Long userId;
+        private Horizon horizonte;
+        private ScheduledFuture<?> playing;
+
+        private Connection(WebSocketSession session, Long userId) {
+            this.session = session;
+            this.userId = userId;
+        }
+
+        synchronized void start(int numeroDeCriaturas, Long seed) throws IOException {
+            pause();
+            horizonte = seed == null
+                    ? simulacaoUseCase.initNewSimulation(numeroDeCriaturas)
+                    : simulacaoUseCase.initNewSimulation(numeroDeCriaturas, seed);
+            send(HorizonFrameCodec.encodeFrame(horizonte));
+        }
+
+        synchronized void play(int fps) {
+            if (fps < 1 || fps > maxFps) {
+                throw new IllegalArgumentException("A taxa de quadros deve estar entre 1 e " + maxFps + ".");
+            }
+            requireSimulation();
+            pause();
+            long periodMicros = TimeUnit.SECONDS.toMicros(1) / fps;
+            playing = scheduler.scheduleAtFixedRate(this, periodMicros, periodMicros, TimeUnit.MICROSECONDS);
+        }
+
+        synchronized void pause() {
+            if (playing != null) {
+                playing.cancel(false);
+                playing = null;
+            }
+        }
+
+        /**
+         * Avança até 'turnos' turnos e envia o estado resultante em um único
+         * quadro. Para antes se a simulação terminar ou atingir o limite de
+         * turnos; nesse caso, um PLAY em andamento é encerrado.
+         */
+        synchronized void advance(int turnos) throws IOException {
+            if (turnos < 1 || turnos > maxTurns) {
+                throw new IllegalArgumentException("O número de turnos deve estar entre 1 e " + maxTurns + ".");
+            }
+            requireSimulation();
+            for (int i = 0; i < turnos && !finished(); i++) {
+                simulacaoUseCase.runNextSimulation(horizonte, userId, true);
+            }
+            send(HorizonFrameCodec.encodeFrame(horizonte));
+            if (finished()) {
+                pause();
+            }
+        }
+
+        @Override
+        public synchronized void run() {
+            if (playing == null) {
+                return;
+            }
+            try {
+                advance(1);
+            } catch (IOException e) {
+                // Cliente desconectado: a reprodução termina aqui.
+                pause();
+            } catch (RuntimeException e) {
+                pause();
+                sendError(e.getMessage());
+            }
+        }
+
+        synchronized void sendError(String mensagem) {
+            try {
+                send(HorizonFrameCodec.encodeError(mensagem));
+            } catch (IOException e) {
+                pause();
+            }
+        }
+
+        private void send(ByteBuffer payload) throws IOException {
+            if (session.isOpen()) {
+                session.sendMessage(new BinaryMessage(payload));
+            }
+        }
+
+        private void requireSimulation() {
+            if (horizonte == null) {
+                throw new IllegalStateException("Nenhuma simulação iniciada. Envie START primeiro.");
+            }
+        }
+
+        private boolean finished() {
+            return horizonte.getStatus() != SimulationStatus.RUNNING || horizonte.getTurn() >= maxTurns;
+        }
+    }
+}
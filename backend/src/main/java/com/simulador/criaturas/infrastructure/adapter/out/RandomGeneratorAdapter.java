@@ -1,5 +1,7 @@
 package com.simulador.criaturas.infrastructure.adapter.out;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 import org.springframework.stereotype.Component;
 
 import com.simulador.criaturas.domain.port.out.RandomPort;
@@ -8,10 +10,23 @@ import com.simulador.criaturas.domain.port.out.RandomPort;
 public class RandomGeneratorAdapter implements RandomPort {
 
     /**
-     * @return um double aleatório no intervalo [-1, 1].
+     * @return um double aleatório no intervalo [-1, 1], de um gerador próprio
+     * da thread chamadora (sem disputa entre requisições).
      */
     @Override
     public double nextFactor() {
-        return -1 + Math.random() * 2.0000001;
+        return ThreadLocalRandom.current().nextDouble(-1.0, Math.nextUp(1.0));
+    }
+
+    /**
+     * Preenche out[0..n) com fatores no intervalo [-1, 1], obtendo o gerador
+     * da thread uma única vez.
+     */
+    @Override
+    public void fill(double[] out, int n) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < n; i++) {
+            out[i] = random.nextDouble(-1.0, Math.nextUp(1.0));
+        }
     }
 }
@@ -0,0 +1,78 @@
+package com.simulador.criaturas.infrastructure.adapter.out;
+
+import java.util.SplittableRandom;
+
+import org.springframework.stereotype.Component;
+
+import com.simulador.criaturas.domain.port.out.RandomPort;
+import com.simulador.criaturas.domain.port.out.SeededRandomPortFactory;
+
+@Component
+public class SplittableRandomPortFactory implements SeededRandomPortFactory {
+
+    // Constante ímpar do SplittableRandom (a parte fracionária da razão áurea).
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    // Fonte das sementes novas. Só newSeed a usa, e é a única chamada
+    // sincronizada: uma vez por simulação, e não a cada fator sorteado.
+    private final SplittableRandom seeds = new SplittableRandom();
+
+    /**
+     * @return uma semente nova, sorteada de um gerador próprio da fábrica.
+     */
+    @Override
+    public synchronized long newSeed() {
+        return seeds.nextLong();
+    }
+
+    /**
+     * @return um gerador exclusivo do turno: um SplittableRandom semeado com
+     * mix(semente, turno).
+     */
+    @Override
+    public RandomPort forTurn(long seed, int turn) {
+        if (turn < 0) {
+            throw new IllegalArgumentException("O turno não pode ser negativo.");
+        }
+        return new SplittableRandomAdapter(new SplittableRandom(mix(seed, turn)));
+    }
+
+    // Semente do turno. A multiplicação pela constante ímpar separa (s, t + 1)
+    // de (s + 1, t), que com seed + turn cairiam no mesmo valor; o primeiro
+    // nextLong do SplittableRandom espalha os bits, para que turnos vizinhos
+    // não produzam sequências deslocadas umas das outras.
+    private static long mix(long seed, int turn) {
+        return new SplittableRandom(seed * GOLDEN_GAMMA + turn).nextLong();
+    }
+
+    /*
+     * RandomPort sobre um SplittableRandom, sem sincronização: cada instância
+     * pertence a um único turno de uma única simulação.
+     */
+    static final class SplittableRandomAdapter implements RandomPort {
+
+        private final SplittableRandom random;
+
+        SplittableRandomAdapter(SplittableRandom random) {
+            this.random = random;
+        }
+
+        /**
+         * @return um double aleatório no intervalo [-1, 1].
+         */
+        @Override
+        public double nextFactor() {
+            return random.nextDouble(-1.0, Math.nextUp(1.0));
+        }
+
+        /**
+         * Preenche out[0..n) com fatores no intervalo [-1, 1].
+         */
+        @Override
+        public void fill(double[] out, int n) {
+            for (int i = 0; i < n; i++) {
+                out[i] = random.nextDouble(-1.0, Math.nextUp(1.0));
+            }
+        }
+    }
+}
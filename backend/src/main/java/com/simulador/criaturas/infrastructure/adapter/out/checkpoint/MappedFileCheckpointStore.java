@@ -0,0 +1,233 @@
+package com.simulador.criaturas.infrastructure.adapter.out.checkpoint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.simulador.criaturas.domain.model.CompactHorizon;
+import com.simulador.criaturas.domain.model.Guardian;
+import com.simulador.criaturas.domain.port.out.LargeSimulationCheckpointPort;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+/*
+ * Grava os checkpoints em arquivos mapeados em memória (FileChannel.map), um
+ * arquivo <id>.ckpt por simulação, com layout fixo:
+ *
+ *   int    MAGIC
+ *   int    VERSION
+ *   int    turno
+ *   byte   status (ordinal de SimulationStatus)
+ *   int    id do guardião (-1 se não houver)
+ *   double x do guardião
+ *   double ouro do guardião
+ *   int    quantidade de entidades
+ *   e, para cada entidade, um registro de RECORD_BYTES:
+ *   int id, double x, double ouro, byte tipo (CompactHorizon.KIND_*)
+ *
+ * O arquivo é escrito em <id>.ckpt.tmp, forçado para o disco e só então
+ * renomeado por cima do anterior, então uma queda durante a gravação deixa o
+ * checkpoint anterior intacto.
+ *
+ * A thread da simulação só copia os vetores do horizonte para um buffer
+ * reservado por id; a escrita acontece no executor de checkpoints. Enquanto
+ * uma escrita do mesmo id não termina, os checkpoints seguintes são
+ * descartados em vez de enfileirados.
+ */
+@Component
+public class MappedFileCheckpointStore implements LargeSimulationCheckpointPort {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedFileCheckpointStore.class);
+
+    static final int MAGIC = 0x434B5054;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 4 + 4 + 4 + 1 + 4 + 8 + 8 + 4;
+    static final int RECORD_BYTES = 4 + 8 + 8 + 1;
+
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9_-]{1,96}");
+
+    private final Path directory;
+    private final ExecutorService writer;
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+    public MappedFileCheckpointStore(
+            @Value("${simulation.large.checkpoint-dir:${java.io.tmpdir}/simulador-checkpoints}") Path directory,
+            @Qualifier("checkpointWriterExecutor") ExecutorService writer) {
+        this.directory = directory;
+        this.writer = writer;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível criar o diretório de checkpoints.", e);
+        }
+    }
+
+    @Override
+    public boolean offer(String checkpointId, CompactHorizon horizonte) {
+        Path target = pathFor(checkpointId);
+        Slot slot = slots.computeIfAbsent(checkpointId, ignored -> new Slot());
+        if (!slot.writing.tryAcquire()) {
+            return false;
+        }
+        boolean scheduled = false;
+        try {
+            horizonte.copyTo(slot.spare);
+            writer.execute(() -> {
+                try {
+                    write(slot.spare, target);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Falha ao gravar o checkpoint {}", checkpointId, e);
+                } finally {
+                    slot.writing.release();
+                }
+            });
+            scheduled = true;
+        } catch (RejectedExecutionException e) {
+            // Executor encerrado (desligamento do servidor): o checkpoint é descartado.
+        } finally {
+            if (!scheduled) {
+                slot.writing.release();
+            }
+        }
+        return scheduled;
+    }
+
+    @Override
+    public Optional<CompactHorizon> load(String checkpointId) {
+        Path target = pathFor(checkpointId);
+        awaitWrite(checkpointId);
+        if (!Files.exists(target)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(read(target));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível ler o checkpoint " + checkpointId + ".", e);
+        }
+    }
+
+    @Override
+    public void delete(String checkpointId) {
+        Path target = pathFor(checkpointId);
+        awaitWrite(checkpointId);
+        slots.remove(checkpointId);
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível remover o checkpoint " + checkpointId + ".", e);
+        }
+    }
+
+    private void awaitWrite(String checkpointId) {
+        Slot slot = slots.get(checkpointId);
+        if (slot != null) {
+            slot.writing.acquireUninterruptibly();
+            slot.writing.release();
+        }
+    }
+
+    private Path pathFor(String checkpointId) {
+        if (checkpointId == null || !VALID_ID.matcher(checkpointId).matches()) {
+            throw new IllegalArgumentException(
+                    "O id do checkpoint deve ter de 1 a 96 letras, dígitos, '-' ou '_'.");
+        }
+        return directory.resolve(checkpointId + ".ckpt");
+    }
+
+    static void write(CompactHorizon horizonte, Path target) throws IOException {
+        int size = horizonte.size();
+        long bytes = HEADER_BYTES + (long) size * RECORD_BYTES;
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IOException("O checkpoint excede o tamanho de um único mapeamento.");
+        }
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(horizonte.getTurn());
+            buffer.put((byte) horizonte.getStatus().ordinal());
+            Guardian guardiao = horizonte.getGuardiao();
+            if (guardiao == null) {
+                buffer.putInt(-1).putDouble(0).putDouble(0);
+            } else {
+                buffer.putInt(guardiao.getId()).putDouble(guardiao.getX()).putDouble(guardiao.getGold());
+            }
+            buffer.putInt(size);
+            for (int i = 0; i < size; i++) {
+                buffer.putInt(horizonte.getId(i))
+                        .putDouble(horizonte.getX(i))
+                        .putDouble(horizonte.getGold(i))
+                        .put(horizonte.getKind(i));
+            }
+            buffer.force();
+        }
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    static CompactHorizon read(Path source) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            long bytes = channel.size();
+            if (bytes < HEADER_BYTES || bytes > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Checkpoint corrompido: " + source.getFileName());
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, bytes);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IllegalStateException("Checkpoint corrompido: " + source.getFileName());
+            }
+            int turn = buffer.getInt();
+            int statusOrdinal = buffer.get();
+            int guardianId = buffer.getInt();
+            double guardianX = buffer.getDouble();
+            double guardianGold = buffer.getDouble();
+            int size = buffer.getInt();
+            SimulationStatus[] statuses = SimulationStatus.values();
+            if (statusOrdinal < 0 || statusOrdinal >= statuses.length || size < 0
+                    || buffer.remaining() != (long) size * RECORD_BYTES) {
+                throw new IllegalStateException("Checkpoint corrompido: " + source.getFileName());
+            }
+
+            CompactHorizon horizonte = new CompactHorizon(size);
+            for (int i = 0; i < size; i++) {
+                int id = buffer.getInt();
+                double x = buffer.getDouble();
+                double gold = buffer.getDouble();
+                byte kind = buffer.get();
+                if (kind != CompactHorizon.KIND_UNIT && kind != CompactHorizon.KIND_CLUSTER) {
+                    throw new IllegalStateException("Checkpoint corrompido: " + source.getFileName());
+                }
+                horizonte.add(id, x, gold, kind);
+            }
+            if (guardianId >= 0) {
+                horizonte.setGuardiao(new Guardian(guardianId, guardianX, guardianGold));
+            }
+            horizonte.setTurn(turn);
+            horizonte.setStatus(statuses[statusOrdinal]);
+            return horizonte;
+        }
+    }
+
+    // Buffer reservado de um id e a marca de gravação em andamento (liberada
+    // pela thread de escrita).
+    private static final class Slot {
+
+        private final CompactHorizon spare = new CompactHorizon(0);
+        private final Semaphore writing = new Semaphore(1);
+    }
+}
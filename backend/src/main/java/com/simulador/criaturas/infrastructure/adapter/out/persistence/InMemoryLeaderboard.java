@@ -0,0 +1,148 @@
+package com.simulador.criaturas.infrastructure.adapter.out.persistence;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.simulador.criaturas.domain.model.LeaderboardIndex;
+import com.simulador.criaturas.domain.model.User;
+import com.simulador.criaturas.infrastructure.adapter.out.persistence.repository.SpringDataUserRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Cópia em memória do ranking de usuários, carregada do banco na subida e
+ * alterada pelo UserRepositoryAdapter a cada mudança de estatísticas, para que
+ * as páginas do ranking não consultem o banco. Ligada por
+ * 'simulation.leaderboard.in-memory.enabled'.
+ * <p>
+ * A alteração é aplicada na hora, dentro da transação que mudou 'users', e
+ * desfeita se essa transação for revertida.
+ */
+@Component
+public class InMemoryLeaderboard {
+
+    private final SpringDataUserRepository jpaRepository;
+    private final boolean enabled;
+    private final LeaderboardIndex index = new LeaderboardIndex();
+
+    public InMemoryLeaderboard(SpringDataUserRepository jpaRepository,
+            @Value("${simulation.leaderboard.in-memory.enabled:true}") boolean enabled) {
+        this.jpaRepository = jpaRepository;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    void warmUp() {
+        if (enabled) {
+            jpaRepository.findAll().forEach(user -> index.apply(user.getId(), user.getLogin(),
+                    user.getSimulationsRun(), user.getPontuation()));
+        }
+    }
+
+    /**
+     * @return 'true' se as páginas do ranking devem vir da memória.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Devolve uma página do ranking, ordenado por pontuação (desc) e login
+     * (asc, na ordem binária de LeaderboardIndex), sem consultar o banco.
+     *
+     * @param pageable A página pedida; a ordenação dele é ignorada.
+     * @return A página, com o total de usuários do ranking.
+     */
+    public Page<User> page(Pageable pageable) {
+        List<User> content = index.page(pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(content, pageable, index.size());
+    }
+
+    /**
+     * Devolve o trecho do ranking depois do cursor, sem consultar o banco.
+     *
+     * @param afterScore A pontuação do último usuário visto, ou nula para
+     * começar do topo.
+     * @param afterLogin O login do último usuário visto.
+     * @param limit Quantos usuários devolver, no máximo.
+     * @return Os usuários seguintes, em ordem de ranking.
+     */
+    public List<User> after(Integer afterScore, String afterLogin, int limit) {
+        return afterScore == null ? index.page(0, limit) : index.after(afterScore, afterLogin, limit);
+    }
+
+    /**
+     * Registra um usuário novo, ou as diferenças nas estatísticas e no login
+     * de um usuário existente.
+     *
+     * @param userId O ID do usuário.
+     * @param login O login atual; nulo mantém o que já está no ranking.
+     * @param previousLogin O login antes da alteração, usado para desfazê-la;
+     * nulo se o usuário é novo ou se o login não mudou.
+     * @param simulationsDelta Quanto somar ao número de simulações.
+     * @param scoreDelta Quanto somar à pontuação.
+     * @param isNew 'true' se o usuário acabou de ser criado.
+     */
+    public void applyChange(Long userId, String login, String previousLogin, long simulationsDelta,
+            long scoreDelta, boolean isNew) {
+        if (!enabled) {
+            return;
+        }
+        index.apply(userId, login, simulationsDelta, scoreDelta);
+        onRollback(isNew
+                ? () -> index.remove(userId)
+                : () -> index.apply(userId, previousLogin, -simulationsDelta, -scoreDelta));
+    }
+
+    /**
+     * Registra a exclusão de um usuário.
+     *
+     * @param userId O ID do usuário removido.
+     * @param login O login dele.
+     * @param simulationsRun O número de simulações dele, para desfazer a
+     * exclusão.
+     * @param pontuation A pontuação dele, para desfazer a exclusão.
+     */
+    public void applyRemoval(Long userId, String login, long simulationsRun, long pontuation) {
+        if (!enabled) {
+            return;
+        }
+        index.remove(userId);
+        onRollback(() -> index.apply(userId, login, simulationsRun, pontuation));
+    }
+
+    // As alterações de uma transação são desfeitas na ordem inversa (criar e
+    // depois excluir o mesmo usuário, por exemplo), por isso uma pilha por
+    // transação, ligada a ela como recurso.
+    private void onRollback(Runnable undo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Deque<Runnable> pilha = (Deque<Runnable>) TransactionSynchronizationManager.getResource(this);
+        if (pilha == null) {
+            Deque<Runnable> nova = new ArrayDeque<>();
+            TransactionSynchronizationManager.bindResource(this, nova);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(InMemoryLeaderboard.this);
+                    if (status == STATUS_ROLLED_BACK) {
+                        nova.forEach(Runnable::run);
+                    }
+                }
+            });
+            pilha = nova;
+        }
+        pilha.push(undo);
+    }
+}
@@ -0,0 +1,38 @@
+package com.simulador.criaturas.infrastructure.adapter.out.persistence;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.simulador.criaturas.domain.model.SimulationReplay;
+import com.simulador.criaturas.domain.port.out.SimulationReplayRepositoryPort;
+import com.simulador.criaturas.infrastructure.adapter.out.persistence.mapper.SimulationReplayPersistenceMapper;
+import com.simulador.criaturas.infrastructure.adapter.out.persistence.repository.SpringDataSimulationReplayRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class SimulationReplayRepositoryAdapter implements SimulationReplayRepositoryPort {
+
+    private final SpringDataSimulationReplayRepository jpaRepository;
+    private final SimulationReplayPersistenceMapper mapper;
+
+    @Override
+    public SimulationReplay save(SimulationReplay replay) {
+        return mapper.toDomain(jpaRepository.save(mapper.toEntity(replay)));
+    }
+
+    @Override
+    public Optional<SimulationReplay> findById(Long id) {
+        return jpaRepository.findById(id).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<SimulationReplay> findLatestByUserId(Long userId, int limit) {
+        return jpaRepository.findByUserIdOrderByIdDesc(userId, PageRequest.of(0, limit)).stream()
+                .map(mapper::toDomain).toList();
+    }
+}
@@ -1,31 +1,82 @@
 package com.simulador.criaturas.infrastructure.adapter.out.persistence;
 
+import java.sql.Statement;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.simulador.criaturas.domain.model.User;
+import com.simulador.criaturas.domain.model.UserStatsDelta;
 import com.simulador.criaturas.domain.port.out.UserRepositoryPort;
 import com.simulador.criaturas.infrastructure.adapter.out.persistence.entity.UserEntity;
+import com.simulador.criaturas.infrastructure.adapter.out.persistence.entity.UserStatsTotalsEntity;
 import com.simulador.criaturas.infrastructure.adapter.out.persistence.mapper.UserPersistenceMapper;
 import com.simulador.criaturas.infrastructure.adapter.out.persistence.repository.SpringDataUserRepository;
+import com.simulador.criaturas.infrastructure.adapter.out.persistence.repository.SpringDataUserStatsTotalsRepository;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Adaptador de persistência do usuário. Além da tabela 'users', mantém a linha
+ * de 'user_stats_totals': toda operação que muda simulações ou pontuação soma
+ * a diferença nos totais dentro da mesma transação, e countTotalSimulations e
+ * countTotalSuccesses leem essa linha em vez de somar todos os usuários. As
+ * mesmas diferenças vão para o ranking em memória (InMemoryLeaderboard).
+ */
 @Component
 @RequiredArgsConstructor
 public class UserRepositoryAdapter implements UserRepositoryPort {
 
     private final SpringDataUserRepository jpaRepository;
     private final UserPersistenceMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final SpringDataUserStatsTotalsRepository totalsRepository;
+    private final InMemoryLeaderboard leaderboard;
+
+    private static final String RECORD_RESULTS_SQL =
+            "UPDATE users SET simulations_run = simulations_run + ?, pontuation = pontuation + ? WHERE id = ?";
+
+    /**
+     * Cria a linha dos totais a partir das somas atuais, se ela ainda não
+     * existir (banco novo ou anterior à tabela). É a única varredura de
+     * 'users'; depois disso, os totais só recebem as diferenças.
+     */
+    @PostConstruct
+    void seedTotals() {
+        if (totalsRepository.existsById(UserStatsTotalsEntity.SINGLETON_ID)) {
+            return;
+        }
+        try {
+            totalsRepository.save(totalsFromSums());
+        } catch (DataIntegrityViolationException e) {
+            // Outra instância criou a linha ao mesmo tempo.
+        }
+    }
 
     @Override
+    @Transactional
     public User save(User user) {
+        UserEntity anterior = user.getId() != null ? jpaRepository.findById(user.getId()).orElse(null) : null;
+        long simulacoesAntes = anterior != null ? anterior.getSimulationsRun() : 0;
+        long pontuacaoAntes = anterior != null ? anterior.getPontuation() : 0;
+        String loginAntes = anterior != null ? anterior.getLogin() : null;
+
         UserEntity userEntity = mapper.toEntity(user);
         UserEntity savedEntity = jpaRepository.save(userEntity);
+        long simulacoes = savedEntity.getSimulationsRun() - simulacoesAntes;
+        long pontuacao = savedEntity.getPontuation() - pontuacaoAntes;
+        addToTotals(simulacoes, pontuacao);
+        leaderboard.applyChange(savedEntity.getId(), savedEntity.getLogin(), loginAntes, simulacoes, pontuacao,
+                anterior == null);
         return mapper.toDomain(savedEntity);
     }
 
@@ -40,13 +91,18 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
-        jpaRepository.deleteById(id);
+        jpaRepository.findById(id).ifPresent(this::deleteWithTotals);
     }
 
     @Override
+    @Transactional
     public void delete(User user) {
-        jpaRepository.delete(mapper.toEntity(user));
+        if (user.getId() == null) {
+            return;
+        }
+        deleteById(user.getId());
     }
 
     @Override
@@ -54,6 +110,48 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
         save(user);
     }
 
+    @Override
+    @Transactional
+    public boolean recordSimulationResult(Long id, int scoreDelta) {
+        if (jpaRepository.recordSimulationResult(id, scoreDelta) == 0) {
+            return false;
+        }
+        addToTotals(1, scoreDelta);
+        leaderboard.applyChange(id, null, null, 1, scoreDelta, false);
+        return true;
+    }
+
+    // Vai direto pelo JDBC para mandar o lote inteiro num único executeBatch.
+    // Só entram nos totais os incrementos cujo UPDATE afetou uma linha.
+    @Override
+    @Transactional
+    public void recordSimulationResults(List<UserStatsDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        int[][] afetadas = jdbcTemplate.batchUpdate(RECORD_RESULTS_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.getSimulationsRun());
+            ps.setLong(2, delta.getPontuation());
+            ps.setLong(3, delta.getUserId());
+        });
+
+        long simulacoes = 0;
+        long pontuacao = 0;
+        int i = 0;
+        for (int[] lote : afetadas) {
+            for (int linhas : lote) {
+                UserStatsDelta delta = deltas.get(i++);
+                if (linhas > 0 || linhas == Statement.SUCCESS_NO_INFO) {
+                    simulacoes += delta.getSimulationsRun();
+                    pontuacao += delta.getPontuation();
+                    leaderboard.applyChange(delta.getUserId(), null, null, delta.getSimulationsRun(),
+                            delta.getPontuation(), false);
+                }
+            }
+        }
+        addToTotals(simulacoes, pontuacao);
+    }
+
     @Override
     public boolean existsByLogin(String login) {
         return jpaRepository.existsByLogin(login);
@@ -77,15 +175,65 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
         return jpaRepository.findAll(pageable).map(mapper::toDomain);
     }
 
+    // Mesmo critério da cópia em memória: pontuação desc, login asc.
+    @Override
+    public Page<User> findRankingPage(Pageable pageable) {
+        if (leaderboard.isEnabled()) {
+            return leaderboard.page(pageable);
+        }
+        Sort ranking = Sort.by(Sort.Direction.DESC, "pontuation").and(Sort.by(Sort.Direction.ASC, "login"));
+        return findAll(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), ranking));
+    }
+
+    @Override
+    public List<User> findRankingAfter(Integer afterScore, String afterLogin, int limit) {
+        if (leaderboard.isEnabled()) {
+            return leaderboard.after(afterScore, afterLogin, limit);
+        }
+        PageRequest primeiros = PageRequest.of(0, limit);
+        List<UserEntity> entities = afterScore == null
+                ? jpaRepository.findAllByOrderByPontuationDescLoginAsc(primeiros)
+                : jpaRepository.findRankingAfter(afterScore, afterLogin, primeiros);
+        return entities.stream().map(mapper::toDomain).toList();
+    }
+
     @Override
     public long countTotalSimulations() {
-        Long total = jpaRepository.sumTotalSimulationsRun();
-        return total != null ? total : 0L;
+        return orZero(totalsRepository.totalSimulations());
     }
 
     @Override
     public long countTotalSuccesses() {
-        Long total = jpaRepository.sumTotalSuccesses();
+        return orZero(totalsRepository.totalSuccesses());
+    }
+
+    private void deleteWithTotals(UserEntity entity) {
+        jpaRepository.delete(entity);
+        addToTotals(-entity.getSimulationsRun(), -entity.getPontuation());
+        leaderboard.applyRemoval(entity.getId(), entity.getLogin(), entity.getSimulationsRun(), entity.getPontuation());
+    }
+
+    // O UPDATE relativo precisa achar exatamente a linha dos totais. Se ela
+    // sumiu (apagada fora do adaptador), é recriada a partir das somas, que já
+    // enxergam a alteração desta transação.
+    private void addToTotals(long simulations, long successes) {
+        if (simulations == 0 && successes == 0) {
+            return;
+        }
+        int linhas = totalsRepository.add(simulations, successes);
+        if (linhas == 0) {
+            totalsRepository.save(totalsFromSums());
+        } else if (linhas != 1) {
+            throw new IllegalStateException("A atualização dos totais afetou " + linhas + " linhas.");
+        }
+    }
+
+    private UserStatsTotalsEntity totalsFromSums() {
+        return new UserStatsTotalsEntity(UserStatsTotalsEntity.SINGLETON_ID,
+                orZero(jpaRepository.sumTotalSimulationsRun()), orZero(jpaRepository.sumTotalSuccesses()));
+    }
+
+    private static long orZero(Long total) {
         return total != null ? total : 0L;
     }
 }
@@ -0,0 +1,37 @@
+package com.simulador.criaturas.infrastructure.adapter.out.persistence.entity;
+
+import com.simulador.criaturas.utils.SimulationStatus;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Representa a tabela 'simulation_replays' no banco de dados: alguns bytes
+ * por simulação registrada.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "simulation_replays", indexes = @Index(name = "idx_simulation_replays_user", columnList = "userId, id"))
+public class SimulationReplayEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long userId;
+    private int creatures;
+    private long seed;
+    private int turns;
+    @Enumerated(EnumType.STRING)
+    private SimulationStatus status;
+}
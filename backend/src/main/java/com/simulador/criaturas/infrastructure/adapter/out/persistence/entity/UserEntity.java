@@ -4,6 +4,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -11,13 +12,15 @@ import lombok.NoArgsConstructor;
 
 /**
  * Representa a tabela 'users' no banco de dados. Esta classe é um detalhe de
- * implementação da camada de persistência.
+ * implementação da camada de persistência. O índice (pontuation desc, login
+ * asc) segue a ordem do ranking, para que a paginação por cursor comece
+ * direto na posição pedida.
  */
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_ranking", columnList = "pontuation DESC, login ASC"))
 public class UserEntity {
 
     @Id
@@ -0,0 +1,31 @@
+package com.simulador.criaturas.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Representa a tabela 'user_stats_totals': uma única linha com as somas de
+ * simulações e de pontuação de todos os usuários, mantida a cada alteração
+ * das estatísticas para que os totais globais não exijam varrer 'users'.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "user_stats_totals")
+public class UserStatsTotalsEntity {
+
+    /**
+     * Chave da única linha da tabela.
+     */
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+    private long totalSimulations;
+    private long totalSuccesses;
+}
@@ -0,0 +1,14 @@
+package com.simulador.criaturas.infrastructure.adapter.out.persistence.mapper;
+
+import org.mapstruct.Mapper;
+
+import com.simulador.criaturas.domain.model.SimulationReplay;
+import com.simulador.criaturas.infrastructure.adapter.out.persistence.entity.SimulationReplayEntity;
+
+@Mapper(componentModel = "spring")
+public interface SimulationReplayPersistenceMapper {
+
+    SimulationReplay toDomain(SimulationReplayEntity entity);
+
+    SimulationReplayEntity toEntity(SimulationReplay replay);
+}
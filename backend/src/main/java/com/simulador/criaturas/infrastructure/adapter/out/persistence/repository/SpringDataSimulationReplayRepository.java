@@ -0,0 +1,16 @@
+package com.simulador.criaturas.infrastructure.adapter.out.persistence.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.simulador.criaturas.infrastructure.adapter.out.persistence.entity.SimulationReplayEntity;
+
+@Repository
+public interface SpringDataSimulationReplayRepository extends JpaRepository<SimulationReplayEntity, Long> {
+
+    // Pageable só limita o resultado, sem o COUNT de uma Page.
+    List<SimulationReplayEntity> findByUserIdOrderByIdDesc(Long userId, Pageable limit);
+}
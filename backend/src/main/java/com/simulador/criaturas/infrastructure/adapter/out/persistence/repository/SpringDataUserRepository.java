@@ -1,10 +1,16 @@
 package com.simulador.criaturas.infrastructure.adapter.out.persistence.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.simulador.criaturas.infrastructure.adapter.out.persistence.entity.UserEntity;
 
@@ -15,6 +21,25 @@ public interface SpringDataUserRepository extends JpaRepository<UserEntity, Long
 
     boolean existsByLogin(String login);
 
+    // Um único UPDATE relativo: o banco soma sobre o valor atual da linha, sem
+    // leitura prévia, então execuções concorrentes não perdem incrementos.
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE UserEntity u SET u.simulationsRun = u.simulationsRun + 1, u.pontuation = u.pontuation + :scoreDelta WHERE u.id = :id")
+    int recordSimulationResult(@Param("id") Long id, @Param("scoreDelta") int scoreDelta);
+
+    // Paginação por cursor do ranking: as consultas devolvem List, então o
+    // Pageable só limita o resultado, sem o COUNT de uma Page.
+    List<UserEntity> findAllByOrderByPontuationDescLoginAsc(Pageable limit);
+
+    // O 'u.pontuation <= :score' redundante deixa o banco começar a leitura
+    // do índice idx_users_ranking na posição do cursor; só com o OR, o
+    // planejador tende a varrer o índice desde o início.
+    @Query("SELECT u FROM UserEntity u WHERE u.pontuation <= :score "
+            + "AND (u.pontuation < :score OR u.login > :login) "
+            + "ORDER BY u.pontuation DESC, u.login ASC")
+    List<UserEntity> findRankingAfter(@Param("score") int score, @Param("login") String login, Pageable limit);
+
     @Query("SELECT SUM(u.simulationsRun) FROM UserEntity u")
     Long sumTotalSimulationsRun();
 
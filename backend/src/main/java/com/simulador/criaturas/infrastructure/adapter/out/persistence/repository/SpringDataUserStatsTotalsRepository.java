@@ -0,0 +1,26 @@
+package com.simulador.criaturas.infrastructure.adapter.out.persistence.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.simulador.criaturas.infrastructure.adapter.out.persistence.entity.UserStatsTotalsEntity;
+
+@Repository
+public interface SpringDataUserStatsTotalsRepository extends JpaRepository<UserStatsTotalsEntity, Long> {
+
+    // Incremento relativo, como o das estatísticas do usuário: a linha fica
+    // bloqueada até o fim da transação que alterou 'users'.
+    @Modifying
+    @Query("UPDATE UserStatsTotalsEntity t SET t.totalSimulations = t.totalSimulations + :simulations, "
+            + "t.totalSuccesses = t.totalSuccesses + :successes WHERE t.id = 1")
+    int add(@Param("simulations") long simulations, @Param("successes") long successes);
+
+    @Query("SELECT t.totalSimulations FROM UserStatsTotalsEntity t WHERE t.id = 1")
+    Long totalSimulations();
+
+    @Query("SELECT t.totalSuccesses FROM UserStatsTotalsEntity t WHERE t.id = 1")
+    Long totalSuccesses();
+}
@@ -0,0 +1,161 @@
+package com.simulador.criaturas.infrastructure.adapter.out.session;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.simulador.criaturas.domain.model.SimulationSession;
+import com.simulador.criaturas.domain.port.out.SimulationSessionPort;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/*
+ * Armazena as sessões de simulação em memória, com limite de tamanho e
+ * expiração por tempo ocioso.
+ *
+ * O mapa é um LinkedHashMap em ordem de acesso: a sessão mais antiga do mapa
+ * é sempre a acessada há mais tempo, ou seja, a primeira a expirar e a
+ * escolhida quando o limite de tamanho é atingido. Por isso as expiradas são
+ * removidas a partir do início do mapa, parando na primeira ainda válida.
+ *
+ * Acertos, faltas (inclusive sessões expiradas) e remoções automáticas são
+ * contados e publicados como métricas (simulation.sessions.*).
+ */
+@Component
+public class InMemorySimulationSessionStore implements SimulationSessionPort, MeterBinder {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier currentMillis;
+
+    private final Map<String, Entry> sessions = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public InMemorySimulationSessionStore(@Value("${simulation.sessions.max-size:10000}") int maxSize,
+            @Value("${simulation.sessions.ttl-seconds:900}") long ttlSeconds) {
+        this(maxSize, TimeUnit.SECONDS.toMillis(ttlSeconds), System::currentTimeMillis);
+    }
+
+    /**
+     * Constrói o armazenamento com um relógio próprio.
+     *
+     * @param maxSize O número máximo de sessões.
+     * @param ttlMillis Por quanto tempo uma sessão sem acesso é mantida.
+     * @param currentMillis O relógio, em milissegundos.
+     * @throws IllegalArgumentException Se os limites não forem positivos.
+     */
+    public InMemorySimulationSessionStore(int maxSize, long ttlMillis, LongSupplier currentMillis) {
+        if (maxSize < 1 || ttlMillis < 1) {
+            throw new IllegalArgumentException("O tamanho máximo e o TTL das sessões devem ser positivos.");
+        }
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.currentMillis = currentMillis;
+    }
+
+    @Override
+    public synchronized void save(SimulationSession session) {
+        long now = currentMillis.getAsLong();
+        evictExpired(now);
+        sessions.put(session.getId(), new Entry(session, now + ttlMillis));
+        Iterator<Entry> eldest = sessions.values().iterator();
+        while (sessions.size() > maxSize) {
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    @Override
+    public synchronized Optional<SimulationSession> findById(String id) {
+        long now = currentMillis.getAsLong();
+        Entry entry = sessions.get(id);
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        if (entry.expiresAtMillis <= now) {
+            sessions.remove(id);
+            evictions.increment();
+            misses.increment();
+            return Optional.empty();
+        }
+        entry.expiresAtMillis = now + ttlMillis;
+        hits.increment();
+        return Optional.of(entry.session);
+    }
+
+    @Override
+    public synchronized void deleteById(String id) {
+        sessions.remove(id);
+    }
+
+    public synchronized int size() {
+        return sessions.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("simulation.sessions.hits", this, InMemorySimulationSessionStore::hitCount)
+                .description("Consultas que encontraram a sessão")
+                .register(registry);
+        FunctionCounter.builder("simulation.sessions.misses", this, InMemorySimulationSessionStore::missCount)
+                .description("Consultas a sessões inexistentes ou expiradas")
+                .register(registry);
+        FunctionCounter.builder("simulation.sessions.evictions", this, InMemorySimulationSessionStore::evictionCount)
+                .description("Sessões removidas por TTL ou por limite de tamanho")
+                .register(registry);
+        Gauge.builder("simulation.sessions.size", this, InMemorySimulationSessionStore::size)
+                .description("Sessões em memória")
+                .register(registry);
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Entry> it = sessions.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().expiresAtMillis > now) {
+                return;
+            }
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private static final class Entry {
+
+        private final SimulationSession session;
+        private long expiresAtMillis;
+
+        private Entry(SimulationSession session, long expiresAtMillis) {
+            this.session = session;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -1,9 +1,21 @@
 package com.simulador.criaturas.infrastructure.config;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.simulador.criaturas.domain.port.out.RandomPort;
+import com.simulador.criaturas.domain.port.out.SeededRandomPortFactory;
+import com.simulador.criaturas.domain.service.LargeScaleSimulation;
 import com.simulador.criaturas.domain.service.Simulation;
 import com.simulador.criaturas.infrastructure.adapter.out.RandomGeneratorAdapter;
 
@@ -29,10 +41,129 @@ public class ApplicationConfig {
      * @param randomPort O Spring é inteligente. Ao ver que este método precisa
      * de um RandomPort, ele irá procurar por um Bean desse tipo (que acabamos
      * de criar acima) e o injetará automaticamente aqui.
+     * @param seededRandom A fábrica dos geradores de cada simulação, que dá a
+     * cada simulação uma semente e um gerador próprio.
      * @return Uma instância gerenciada de Simulation.
      */
     @Bean
-    public Simulation simulation(RandomPort randomPort) {
-        return new Simulation(randomPort);
+    public Simulation simulation(RandomPort randomPort, SeededRandomPortFactory seededRandom) {
+        return new Simulation(randomPort, seededRandom);
+    }
+
+    /**
+     * Declara o motor do modo de simulação grande, com limites próprios,
+     * independentes da regra de 1 a 10 criaturas do jogo normal.
+     *
+     * @param randomPort A mesma porta de aleatoriedade do jogo normal.
+     * @param minCreatures O menor número de criaturas aceito no modo grande.
+     * @param maxCreatures O maior número de criaturas aceito no modo grande.
+     * @param largeSimulationPool O pool que processa os segmentos do turno.
+     * @return Uma instância gerenciada de LargeScaleSimulation.
+     */
+    @Bean
+    public LargeScaleSimulation largeScaleSimulation(RandomPort randomPort,
+            @Value("${simulation.large.min-creatures:1}") int minCreatures,
+            @Value("${simulation.large.max-creatures:10000000}") int maxCreatures,
+            ForkJoinPool largeSimulationPool) {
+        return new LargeScaleSimulation(randomPort, minCreatures, maxCreatures, largeSimulationPool);
+    }
+
+    /**
+     * Declara o pool de threads do modo de simulação grande, separado do
+     * common pool para não competir com outros usos de parallel streams. Os
+     * lotes de Monte Carlo também rodam nele.
+     *
+     * @param parallelism O número de threads; 0 usa o número de processadores.
+     * @return Um ForkJoinPool encerrado junto com o contexto.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool largeSimulationPool(@Value("${simulation.large.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Declara o executor dos jobs assíncronos de simulação completa. É
+     * limitado em threads e em fila: quando a fila enche, a submissão é
+     * recusada em vez de acumular trabalho sem limite.
+     *
+     * @param threads O número de threads; 0 usa o número de processadores.
+     * @param queueCapacity Quantos jobs podem aguardar por uma thread livre.
+     * @return Um executor encerrado (com interrupção dos jobs) junto com o
+     * contexto.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService simulationJobExecutor(@Value("${simulation.jobs.threads:0}") int threads,
+            @Value("${simulation.jobs.queue-capacity:100}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger contador = new AtomicInteger();
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "simulation-job-" + contador.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Declara o agendador das transmissões de simulação (SSE). Cada
+     * transmissão é uma tarefa a taxa fixa; as threads só ficam ocupadas
+     * durante o cálculo e o envio de cada quadro.
+     *
+     * @param threads O número de threads do agendador.
+     * @return Um agendador encerrado junto com o contexto.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService simulationStreamScheduler(@Value("${simulation.stream.threads:2}") int threads) {
+        AtomicInteger contador = new AtomicInteger();
+        return Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "simulation-stream-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Declara o agendador do flush periódico das estatísticas de usuário em
+     * write-behind. O flush final, na parada, roda na thread do contexto.
+     *
+     * @return Um agendador de uma thread, encerrado junto com o contexto.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService userStatsFlushScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-stats-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Declara o agendador da limpeza periódica dos jobs assíncronos expirados.
+     *
+     * @return Um agendador de uma thread, encerrado junto com o contexto.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService simulationJobPurgeScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "simulation-job-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Declara o executor que grava os checkpoints das simulações grandes, fora
+     * da thread que executa os turnos. Uma única thread basta: cada simulação
+     * tem no máximo uma gravação em andamento. A thread não é daemon, para
+     * que uma gravação em andamento termine antes de a JVM encerrar.
+     *
+     * @return Um executor encerrado junto com o contexto, depois de concluir
+     * as gravações já agendadas.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService checkpointWriterExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "checkpoint-writer"));
     }
 }
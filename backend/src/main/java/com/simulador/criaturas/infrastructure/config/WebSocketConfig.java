@@ -0,0 +1,26 @@
+package com.simulador.criaturas.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import com.simulador.criaturas.infrastructure.adapter.in.websocket.SimulationWebSocketHandler;
+
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final SimulationWebSocketHandler simulationWebSocketHandler;
+
+    public WebSocketConfig(SimulationWebSocketHandler simulationWebSocketHandler) {
+        this.simulationWebSocketHandler = simulationWebSocketHandler;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        // Mesmas origens liberadas no CORS da API (SecurityConfig).
+        registry.addHandler(simulationWebSocketHandler, "/api/simulacao/ws")
+                .setAllowedOrigins("http://localhost:3000", "https://software-testing-one.vercel.app");
+    }
+}
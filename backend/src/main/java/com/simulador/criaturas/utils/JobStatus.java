@@ -0,0 +1,13 @@
+package com.simulador.criaturas.utils;
+
+public enum JobStatus {
+    QUEUED, // O job aguarda uma thread livre.
+    RUNNING, // A simulação do job está em execução.
+    DONE, // A simulação terminou e o resultado está disponível.
+    FAILED, // A simulação terminou com erro.
+    CANCELLED; // O job foi cancelado antes de terminar.
+
+    public boolean isFinished() {
+        return this != QUEUED && this != RUNNING;
+    }
+}
@@ -0,0 +1,237 @@
+package com.simulador.criaturas.domain.model;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.simulador.criaturas.domain.behaviors.Fusion;
+import com.simulador.criaturas.domain.behaviors.HorizonEntities;
+import com.simulador.criaturas.domain.behaviors.Move;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+@DisplayName("Testes de Domínio/Fronteira para a classe CompactHorizon")
+class CompactHorizonTest {
+
+    @Test
+    @DisplayName("initializeEntities: Deve criar unidades com as mesmas regras de CreatureUnit")
+    void initializeEntities_shouldFollowCreatureUnitRules() {
+        CompactHorizon horizon = new CompactHorizon();
+        horizon.initializeEntities(40);
+
+        CreatureUnit reference = new CreatureUnit(7);
+        assertEquals(40, horizon.size());
+        assertEquals(reference.getId(), horizon.getId(6));
+        assertEquals(reference.getX(), horizon.getX(6));
+        assertEquals(reference.getGold(), horizon.getGold(6));
+        assertFalse(horizon.isCluster(6));
+    }
+
+    @Test
+    @DisplayName("copyTo: Deve copiar entidades, guardião, status e turno, sem compartilhar estado")
+    void copyTo_shouldCopyIndependentState() {
+        CompactHorizon horizon = new CompactHorizon();
+        horizon.initializeEntities(3);
+        horizon.setKind(1, CompactHorizon.KIND_CLUSTER);
+        horizon.setGuardiao(new Guardian(4, 10.0, 5.0));
+        horizon.setTurn(12);
+        CompactHorizon copy = new CompactHorizon(0);
+        copy.initializeEntities(8);
+
+        horizon.copyTo(copy);
+        horizon.setX(0, -1.0);
+        horizon.getGuardiao().setGold(99.0);
+
+        assertEquals(3, copy.size());
+        assertEquals(25000.0, copy.getX(0));
+        assertTrue(copy.isCluster(1));
+        assertEquals(5.0, copy.getGuardiao().getGold());
+        assertEquals(12, copy.getTurn());
+        assertEquals(SimulationStatus.RUNNING, copy.getStatus());
+    }
+
+    @Test
+    @DisplayName("initializeEntities: Deve lançar exceção para quantidade não positiva")
+    void initializeEntities_shouldThrowException_forNonPositiveAmount() {
+        CompactHorizon horizon = new CompactHorizon();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> horizon.initializeEntities(0));
+
+        assertEquals("A quantidade de criaturas deve ser positiva.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("view: Deve ler e escrever diretamente nos vetores primitivos")
+    void view_shouldWriteThroughToColumns() {
+        CompactHorizon horizon = new CompactHorizon();
+        horizon.add(1, 100.0, 50.0, CompactHorizon.KIND_UNIT);
+
+        HorizonEntities view = horizon.view(0);
+        ((Move) view).move(1.0);
+
+        assertEquals(150.0, horizon.getX(0));
+        assertFalse(view instanceof Fusion);
+    }
+
+    @Test
+    @DisplayName("view: Cluster deve expor o comportamento de fusão")
+    void view_shouldExposeFusion_forClusters() {
+        CompactHorizon horizon = new CompactHorizon();
+        horizon.add(1, 100.0, 50.0, CompactHorizon.KIND_CLUSTER);
+        horizon.add(2, 100.0, 25.0, CompactHorizon.KIND_UNIT);
+
+        ((Fusion) horizon.view(0)).fusion(horizon.view(1));
+
+        assertEquals(75.0, horizon.getGold(0));
+    }
+
+    @Test
+    @DisplayName("compact: Deve remover os slots marcados preservando a ordem")
+    void compact_shouldRemoveMarkedSlots_keepingOrder() {
+        CompactHorizon horizon = new CompactHorizon(2);
+        horizon.initializeEntities(5);
+
+        int removed = horizon.compact(new boolean[]{true, false, true, false, false});
+
+        assertEquals(2, removed);
+        assertEquals(3, horizon.size());
+        assertEquals(List.of(2, 4, 5),
+                horizon.getEntities().stream().map(HorizonEntities::getId).toList());
+    }
+
+    @Test
+    @DisplayName("removeAt: Deve lançar exceção para slot inexistente")
+    void removeAt_shouldThrowException_forInvalidSlot() {
+        CompactHorizon horizon = new CompactHorizon();
+        horizon.initializeEntities(1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> horizon.removeAt(1));
+    }
+
+    @Test
+    @DisplayName("toHorizon/fromHorizon: A conversão deve preservar entidades, guardião e status")
+    void conversion_shouldRoundTrip() {
+        Horizon original = new Horizon();
+        original.addEntity(new CreatureUnit(1, 10.0, 100.0));
+        original.addEntity(new CreatureCluster(2, 20.0, 200.0));
+        original.setGuardiao(new Guardian(3));
+        original.setStatus(SimulationStatus.FAILED);
+
+        Horizon converted = CompactHorizon.fromHorizon(original).toHorizon();
+
+        assertEquals(original.getEntities(), converted.getEntities());
+        assertEquals(original.getGuardiao(), converted.getGuardiao());
+        assertEquals(SimulationStatus.FAILED, converted.getStatus());
+        assertTrue(converted.getEntities().get(1) instanceof CreatureCluster);
+    }
+
+    @Test
+    @DisplayName("sortByX: Deve ordenar de forma estável pela posição X")
+    void sortByX_shouldSortStably() {
+        CompactHorizon horizon = new CompactHorizon();
+        horizon.add(1, 30.0, 1.0, CompactHorizon.KIND_UNIT);
+        horizon.add(2, 10.0, 1.0, CompactHorizon.KIND_UNIT);
+        horizon.add(3, 30.0, 1.0, CompactHorizon.KIND_UNIT);
+        horizon.add(4, 20.0, 1.0, CompactHorizon.KIND_UNIT);
+
+        horizon.sortByX();
+
+        assertEquals(List.of(2, 4, 1, 3),
+                horizon.getEntities().stream().map(HorizonEntities::getId).toList());
+    }
+
+    @Test
+    @DisplayName("fuseCollisions: O primeiro cluster do grupo sobrevive com todo o ouro")
+    void fuseCollisions_shouldKeepFirstCluster_withGroupGold() {
+        CompactHorizon horizon = new CompactHorizon();
+        horizon.add(1, 0.0, 10.0, CompactHorizon.KIND_UNIT);
+        horizon.add(2, 5.0, 20.0, CompactHorizon.KIND_CLUSTER);
+        horizon.add(3, 9.0, 30.0, CompactHorizon.KIND_UNIT);
+        horizon.add(4, 100.0, 40.0, CompactHorizon.KIND_UNIT);
+
+        int absorbed = horizon.fuseCollisions(10.0);
+
+        assertEquals(2, absorbed);
+        assertEquals(2, horizon.size());
+        assertEquals(2, horizon.getId(0));
+        assertEquals(60.0, horizon.getGold(0));
+        assertTrue(horizon.isCluster(0));
+        assertFalse(horizon.isCluster(1));
+    }
+
+    @Test
+    @DisplayName("stealFromNearestNeighbors: Deve conservar o ouro total")
+    void stealFromNearestNeighbors_shouldConserveGold() {
+        CompactHorizon horizon = new CompactHorizon();
+        horizon.add(1, 0.0, 100.0, CompactHorizon.KIND_UNIT);
+        horizon.add(2, 10.0, 100.0, CompactHorizon.KIND_UNIT);
+        horizon.add(3, 50.0, 100.0, CompactHorizon.KIND_UNIT);
+
+        horizon.stealFromNearestNeighbors();
+
+        assertEquals(300.0, horizon.getGold(0) + horizon.getGold(1) + horizon.getGold(2), 1e-9);
+    }
+
+    @Test
+    @DisplayName("findFirstClusterWithin: Deve ignorar unidades e clusters fora do alcance")
+    void findFirstClusterWithin_shouldIgnoreUnitsAndFarClusters() {
+        CompactHorizon horizon = new CompactHorizon();
+        horizon.add(1, 0.0, 1.0, CompactHorizon.KIND_CLUSTER);
+        horizon.add(2, 100.0, 1.0, CompactHorizon.KIND_UNIT);
+        horizon.add(3, 110.0, 1.0, CompactHorizon.KIND_CLUSTER);
+
+        assertEquals(2, horizon.findFirstClusterWithin(100.0, 10.0));
+        assertEquals(-1, horizon.findFirstClusterWithin(100.0, 5.0));
+    }
+
+    @Test
+    @DisplayName("sortByX(pool): A ordenação paralela deve ser idêntica à sequencial, inclusive nos empates")
+    void sortByX_parallel_shouldMatchSequential() {
+        CompactHorizon sequential = new CompactHorizon();
+        CompactHorizon parallel = new CompactHorizon();
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 60_000; i++) {
+            // Poucas posições distintas, para forçar muitos empates.
+            double x = random.nextInt(5_000);
+            sequential.add(i, x, i, CompactHorizon.KIND_UNIT);
+            parallel.add(i, x, i, CompactHorizon.KIND_UNIT);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            sequential.sortByX();
+            parallel.sortByX(pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.getId(i), parallel.getId(i));
+        }
+    }
+
+    @Test
+    @DisplayName("stealWithin/stealAcross: Os roubos que cruzam o corte ficam para stealAcross")
+    void stealWithin_shouldDeferTheftAcrossBoundary() {
+        CompactHorizon horizon = new CompactHorizon();
+        horizon.add(1, 0.0, 100.0, CompactHorizon.KIND_UNIT);
+        horizon.add(2, 100.0, 100.0, CompactHorizon.KIND_UNIT);
+        horizon.add(3, 110.0, 100.0, CompactHorizon.KIND_UNIT);
+
+        horizon.stealWithin(0, 2);
+        assertEquals(150.0, horizon.getGold(0));
+        assertEquals(50.0, horizon.getGold(1));
+
+        // A última da esquerda rouba da primeira da direita, e depois o inverso.
+        horizon.stealAcross(2);
+        assertEquals(50.0, horizon.getGold(1));
+        assertEquals(100.0, horizon.getGold(2));
+    }
+}
@@ -0,0 +1,105 @@
+package com.simulador.criaturas.domain.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.simulador.criaturas.domain.behaviors.HorizonEntities;
+import com.simulador.criaturas.domain.service.Simulation;
+import com.simulador.criaturas.infrastructure.adapter.out.SplittableRandomPortFactory;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+@DisplayName("Testes de Domínio/Fronteira para a classe HorizonDelta")
+class HorizonDeltaTest {
+
+    @Test
+    @DisplayName("between: Deve listar movimentos, mudanças de ouro e remoções, sem repetir o guardião inalterado")
+    void between_shouldListChanges() {
+        Horizon horizon = new Horizon();
+        horizon.addEntity(new CreatureUnit(1, 0.0, 10.0));
+        horizon.addEntity(new CreatureUnit(2, 100.0, 20.0));
+        horizon.addEntity(new CreatureUnit(3, 200.0, 30.0));
+        horizon.setGuardiao(new Guardian(4, 500.0, 1.0));
+        HorizonSnapshot antes = HorizonSnapshot.of(horizon);
+
+        horizon.getEntities().get(0).setX(5.0);
+        horizon.getEntities().get(1).setGold(25.0);
+        horizon.removeEntity(horizon.getEntities().get(2));
+        horizon.setTurn(1);
+
+        HorizonDelta delta = HorizonDelta.between(antes, horizon);
+
+        assertEquals(0, delta.getBaseTurn());
+        assertEquals(1, delta.getTurn());
+        assertFalse(delta.isResync());
+        assertEquals(1, delta.getMoved().size());
+        assertEquals(5.0, delta.getMoved().get(0).getX());
+        assertEquals(1, delta.getGoldChanged().size());
+        assertEquals(2, delta.getGoldChanged().get(0).getId());
+        assertArrayEquals(new int[]{3}, delta.getRemoved());
+        assertTrue(delta.getAdded().isEmpty());
+        assertNull(delta.getGuardiao());
+    }
+
+    @Test
+    @DisplayName("between: Um cluster que reaproveita o id de uma unidade deve aparecer como removido e adicionado")
+    void between_shouldReplaceUnit_whenClusterReusesItsId() {
+        Horizon horizon = new Horizon();
+        horizon.addEntity(new CreatureUnit(1, 0.0, 10.0));
+        horizon.addEntity(new CreatureUnit(2, 10.0, 20.0));
+        HorizonSnapshot antes = HorizonSnapshot.of(horizon);
+
+        horizon.setEntities(new ArrayList<>(List.of(new CreatureCluster(1, 0.0, 30.0))));
+
+        HorizonDelta delta = HorizonDelta.between(antes, horizon);
+
+        assertArrayEquals(new int[]{1, 2}, delta.getRemoved());
+        assertEquals(1, delta.getAdded().size());
+        assertTrue(delta.getAdded().get(0) instanceof CreatureCluster);
+    }
+
+    @Test
+    @DisplayName("between: Aplicar os deltas de cada turno deve reproduzir o estado da simulação")
+    void between_appliedDeltas_shouldRebuildSimulationState() {
+        Simulation simulation = new Simulation(() -> 0.0, new SplittableRandomPortFactory());
+        Horizon horizon = simulation.createNewSimulation(10, 7L);
+        Map<Integer, HorizonEntities> cliente = apply(new LinkedHashMap<>(), HorizonDelta.full(horizon));
+
+        while (horizon.getStatus() == SimulationStatus.RUNNING && horizon.getTurn() < 50) {
+            HorizonSnapshot antes = HorizonSnapshot.of(horizon);
+            simulation.runIteration(horizon);
+            apply(cliente, HorizonDelta.between(antes, horizon));
+        }
+
+        List<HorizonEntities> esperado = new ArrayList<>(horizon.getEntities());
+        List<HorizonEntities> obtido = new ArrayList<>(cliente.values());
+        esperado.sort(Comparator.comparingInt(HorizonEntities::getId));
+        obtido.sort(Comparator.comparingInt(HorizonEntities::getId));
+        assertEquals(esperado, obtido);
+    }
+
+    private static Map<Integer, HorizonEntities> apply(Map<Integer, HorizonEntities> estado, HorizonDelta delta) {
+        if (delta.isResync()) {
+            estado.clear();
+        }
+        for (int id : delta.getRemoved()) {
+            estado.remove(id);
+        }
+        for (HorizonEntities entity : delta.getAdded()) {
+            estado.put(entity.getId(), entity);
+        }
+        delta.getMoved().forEach(change -> estado.get(change.getId()).setX(change.getX()));
+        delta.getGoldChanged().forEach(change -> estado.get(change.getId()).setGold(change.getGold()));
+        return estado;
+    }
+}
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.DisplayName;
@@ -262,4 +263,189 @@ class HorizonTest {
 
         assertTrue(found.isEmpty());
     }
+
+    @Test
+    @DisplayName("getEntitiesWithinRange: Deve refletir a nova posição após moveEntity")
+    void getEntitiesWithinRange_shouldReflectNewPosition_afterMoveEntity() {
+        Horizon horizon = new Horizon();
+        CreatureUnit mover = new CreatureUnit(1, 10.0, 100);
+        CreatureUnit other = new CreatureUnit(2, 500.0, 100);
+        horizon.addEntity(mover);
+        horizon.addEntity(other);
+        horizon.getEntitiesWithinRange(10.0, 1.0);
+
+        horizon.moveEntity(mover, 1.0);
+
+        assertTrue(horizon.getEntitiesWithinRange(10.0, 1.0).isEmpty());
+        assertEquals(List.of(mover), horizon.getEntitiesWithinRange(110.0, 1.0));
+    }
+
+    @Test
+    @DisplayName("getEntitiesWithinRange: Deve manter a ordem da lista de entidades no resultado")
+    void getEntitiesWithinRange_shouldKeepListOrder() {
+        Horizon horizon = new Horizon();
+        CreatureUnit right = new CreatureUnit(1, 30.0, 100);
+        CreatureUnit left = new CreatureUnit(2, 10.0, 100);
+        CreatureUnit middle = new CreatureUnit(3, 20.0, 100);
+        horizon.addEntity(right);
+        horizon.addEntity(left);
+        horizon.addEntity(middle);
+
+        assertEquals(List.of(right, left, middle), horizon.getEntitiesWithinRange(20.0, 10.0));
+    }
+
+    @Test
+    @DisplayName("getEntitiesWithinRange: Não deve retornar entidades removidas por removeEntity e removeEntities")
+    void getEntitiesWithinRange_shouldIgnoreRemovedEntities() {
+        Horizon horizon = new Horizon();
+        CreatureUnit c1 = new CreatureUnit(1, 10.0, 100);
+        CreatureUnit c2 = new CreatureUnit(2, 11.0, 100);
+        CreatureUnit c3 = new CreatureUnit(3, 12.0, 100);
+        horizon.addEntity(c1);
+        horizon.addEntity(c2);
+        horizon.addEntity(c3);
+        horizon.getEntitiesWithinRange(11.0, 5.0);
+
+        horizon.removeEntity(c2);
+        horizon.removeEntities(List.of(c3));
+
+        assertEquals(List.of(c1), horizon.getEntitiesWithinRange(11.0, 5.0));
+    }
+
+    @Test
+    @DisplayName("moveEntity: Deve lançar exceção para entidade que não se move")
+    void moveEntity_shouldThrowException_whenEntityCannotMove() {
+        Horizon horizon = new Horizon();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> horizon.moveEntity(null, 0.5));
+
+        assertEquals("A entidade deve existir e ser capaz de se mover.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("getEntitiesView: Deve refletir as alterações do horizonte e recusar alterações por fora")
+    void getEntitiesView_shouldBeReadOnlyAndTrackChanges() {
+        Horizon horizon = new Horizon();
+        horizon.initializeEntities(3);
+        List<HorizonEntities> view = horizon.getEntitiesView();
+        HorizonEntities removed = view.get(1);
+
+        horizon.removeEntity(removed);
+        horizon.moveEntity(view.get(0), 1.0);
+
+        assertSame(view, horizon.getEntitiesView());
+        assertEquals(2, view.size());
+        assertFalse(view.contains(removed));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+        // O índice continua valendo: a busca por faixa já enxerga a nova posição.
+        assertEquals(List.of(view.get(0)), horizon.getEntitiesWithinRange(view.get(0).getX(), 0));
+    }
+
+    @Test
+    @DisplayName("findNearestNeighbor: Deve desempatar pela ordem da lista quando há vizinhos equidistantes")
+    void findNearestNeighbor_shouldBreakTiesByListOrder() {
+        Horizon horizon = new Horizon();
+        CreatureUnit right = new CreatureUnit(1, 150.0, 100);
+        CreatureUnit reference = new CreatureUnit(2, 100.0, 100);
+        CreatureUnit left = new CreatureUnit(3, 50.0, 100);
+        horizon.addEntity(right);
+        horizon.addEntity(reference);
+        horizon.addEntity(left);
+
+        assertEquals(right, horizon.findNearestNeighbor(reference));
+    }
+
+    @Test
+    @DisplayName("findNearestNeighbor: Deve retornar nulo quando a referência é a única entidade")
+    void findNearestNeighbor_shouldReturnNull_whenReferenceIsAlone() {
+        Horizon horizon = new Horizon();
+        CreatureUnit reference = new CreatureUnit(1, 100.0, 100);
+        horizon.addEntity(reference);
+
+        assertEquals(null, horizon.findNearestNeighbor(reference));
+    }
+
+    @Test
+    @DisplayName("findNearestNeighbor: Deve lançar exceção para referência nula")
+    void findNearestNeighbor_shouldThrowException_whenReferenceIsNull() {
+        Horizon horizon = new Horizon();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> horizon.findNearestNeighbor(null));
+
+        assertEquals("A entidade de referência não pode ser nula.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("isAliveInTurn: Remoções durante o turno devem apagar a flag de vida da própria instância")
+    void isAliveInTurn_shouldTrackRemovalsByReference() {
+        Horizon horizon = new Horizon();
+        CreatureUnit first = new CreatureUnit(1, 100.0, 100);
+        CreatureUnit second = new CreatureUnit(2, 200.0, 100);
+        CreatureUnit third = new CreatureUnit(3, 300.0, 100);
+        horizon.addEntity(first);
+        horizon.addEntity(second);
+        horizon.addEntity(third);
+
+        assertEquals(3, horizon.beginTurn());
+        horizon.removeEntity(second);
+        horizon.addEntity(new CreatureCluster(4, 400.0, 100));
+        horizon.removeEntities(List.of(third));
+
+        assertTrue(horizon.isAliveInTurn(0));
+        assertFalse(horizon.isAliveInTurn(1));
+        assertFalse(horizon.isAliveInTurn(2));
+        assertEquals(third, horizon.getTurnEntity(2));
+        horizon.endTurn();
+        assertThrows(IndexOutOfBoundsException.class, () -> horizon.isAliveInTurn(0));
+    }
+
+    @Test
+    @DisplayName("isAliveInTurn: Deve continuar correto se a lista for alterada por fora durante o turno")
+    void isAliveInTurn_shouldFallBackToIndex_whenListIsExposed() {
+        Horizon horizon = new Horizon();
+        horizon.initializeEntities(3);
+
+        horizon.beginTurn();
+        HorizonEntities removed = horizon.getEntities().remove(0);
+
+        assertEquals(removed, horizon.getTurnEntity(0));
+        assertFalse(horizon.isAliveInTurn(0));
+        assertTrue(horizon.isAliveInTurn(1));
+    }
+
+    @Test
+    @DisplayName("removeEntity: Deve remover a própria instância, e não outra igual por equals")
+    void removeEntity_shouldRemoveByReference_notByEquals() {
+        Horizon horizon = new Horizon();
+        CreatureUnit original = new CreatureUnit(1, 100.0, 100);
+        CreatureUnit twin = new CreatureUnit(1, 100.0, 100);
+        horizon.addEntity(original);
+        horizon.addEntity(twin);
+
+        horizon.removeEntity(twin);
+
+        assertEquals(1, horizon.getEntities().size());
+        assertSame(original, horizon.getEntities().get(0));
+    }
+
+    @Test
+    @DisplayName("removeEntities: Durante o turno, a lista só deve ser compactada no endTurn")
+    void removeEntities_shouldDeferCompaction_untilEndTurn() {
+        Horizon horizon = new Horizon();
+        horizon.initializeEntities(5);
+        HorizonEntities second = horizon.getEntities().get(1);
+        HorizonEntities fourth = horizon.getEntities().get(3);
+
+        horizon.beginTurn();
+        horizon.removeEntities(List.of(second, fourth));
+
+        assertEquals(List.of(1, 3, 5), horizon.getEntitiesWithinRange(0.0, 1_000_000.0).stream()
+                .map(HorizonEntities::getId).toList());
+        assertFalse(horizon.isAliveInTurn(3));
+        horizon.endTurn();
+
+        assertEquals(List.of(1, 3, 5), horizon.getEntities().stream().map(HorizonEntities::getId).toList());
+    }
 }
@@ -0,0 +1,123 @@
+package com.simulador.criaturas.domain.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes de Domínio/Fronteira para a classe LeaderboardIndex")
+class LeaderboardIndexTest {
+
+    @Test
+    @DisplayName("page: Deve ordenar por pontuação desc e login asc, somando os incrementos")
+    void page_shouldOrderByScoreThenLogin() {
+        LeaderboardIndex index = new LeaderboardIndex();
+        index.apply(1L, "carol", 20, 10);
+        index.apply(2L, "alice", 10, 5);
+        index.apply(3L, "bob", 30, 10);
+        index.apply(2L, null, 8, 6);
+
+        List<User> pagina = index.page(0, 10);
+
+        assertEquals(List.of("alice", "bob", "carol"), pagina.stream().map(User::getLogin).toList());
+        assertEquals(11, pagina.get(0).getPontuation());
+        assertEquals(18, pagina.get(0).getSimulationsRun());
+        assertEquals(2L, pagina.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("page/after: O desempate por login deve seguir a ordem binária, com maiúsculas e acentos")
+    void page_shouldBreakTiesByBinaryLoginOrder() {
+        LeaderboardIndex index = new LeaderboardIndex();
+        index.apply(1L, "alice", 1, 5);
+        index.apply(2L, "Zoe", 1, 5);
+        index.apply(3L, "álvaro", 1, 5);
+        index.apply(4L, "bob", 1, 5);
+
+        List<String> esperado = List.of("Zoe", "alice", "bob", "álvaro");
+        assertEquals(esperado, index.page(0, 10).stream().map(User::getLogin).toList());
+        assertEquals(esperado.subList(2, 4), index.after(5, "alice", 10).stream().map(User::getLogin).toList());
+    }
+
+    @Test
+    @DisplayName("page: Deve respeitar posição e tamanho, inclusive além do fim")
+    void page_shouldHonorOffsetAndLimit() {
+        LeaderboardIndex index = new LeaderboardIndex();
+        for (long id = 1; id <= 5; id++) {
+            index.apply(id, "user" + id, id, id);
+        }
+
+        assertEquals(List.of("user3", "user2"), index.page(2, 2).stream().map(User::getLogin).toList());
+        assertEquals(List.of("user1"), index.page(4, 10).stream().map(User::getLogin).toList());
+        assertTrue(index.page(5, 10).isEmpty());
+        assertTrue(index.page(0, 0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> index.page(-1, 10));
+    }
+
+    @Test
+    @DisplayName("remove/apply: Deve manter a mesma ordem de uma lista ordenada após alterações aleatórias")
+    void randomChanges_shouldMatchSortedList() {
+        LeaderboardIndex index = new LeaderboardIndex();
+        Map<Long, User> esperado = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int passo = 0; passo < 5000; passo++) {
+            long id = random.nextInt(300);
+            int operacao = random.nextInt(10);
+            User atual = esperado.get(id);
+            if (operacao == 0) {
+                index.remove(id);
+                esperado.remove(id);
+            } else if (atual == null) {
+                int pontuacao = random.nextInt(50);
+                String login = "login" + random.nextInt(1000);
+                index.apply(id, login, 1, pontuacao);
+                esperado.put(id, new User(id, login, null, 0, pontuacao, 1));
+            } else {
+                int delta = random.nextInt(5) - 2;
+                String login = operacao == 1 ? "renamed" + random.nextInt(1000) : null;
+                index.apply(id, login, 1, delta);
+                atual.setPontuation(atual.getPontuation() + delta);
+                atual.setSimulationsRun(atual.getSimulationsRun() + 1);
+                if (login != null) {
+                    atual.setLogin(login);
+                }
+            }
+        }
+
+        List<User> ordenados = new ArrayList<>(esperado.values());
+        ordenados.sort(Comparator.comparing(User::getPontuation).reversed()
+                .thenComparing(User::getLogin).thenComparing(User::getId));
+        assertEquals(ordenados.size(), index.size());
+        assertEquals(ordenados, index.page(0, ordenados.size()));
+        for (int offset = 0; offset < ordenados.size(); offset += 17) {
+            assertEquals(ordenados.subList(offset, Math.min(offset + 7, ordenados.size())), index.page(offset, 7));
+        }
+    }
+
+    @Test
+    @DisplayName("after: Deve continuar do cursor, mesmo que o usuário do cursor tenha mudado")
+    void after_shouldContinueFromCursor() {
+        LeaderboardIndex index = new LeaderboardIndex();
+        index.apply(1L, "carol", 1, 10);
+        index.apply(2L, "alice", 1, 10);
+        index.apply(3L, "bob", 1, 7);
+        index.apply(4L, "dave", 1, 3);
+
+        assertEquals(List.of("carol", "bob"), index.after(10, "alice", 2).stream().map(User::getLogin).toList());
+        assertEquals(List.of("dave"), index.after(7, "bob", 2).stream().map(User::getLogin).toList());
+
+        index.remove(3L);
+        assertEquals(List.of("dave"), index.after(7, "bob", 2).stream().map(User::getLogin).toList());
+        assertTrue(index.after(3, "dave", 2).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> index.after(3, null, 2));
+    }
+}
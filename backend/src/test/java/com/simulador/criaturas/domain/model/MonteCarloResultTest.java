@@ -0,0 +1,59 @@
+package com.simulador.criaturas.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.simulador.criaturas.utils.SimulationStatus;
+
+@DisplayName("Testes de Domínio/Fronteira para a classe MonteCarloResult")
+class MonteCarloResultTest {
+
+    @Test
+    @DisplayName("aggregate: Deve calcular taxa de sucesso, histograma de turnos e distribuição do ouro")
+    void aggregate_shouldSummarizeRuns() {
+        SimulationStatus[] statuses = {
+            SimulationStatus.SUCCESSFUL, SimulationStatus.FAILED, SimulationStatus.SUCCESSFUL, SimulationStatus.FAILED
+        };
+        int[] turns = {3, 5, 3, 7};
+        double[] gold = {0.0, 100.0, 200.0, 50.0};
+
+        MonteCarloResult result = MonteCarloResult.aggregate(2, statuses, turns, gold);
+
+        assertEquals(4, result.getRuns());
+        assertEquals(2, result.getSuccesses());
+        assertEquals(0.5, result.getSuccessRate());
+        assertEquals(2L, result.getTurnsHistogram().get(3));
+        assertEquals(1L, result.getTurnsHistogram().get(7));
+        assertEquals(0.0, result.getGuardianGoldMin());
+        assertEquals(87.5, result.getGuardianGoldMean());
+        assertEquals(200.0, result.getGuardianGoldMax());
+        assertEquals(10.0, result.getGuardianGoldBucketWidth());
+        // O máximo cai na última faixa.
+        assertEquals(1, result.getGuardianGoldHistogram()[MonteCarloResult.GOLD_BUCKETS - 1]);
+        assertEquals(1, result.getGuardianGoldHistogram()[10]);
+    }
+
+    @Test
+    @DisplayName("aggregate: Ouro igual em todas as execuções deve cair em uma única faixa")
+    void aggregate_shouldUseSingleBucket_whenGoldIsConstant() {
+        MonteCarloResult result = MonteCarloResult.aggregate(1,
+                new SimulationStatus[]{SimulationStatus.FAILED, SimulationStatus.FAILED},
+                new int[]{1, 1}, new double[]{0.0, 0.0});
+
+        long[] expected = new long[MonteCarloResult.GOLD_BUCKETS];
+        expected[0] = 2;
+        assertArrayEquals(expected, result.getGuardianGoldHistogram());
+    }
+
+    @Test
+    @DisplayName("aggregate: Deve lançar exceção para um lote vazio")
+    void aggregate_shouldThrowException_forEmptyBatch() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> MonteCarloResult.aggregate(1, new SimulationStatus[0], new int[0], new double[0]));
+
+        assertEquals("Os resultados do lote são inconsistentes.", exception.getMessage());
+    }
+}
@@ -0,0 +1,176 @@
+package com.simulador.criaturas.domain.service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.simulador.criaturas.domain.model.CompactHorizon;
+import com.simulador.criaturas.domain.model.Guardian;
+import com.simulador.criaturas.domain.port.out.RandomPort;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+@DisplayName("Testes de Domínio/Fronteira para a classe LargeScaleSimulation")
+class LargeScaleSimulationTest {
+
+    private LargeScaleSimulation simulation;
+
+    @BeforeEach
+    public void setUp() {
+        simulation = new LargeScaleSimulation(new FixedRandomPort(0.1), 1, 1_000_000);
+    }
+
+    private static class FixedRandomPort implements RandomPort {
+
+        private final double factor;
+
+        FixedRandomPort(double factor) {
+            this.factor = factor;
+        }
+
+        @Override
+        public double nextFactor() {
+            return factor;
+        }
+
+        @Override
+        public void fill(double[] out, int n) {
+            Arrays.fill(out, 0, n, factor);
+        }
+    }
+
+    private static class SeededRandomPort implements RandomPort {
+
+        private final SplittableRandom random;
+
+        SeededRandomPort(long seed) {
+            this.random = new SplittableRandom(seed);
+        }
+
+        @Override
+        public double nextFactor() {
+            return random.nextDouble(-1.0, 1.0);
+        }
+
+        @Override
+        public void fill(double[] out, int n) {
+            for (int i = 0; i < n; i++) {
+                out[i] = random.nextDouble(-1.0, 1.0);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Construtor: Deve lançar exceção para limites inválidos")
+    void constructor_shouldThrowException_forInvalidLimits() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new LargeScaleSimulation(new FixedRandomPort(0.1), 10, 5));
+
+        assertEquals("Os limites de criaturas do modo grande são inválidos.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("createNewSimulation: Deve aceitar mais de 10 criaturas")
+    void createNewSimulation_shouldAcceptMoreThanTenCreatures() {
+        CompactHorizon horizon = simulation.createNewSimulation(200_000);
+
+        assertEquals(200_000, horizon.size());
+        assertEquals(200_001, horizon.getGuardiao().getId());
+        assertEquals(SimulationStatus.RUNNING, horizon.getStatus());
+    }
+
+    @Test
+    @DisplayName("createNewSimulation: Deve lançar exceção fora dos limites configurados")
+    void createNewSimulation_shouldThrowException_outsideConfiguredLimits() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> simulation.createNewSimulation(1_000_001));
+
+        assertEquals("O número de criaturas deve estar entre 1 e 1000000.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("runIteration: Um turno com 200 mil criaturas deve conservar o ouro total")
+    void runIteration_shouldConserveTotalGold_forLargeHorizon() {
+        CompactHorizon horizon = simulation.createNewSimulation(200_000);
+        double before = totalGold(horizon);
+
+        simulation.runIteration(horizon);
+
+        assertEquals(1, horizon.getTurn());
+        assertTrue(horizon.size() < 200_000);
+        assertEquals(before, totalGold(horizon), before * 1e-9);
+    }
+
+    @Test
+    @DisplayName("runIteration: Deve lançar exceção se a simulação já terminou")
+    void runIteration_shouldThrowException_whenNotRunning() {
+        CompactHorizon horizon = simulation.createNewSimulation(20);
+        horizon.setStatus(SimulationStatus.FAILED);
+
+        assertThrows(IllegalStateException.class, () -> simulation.runIteration(horizon));
+    }
+
+    @Test
+    @DisplayName("getStatus: Deve seguir as mesmas regras de Simulation")
+    void getStatus_shouldFollowSimulationRules() {
+        CompactHorizon horizon = new CompactHorizon();
+        horizon.setGuardiao(new Guardian(2));
+        assertEquals(SimulationStatus.SUCCESSFUL, simulation.getStatus(horizon));
+
+        horizon.add(1, 0.0, 1_000_000.0, CompactHorizon.KIND_UNIT);
+        assertEquals(SimulationStatus.FAILED, simulation.getStatus(horizon));
+
+        horizon.add(3, 100.0, 1.0, CompactHorizon.KIND_UNIT);
+        assertEquals(SimulationStatus.RUNNING, simulation.getStatus(horizon));
+    }
+
+    private static double totalGold(CompactHorizon horizon) {
+        double total = horizon.getGuardiao().getGold();
+        for (int i = 0; i < horizon.size(); i++) {
+            total += horizon.getGold(i);
+        }
+        return total;
+    }
+
+    @Test
+    @DisplayName("runIteration: Com a mesma semente, o resultado não deve depender do número de threads")
+    void runIteration_shouldBeDeterministic_regardlessOfThreadCount() {
+        double[][] reference = runTurns(null);
+
+        for (int threads : new int[]{1, 3, 8}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                double[][] result = runTurns(pool);
+                assertArrayEquals(reference[0], result[0], "ids com " + threads + " threads");
+                assertArrayEquals(reference[1], result[1], "posições com " + threads + " threads");
+                assertArrayEquals(reference[2], result[2], "ouro com " + threads + " threads");
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    // Roda alguns turnos de uma simulação de 100 mil criaturas e devolve ids,
+    // posições e ouro finais.
+    private static double[][] runTurns(ForkJoinPool pool) {
+        LargeScaleSimulation engine = new LargeScaleSimulation(new SeededRandomPort(7), 1, 1_000_000, pool);
+        CompactHorizon horizon = engine.createNewSimulation(100_000);
+        for (int turn = 0; turn < 5 && horizon.getStatus() == SimulationStatus.RUNNING; turn++) {
+            engine.runIteration(horizon);
+        }
+        double[][] columns = new double[3][horizon.size()];
+        for (int i = 0; i < horizon.size(); i++) {
+            columns[0][i] = horizon.getId(i);
+            columns[1][i] = horizon.getX(i);
+            columns[2][i] = horizon.getGold(i);
+        }
+        return columns;
+    }
+}
@@ -1,7 +1,11 @@
 package com.simulador.criaturas.domain.service;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +18,7 @@ import com.simulador.criaturas.domain.model.CreatureUnit;
 import com.simulador.criaturas.domain.model.Guardian;
 import com.simulador.criaturas.domain.model.Horizon;
 import com.simulador.criaturas.domain.port.out.RandomPort;
+import com.simulador.criaturas.infrastructure.adapter.out.SplittableRandomPortFactory;
 import com.simulador.criaturas.utils.SimulationStatus;
 
 @DisplayName("Testes de Domínio/Fronteira para a classe Simulation (Serviço de Domínio)")
@@ -40,6 +45,11 @@ class SimulationTest {
         public double nextFactor() {
             return factorToReturn;
         }
+
+        @Override
+        public void fill(double[] out, int n) {
+            Arrays.fill(out, 0, n, factorToReturn);
+        }
     }
 
     @Test
@@ -191,4 +201,100 @@ class SimulationTest {
         assertEquals("A simulação não pode ser executada pois seu status é: " + horizon.getStatus(),
                 exception.getMessage());
     }
+
+    @Test
+    @DisplayName("runIteration: Uma fusão em massa deve gerar um único cluster e conservar o ouro")
+    void runIteration_shouldFuseCrowdIntoSingleCluster() {
+        Horizon horizon = new Horizon();
+        for (int i = 1; i <= 5_000; i++) {
+            horizon.addEntity(new CreatureUnit(i, 1_000.0 + i, 10.0));
+        }
+        horizon.setGuardiao(new Guardian(5_001, 10_000_000.0, 1.0));
+
+        simulation.runIteration(horizon);
+
+        assertEquals(1, horizon.getEntities().size());
+        assertTrue(horizon.getEntities().get(0) instanceof CreatureCluster);
+        assertEquals(50_000.0, horizon.getEntities().get(0).getGold(), 1e-6);
+    }
+
+    @Test
+    @DisplayName("createNewSimulation: Com fábrica de geradores, o horizonte deve receber uma semente")
+    void createNewSimulation_shouldAssignSeed_whenFactoryIsPresent() {
+        Simulation seeded = new Simulation(deterministicRandomPort, new SplittableRandomPortFactory());
+
+        assertNotNull(seeded.createNewSimulation(3).getSeed());
+        assertNull(simulation.createNewSimulation(3).getSeed());
+    }
+
+    @Test
+    @DisplayName("runIteration: A mesma semente deve reproduzir os mesmos turnos")
+    void runIteration_shouldReproduceTurns_forSameSeed() {
+        Simulation seeded = new Simulation(deterministicRandomPort, new SplittableRandomPortFactory());
+        Horizon first = seeded.createNewSimulation(10, 42L);
+        Horizon second = seeded.createNewSimulation(10, 42L);
+
+        for (int turn = 0; turn < 20 && first.getStatus() == SimulationStatus.RUNNING; turn++) {
+            seeded.runIteration(first);
+            seeded.runIteration(second);
+        }
+
+        assertEquals(first, second);
+        assertEquals(second.getTurn(), first.getTurn());
+    }
+
+    @Test
+    @DisplayName("forTurn: Sementes e turnos vizinhos não devem repetir a sequência de fatores")
+    void forTurn_shouldNotRepeatSequence_forNeighborSeedAndTurn() {
+        SplittableRandomPortFactory factory = new SplittableRandomPortFactory();
+        double[] a = new double[8];
+        double[] b = new double[8];
+        double[] c = new double[8];
+
+        factory.forTurn(7L, 4).fill(a, 8);
+        factory.forTurn(8L, 3).fill(b, 8);
+        factory.forTurn(7L, 4).fill(c, 8);
+
+        assertFalse(Arrays.equals(a, b));
+        assertTrue(Arrays.equals(a, c));
+        for (double fator : a) {
+            assertTrue(fator >= -1 && fator <= 1);
+        }
+    }
+
+    @Test
+    @DisplayName("createNewSimulation: Deve rejeitar semente sem fábrica de geradores")
+    void createNewSimulation_shouldRejectSeed_withoutFactory() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> simulation.createNewSimulation(3, 42L));
+
+        assertEquals("Este serviço de simulação não aceita sementes.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("runIteration: Deve sortear todos os fatores do turno em uma única chamada a fill")
+    void runIteration_shouldDrawTurnFactors_inSingleFill() {
+        int[] calls = new int[2];
+        RandomPort counting = new RandomPort() {
+            @Override
+            public double nextFactor() {
+                calls[0]++;
+                return 0.0;
+            }
+
+            @Override
+            public void fill(double[] out, int n) {
+                calls[1]++;
+                Arrays.fill(out, 0, n, 0.0);
+            }
+        };
+        Horizon horizon = new Horizon();
+        horizon.initializeEntities(10);
+        horizon.setGuardiao(new Guardian(11));
+
+        new Simulation(counting).runIteration(horizon);
+
+        assertEquals(0, calls[0]);
+        assertEquals(1, calls[1]);
+    }
 }
@@ -0,0 +1,87 @@
+package com.simulador.criaturas.infrastructure.adapter.in.rest.dto;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+@DisplayName("Testes de Unidade para a serialização da lista de entidades")
+class HorizonEntityListSerializerTest {
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final CBORMapper cbor = new CBORMapper();
+
+    @Test
+    @DisplayName("JSON: Deve manter o array polimórfico com o campo 'type'")
+    void json_shouldKeepPolymorphicArray() throws Exception {
+        JsonNode entities = json.readTree(json.writeValueAsString(horizon())).get("entities");
+
+        assertTrue(entities.isArray());
+        assertEquals("CREATURE_UNIT", entities.get(0).get("type").asText());
+        assertEquals("CREATURE_CLUSTER", entities.get(1).get("type").asText());
+        assertEquals(2, entities.get(1).get("id").asInt());
+    }
+
+    @Test
+    @DisplayName("JSON: Deve ler o array polimórfico de volta para os DTOs concretos")
+    void json_shouldRoundTrip() throws Exception {
+        HorizonDTO lido = json.readValue(json.writeValueAsBytes(horizon()), HorizonDTO.class);
+
+        assertEquals(horizon(), lido);
+    }
+
+    @Test
+    @DisplayName("CBOR: Deve escrever as entidades como um bloco binário compacto e lê-lo de volta")
+    void cbor_shouldRoundTripCompactBlock() throws Exception {
+        byte[] bytes = cbor.writeValueAsBytes(horizon());
+        JsonNode entities = cbor.readTree(bytes).get("entities");
+
+        assertTrue(entities.isBinary());
+        assertEquals(4 + 2 * HorizonEntityListSerializer.RECORD_BYTES, entities.binaryValue().length);
+        assertEquals(horizon(), cbor.readValue(bytes, HorizonDTO.class));
+        assertThat(bytes.length).isLessThan(json.writeValueAsBytes(horizon()).length);
+    }
+
+    @Test
+    @DisplayName("CBOR: Deve rejeitar um bloco de entidades truncado")
+    void cbor_shouldRejectTruncatedBlock() throws Exception {
+        byte[] bloco = HorizonEntityListSerializer.pack(horizon().getEntities());
+        byte[] truncado = Arrays.copyOf(bloco, bloco.length - 1);
+        byte[] bytes = cbor.writeValueAsBytes(Map.of("entities", truncado));
+
+        assertThrows(MismatchedInputException.class, () -> cbor.readValue(bytes, HorizonDTO.class));
+    }
+
+    private static HorizonDTO horizon() {
+        CreatureUnitDTO unidade = new CreatureUnitDTO();
+        unidade.setId(1);
+        unidade.setX(-12.5);
+        unidade.setGold(1_000_000);
+        CreatureClusterDTO cluster = new CreatureClusterDTO();
+        cluster.setId(2);
+        cluster.setX(300.25);
+        cluster.setGold(2_000_000);
+        GuardianDTO guardiao = new GuardianDTO();
+        guardiao.setId(3);
+
+        HorizonDTO dto = new HorizonDTO();
+        dto.setEntities(List.of(unidade, cluster));
+        dto.setGuardiao(guardiao);
+        dto.setStatus(SimulationStatus.RUNNING);
+        dto.setSeed(42L);
+        dto.setTurn(7);
+        return dto;
+    }
+}
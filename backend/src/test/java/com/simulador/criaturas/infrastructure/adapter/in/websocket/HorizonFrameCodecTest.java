@@ -0,0 +1,69 @@
+package com.simulador.criaturas.infrastructure.adapter.in.websocket;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.simulador.criaturas.domain.model.CreatureUnit;
+import com.simulador.criaturas.domain.model.Guardian;
+import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+@DisplayName("Testes de Unidade para o HorizonFrameCodec")
+class HorizonFrameCodecTest {
+
+    @Test
+    @DisplayName("encodeFrame: Deve escrever o cabeçalho, o guardião e um registro de tamanho fixo por entidade")
+    void encodeFrame_shouldWriteHeaderAndFixedRecords() {
+        Horizon horizon = new Horizon();
+        horizon.addEntity(new CreatureUnit(1, 10.0, 100.0));
+        horizon.addEntity(new CreatureUnit(2, -20.0, 200.0));
+        horizon.setGuardiao(new Guardian(3, 5.0, 7.5));
+        horizon.setStatus(SimulationStatus.SUCCESSFUL);
+        horizon.setTurn(42);
+
+        ByteBuffer frame = HorizonFrameCodec.encodeFrame(horizon);
+
+        assertEquals(HorizonFrameCodec.HEADER_BYTES + 2 * HorizonFrameCodec.RECORD_BYTES, frame.remaining());
+        assertEquals(HorizonFrameCodec.FRAME, frame.get());
+        assertEquals(1, frame.get());
+        assertEquals(42, frame.getInt());
+        assertEquals(3, frame.getInt());
+        assertEquals(5.0, frame.getDouble());
+        assertEquals(7.5, frame.getDouble());
+        assertEquals(2, frame.getInt());
+        assertEquals(1, frame.getInt());
+        assertEquals(10.0, frame.getDouble());
+        assertEquals(100.0, frame.getDouble());
+        assertEquals(HorizonFrameCodec.KIND_UNIT, frame.get());
+        assertEquals(2, frame.getInt());
+        assertEquals(-20.0, frame.getDouble());
+        assertEquals(200.0, frame.getDouble());
+        assertEquals(HorizonFrameCodec.KIND_UNIT, frame.get());
+        assertEquals(0, frame.remaining());
+    }
+
+    @Test
+    @DisplayName("encodeFrame: Sem guardião, deve escrever o id -1")
+    void encodeFrame_shouldWriteMissingGuardian() {
+        ByteBuffer frame = HorizonFrameCodec.encodeFrame(new Horizon());
+
+        assertEquals(HorizonFrameCodec.HEADER_BYTES, frame.remaining());
+        frame.position(1 + 1 + 4);
+        assertEquals(-1, frame.getInt());
+    }
+
+    @Test
+    @DisplayName("encodeError: Deve escrever o tipo de erro seguido da mensagem em UTF-8")
+    void encodeError_shouldWriteUtf8Message() {
+        ByteBuffer erro = HorizonFrameCodec.encodeError("Comando inválido.");
+
+        assertEquals(HorizonFrameCodec.ERROR, erro.get());
+        byte[] texto = new byte[erro.remaining()];
+        erro.get(texto);
+        assertEquals("Comando inválido.", new String(texto, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,114 @@
+package com.simulador.criaturas.infrastructure.adapter.out.checkpoint;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.Mockito.mock;
+
+import com.simulador.criaturas.domain.model.CompactHorizon;
+import com.simulador.criaturas.domain.model.Guardian;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+@DisplayName("Testes de Unidade para o MappedFileCheckpointStore")
+class MappedFileCheckpointStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("offer/load: Deve gravar o checkpoint em registros de tamanho fixo e lê-lo de volta")
+    void offer_thenLoad_shouldRoundTrip() throws Exception {
+        MappedFileCheckpointStore store = new MappedFileCheckpointStore(directory, writer);
+        CompactHorizon horizon = horizon();
+
+        assertTrue(store.offer("run-1", horizon));
+        CompactHorizon loaded = store.load("run-1").orElseThrow();
+
+        assertEquals(MappedFileCheckpointStore.HEADER_BYTES + 3 * MappedFileCheckpointStore.RECORD_BYTES,
+                Files.size(directory.resolve("run-1.ckpt")));
+        assertEquals(3, loaded.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(horizon.getId(i), loaded.getId(i));
+            assertEquals(horizon.getX(i), loaded.getX(i));
+            assertEquals(horizon.getGold(i), loaded.getGold(i));
+            assertEquals(horizon.getKind(i), loaded.getKind(i));
+        }
+        assertEquals(horizon.getGuardiao(), loaded.getGuardiao());
+        assertEquals(17, loaded.getTurn());
+        assertEquals(SimulationStatus.RUNNING, loaded.getStatus());
+    }
+
+    @Test
+    @DisplayName("offer: Deve descartar o checkpoint enquanto a gravação anterior do mesmo id não termina")
+    void offer_shouldSkip_whileWriteIsPending() {
+        // Um executor que nunca executa deixa a primeira gravação pendente.
+        MappedFileCheckpointStore store = new MappedFileCheckpointStore(directory, mock(ExecutorService.class));
+
+        assertTrue(store.offer("run-1", horizon()));
+        assertFalse(store.offer("run-1", horizon()));
+        assertTrue(store.offer("run-2", horizon()));
+    }
+
+    @Test
+    @DisplayName("load: Uma gravação interrompida (arquivo .tmp) não deve afetar o último checkpoint completo")
+    void load_shouldIgnoreInterruptedWrite() throws Exception {
+        MappedFileCheckpointStore store = new MappedFileCheckpointStore(directory, writer);
+        store.offer("run-1", horizon());
+        store.load("run-1");
+        Files.write(directory.resolve("run-1.ckpt.tmp"), new byte[]{1, 2, 3});
+
+        assertEquals(17, store.load("run-1").orElseThrow().getTurn());
+    }
+
+    @Test
+    @DisplayName("load: Deve rejeitar um arquivo corrompido e devolver vazio se não houver checkpoint")
+    void load_shouldRejectCorruptedFile_andReturnEmptyWhenMissing() throws Exception {
+        MappedFileCheckpointStore store = new MappedFileCheckpointStore(directory, writer);
+        Files.write(directory.resolve("run-1.ckpt"), new byte[MappedFileCheckpointStore.HEADER_BYTES]);
+
+        assertThrows(IllegalStateException.class, () -> store.load("run-1"));
+        assertTrue(store.load("run-2").isEmpty());
+    }
+
+    @Test
+    @DisplayName("delete: Deve remover o checkpoint; ids fora do padrão devem ser rejeitados")
+    void delete_shouldRemoveCheckpoint_andRejectInvalidIds() {
+        MappedFileCheckpointStore store = new MappedFileCheckpointStore(directory, writer);
+        store.offer("run-1", horizon());
+
+        store.delete("run-1");
+
+        assertTrue(store.load("run-1").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> store.load("../fora"));
+        assertThrows(IllegalArgumentException.class, () -> store.offer("", horizon()));
+    }
+
+    private static CompactHorizon horizon() {
+        CompactHorizon horizon = new CompactHorizon();
+        horizon.add(1, -10.5, 100.0, CompactHorizon.KIND_UNIT);
+        horizon.add(2, 20.25, 200.0, CompactHorizon.KIND_CLUSTER);
+        horizon.add(5, 30.0, 300.0, CompactHorizon.KIND_UNIT);
+        horizon.setGuardiao(new Guardian(6, 7.0, 8.0));
+        horizon.setTurn(17);
+        return horizon;
+    }
+}
@@ -0,0 +1,77 @@
+package com.simulador.criaturas.infrastructure.adapter.out.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.model.SimulationSession;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Testes para o armazenamento de sessões em memória")
+class InMemorySimulationSessionStoreTest {
+
+    private long now;
+    private InMemorySimulationSessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        now = 0;
+        store = new InMemorySimulationSessionStore(2, 1_000, () -> now);
+    }
+
+    private static SimulationSession session(String id) {
+        return new SimulationSession(id, 1L, new Horizon());
+    }
+
+    @Test
+    @DisplayName("findById: Deve expirar a sessão sem acesso após o TTL e contar como falta")
+    void findById_shouldExpireIdleSession() {
+        store.save(session("a"));
+
+        now = 999;
+        assertTrue(store.findById("a").isPresent());
+        now = 1_998;
+        assertTrue(store.findById("a").isPresent(), "O acesso renova o prazo.");
+        now = 2_998;
+        assertFalse(store.findById("a").isPresent());
+
+        assertEquals(2, store.hitCount());
+        assertEquals(1, store.missCount());
+        assertEquals(1, store.evictionCount());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("save: Deve remover a sessão acessada há mais tempo ao atingir o limite")
+    void save_shouldEvictLeastRecentlyUsed_whenFull() {
+        store.save(session("a"));
+        store.save(session("b"));
+        store.findById("a");
+
+        store.save(session("c"));
+
+        assertTrue(store.findById("a").isPresent());
+        assertFalse(store.findById("b").isPresent());
+        assertTrue(store.findById("c").isPresent());
+        assertEquals(1, store.evictionCount());
+    }
+
+    @Test
+    @DisplayName("bindTo: Deve publicar acertos, faltas, remoções e tamanho como métricas")
+    void bindTo_shouldPublishMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        store.bindTo(registry);
+        store.save(session("a"));
+        store.findById("a");
+        store.findById("x");
+
+        assertEquals(1.0, registry.get("simulation.sessions.hits").functionCounter().count());
+        assertEquals(1.0, registry.get("simulation.sessions.misses").functionCounter().count());
+        assertEquals(1.0, registry.get("simulation.sessions.size").gauge().value());
+    }
+}
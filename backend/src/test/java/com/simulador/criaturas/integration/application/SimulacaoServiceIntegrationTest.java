@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.simulador.criaturas.application.SimulacaoService;
 import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.model.MonteCarloResult;
 import com.simulador.criaturas.domain.model.User;
 import com.simulador.criaturas.domain.port.out.UserRepositoryPort;
 import com.simulador.criaturas.infrastructure.adapter.out.persistence.repository.SpringDataUserRepository;
@@ -111,4 +112,16 @@ class SimulacaoServiceIntegrationTest {
         assertThat(horizon.getEntities()).hasSize(numberOfCreatures);
         assertThat(horizon.getGuardiao()).isNotNull();
     }
+
+    @Test
+    @DisplayName("runMonteCarlo: Deve executar o lote em paralelo sem alterar as estatísticas do usuário")
+    void runMonteCarlo_shouldNotPersistUserStats() {
+        MonteCarloResult result = simulacaoService.runMonteCarlo(5, 200);
+
+        assertThat(result.getRuns()).isEqualTo(200);
+        assertThat(result.getTurnsHistogram().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(200);
+        User userFromDb = userRepositoryPort.findById(testUser.getId()).orElseThrow();
+        assertThat(userFromDb.getSimulationsRun()).isZero();
+        assertThat(userFromDb.getPontuation()).isZero();
+    }
 }
@@ -1,5 +1,8 @@
 package com.simulador.criaturas.integration.application;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,9 +16,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.simulador.criaturas.application.StatisticsService;
 import com.simulador.criaturas.domain.model.User;
+import com.simulador.criaturas.domain.model.UserStatsDelta;
 import com.simulador.criaturas.domain.port.out.UserRepositoryPort;
 import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.GlobalStatisticsDTO;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.RankingPageDTO;
 import com.simulador.criaturas.infrastructure.adapter.out.persistence.repository.SpringDataUserRepository;
+import com.simulador.criaturas.infrastructure.adapter.out.persistence.repository.SpringDataUserStatsTotalsRepository;
 
 @SpringBootTest
 @Transactional
@@ -30,9 +36,14 @@ class StatisticsServiceIntegrationTest {
     @Autowired
     private SpringDataUserRepository springDataUserRepository;
 
+    @Autowired
+    private SpringDataUserStatsTotalsRepository totalsRepository;
+
+    // Limpa pela porta, e não pelo repositório do Spring Data: assim o ranking
+    // em memória e os totais acompanham a exclusão de usuários já existentes.
     @BeforeEach
     void setUp() {
-        springDataUserRepository.deleteAll();
+        userRepositoryPort.findAll().forEach(userRepositoryPort::delete);
     }
 
     @Test
@@ -88,6 +99,65 @@ class StatisticsServiceIntegrationTest {
                 .containsExactly("userA");
     }
 
+    @Test
+    @DisplayName("getGlobalStatistics: Os totais devem acompanhar cadastros, resultados, edições e exclusões")
+    void getGlobalStatistics_shouldTrackTotalsIncrementally() {
+        long simulacoes = userRepositoryPort.countTotalSimulations();
+        long sucessos = userRepositoryPort.countTotalSuccesses();
+
+        User userA = userRepositoryPort.save(new User(null, "userA", "p", 1, 5, 10));
+        User userB = userRepositoryPort.save(new User(null, "userB", "p", 1, 2, 3));
+        userRepositoryPort.recordSimulationResult(userA.getId(), 1);
+        userRepositoryPort.recordSimulationResults(List.of(new UserStatsDelta(userB.getId(), 4, 1),
+                new UserStatsDelta(9999L, 7, 7)));
+        User editado = userRepositoryPort.findById(userB.getId()).orElseThrow();
+        editado.setPontuation(0);
+        userRepositoryPort.update(editado);
+        userRepositoryPort.deleteById(userA.getId());
+
+        // Restam só os números do userB: 3 + 4 simulações; a pontuação foi zerada.
+        assertThat(userRepositoryPort.countTotalSimulations()).isEqualTo(simulacoes + 7);
+        assertThat(userRepositoryPort.countTotalSuccesses()).isEqualTo(sucessos);
+        assertThat(springDataUserRepository.sumTotalSimulationsRun()).isEqualTo(7L);
+        assertThat(springDataUserRepository.sumTotalSuccesses()).isZero();
+        assertThat(statisticsService.getGlobalStatistics(PageRequest.of(0, 10)).getTotalSimulationsRun())
+                .isEqualTo(simulacoes + 7);
+    }
+
+    @Test
+    @DisplayName("countTotalSimulations: Deve recriar a linha dos totais a partir das somas se ela tiver sido apagada")
+    void countTotals_shouldReseedFromSums_whenTotalsRowIsMissing() {
+        userRepositoryPort.save(new User(null, "userA", "p", 1, 5, 10));
+        totalsRepository.deleteAll();
+
+        User userB = userRepositoryPort.save(new User(null, "userB", "p", 1, 2, 3));
+        userRepositoryPort.recordSimulationResult(userB.getId(), 1);
+
+        assertThat(userRepositoryPort.countTotalSimulations()).isEqualTo(14L);
+        assertThat(userRepositoryPort.countTotalSuccesses()).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("getRankingAfter: Percorrer por cursor deve dar a mesma ordem da paginação por página")
+    void getRankingAfter_shouldWalkSameOrderAsPages() {
+        for (int i = 0; i < 7; i++) {
+            userRepositoryPort.save(new User(null, "user" + i, "p", 1, i % 3, 10));
+        }
+
+        List<String> porCursor = new ArrayList<>();
+        RankingPageDTO trecho = statisticsService.getRankingAfter(null, null, 3);
+        trecho.getUsers().forEach(u -> porCursor.add(u.getLogin()));
+        while (trecho.isHasMore()) {
+            trecho = statisticsService.getRankingAfter(trecho.getNextAfterScore(), trecho.getNextAfterLogin(), 3);
+            trecho.getUsers().forEach(u -> porCursor.add(u.getLogin()));
+        }
+
+        assertThat(porCursor).containsExactly("user2", "user5", "user1", "user4", "user0", "user3", "user6");
+        assertThat(statisticsService.getGlobalStatistics(PageRequest.of(0, 7)).getUserRankingPage())
+                .extracting("login")
+                .containsExactlyElementsOf(porCursor);
+    }
+
     @Test
     @DisplayName("getGlobalStatistics: Deve respeitar a ordenação solicitada na paginação")
     void getGlobalStatistics_shouldRespectSortOrder() {
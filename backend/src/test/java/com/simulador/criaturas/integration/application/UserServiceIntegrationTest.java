@@ -1,5 +1,7 @@
 package com.simulador.criaturas.integration.application;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -8,11 +10,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.simulador.criaturas.application.UserService;
 import com.simulador.criaturas.domain.model.User;
+import com.simulador.criaturas.domain.model.UserStatsDelta;
 import com.simulador.criaturas.domain.port.out.UserRepositoryPort;
 
 @SpringBootTest
@@ -28,6 +32,9 @@ class UserServiceIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     // --- Testes para registerNewUser ---
     @Test
     @DisplayName("registerNewUser: Deve salvar um novo usuário com a senha criptografada no banco de dados")
@@ -116,6 +123,45 @@ class UserServiceIntegrationTest {
         assertThat(userFromDb.getSimulationsRun()).isEqualTo(1);
     }
 
+    // --- Testes para recordSimulationResult ---
+    @Test
+    @DisplayName("recordSimulationResult: Deve somar simulações e pontuação no banco de dados")
+    void recordSimulationResult_shouldIncrementCountersInDatabase() {
+        User user = userService.registerNewUser("record_user", "pass", 1);
+
+        userService.recordSimulationResult(user.getId(), true);
+        userService.recordSimulationResult(user.getId(), false);
+        userService.recordSimulationResult(user.getId(), true);
+
+        User userFromDb = userRepository.findById(user.getId()).orElseThrow();
+        assertThat(userFromDb.getSimulationsRun()).isEqualTo(3);
+        assertThat(userFromDb.getPontuation()).isEqualTo(2);
+        assertThatThrownBy(() -> userService.recordSimulationResult(9999L, true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("recordSimulationResults: Deve aplicar um lote de incrementos num único comando")
+    void recordSimulationResults_shouldApplyBatchInDatabase() {
+        User first = userService.registerNewUser("batch_user_1", "pass", 1);
+        User second = userService.registerNewUser("batch_user_2", "pass", 1);
+
+        userRepository.recordSimulationResults(List.of(
+                new UserStatsDelta(first.getId(), 5, 2),
+                new UserStatsDelta(second.getId(), 1, 0),
+                new UserStatsDelta(9999L, 3, 3)));
+
+        // Lido via JDBC: o lote não passa pelo contexto de persistência do JPA.
+        Map<String, Object> firstRow = jdbcTemplate.queryForMap(
+                "SELECT simulations_run, pontuation FROM users WHERE id = ?", first.getId());
+        Map<String, Object> secondRow = jdbcTemplate.queryForMap(
+                "SELECT simulations_run, pontuation FROM users WHERE id = ?", second.getId());
+        assertThat(((Number) firstRow.get("simulations_run")).intValue()).isEqualTo(5);
+        assertThat(((Number) firstRow.get("pontuation")).intValue()).isEqualTo(2);
+        assertThat(((Number) secondRow.get("simulations_run")).intValue()).isEqualTo(1);
+        assertThat(((Number) secondRow.get("pontuation")).intValue()).isZero();
+    }
+
     // --- Testes para findUserByLogin ---
     @Test
     @DisplayName("findUserByLogin: Deve encontrar e retornar um usuário existente")
@@ -2,12 +2,14 @@ package com.simulador.criaturas.integration.repositorys;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import com.simulador.criaturas.infrastructure.adapter.out.persistence.entity.UserEntity;
 import com.simulador.criaturas.infrastructure.adapter.out.persistence.repository.SpringDataUserRepository;
@@ -117,4 +119,35 @@ class SpringDataUserRepositoryTest {
 
         assertThat(totalSuccesses).isNull();
     }
+
+    @Test
+    @DisplayName("findRankingAfter: Deve devolver os usuários seguintes ao cursor na ordem do ranking")
+    void findRankingAfter_shouldReturnUsersAfterCursor() {
+        userRepository.save(new UserEntity(null, "carol", "p", 1, 10, 20));
+        userRepository.save(new UserEntity(null, "alice", "p", 1, 10, 12));
+        userRepository.save(new UserEntity(null, "bob", "p", 1, 7, 9));
+        userRepository.save(new UserEntity(null, "dave", "p", 1, 3, 4));
+
+        List<UserEntity> primeiros = userRepository.findAllByOrderByPontuationDescLoginAsc(PageRequest.of(0, 2));
+        List<UserEntity> seguintes = userRepository.findRankingAfter(10, "carol", PageRequest.of(0, 5));
+
+        assertThat(primeiros).extracting(UserEntity::getLogin).containsExactly("alice", "carol");
+        assertThat(seguintes).extracting(UserEntity::getLogin).containsExactly("bob", "dave");
+    }
+
+    @Test
+    @DisplayName("findAllByOrderByPontuationDescLoginAsc: O desempate por login deve seguir a ordem do ranking em memória")
+    void rankingOrder_shouldMatchInMemoryLoginOrder() {
+        userRepository.save(new UserEntity(null, "alice", "p", 1, 5, 1));
+        userRepository.save(new UserEntity(null, "Zoe", "p", 1, 5, 1));
+        userRepository.save(new UserEntity(null, "álvaro", "p", 1, 5, 1));
+        userRepository.save(new UserEntity(null, "bob", "p", 1, 5, 1));
+
+        List<UserEntity> ranking = userRepository.findAllByOrderByPontuationDescLoginAsc(PageRequest.of(0, 10));
+        List<UserEntity> seguintes = userRepository.findRankingAfter(5, "alice", PageRequest.of(0, 10));
+
+        // Mesma ordem de LeaderboardIndexTest.page_shouldBreakTiesByBinaryLoginOrder.
+        assertThat(ranking).extracting(UserEntity::getLogin).containsExactly("Zoe", "alice", "bob", "álvaro");
+        assertThat(seguintes).extracting(UserEntity::getLogin).containsExactly("bob", "álvaro");
+    }
 }
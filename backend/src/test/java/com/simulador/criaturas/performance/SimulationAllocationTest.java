@@ -0,0 +1,63 @@
+package com.simulador.criaturas.performance;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.simulador.criaturas.domain.model.CreatureUnit;
+import com.simulador.criaturas.domain.model.Guardian;
+import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.port.out.RandomPort;
+import com.simulador.criaturas.domain.service.Simulation;
+
+/*
+ * Testes de alocação de memória do laço de turnos.
+ *
+ * Usam os bytes alocados pela thread (com.sun.management.ThreadMXBean). Rodam
+ * na execução "allocation-tests" do Surefire, em uma JVM sem mocks: os mocks
+ * inline do Mockito instrumentam as classes mockadas e passariam a alocar em
+ * todas as chamadas, inclusive nas de instâncias reais.
+ */
+@Tag("allocation")
+@DisplayName("Testes de Alocação para o laço de turnos da Simulation")
+class SimulationAllocationTest {
+
+    private static final int WARMUP_TURNS = 2_000;
+    private static final int MEASURED_TURNS = 1_000;
+
+    @Test
+    @DisplayName("runIteration: Em regime (sem fusões), o turno não deve alocar memória por entidade")
+    void runIteration_shouldNotAllocatePerEntity_inSteadyState() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        RandomPort fixedFactor = () -> 0.1;
+        Simulation simulation = new Simulation(fixedFactor);
+
+        // Criaturas muito afastadas e com pouco ouro: andam, roubam e nunca colidem.
+        Horizon horizon = new Horizon();
+        for (int i = 1; i <= 200; i++) {
+            horizon.addEntity(new CreatureUnit(i, i * 1_000_000.0, 1.0));
+        }
+        horizon.setGuardiao(new Guardian(201, 0.0, 1.0));
+        for (int turn = 0; turn < WARMUP_TURNS; turn++) {
+            simulation.runIteration(horizon);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int turn = 0; turn < MEASURED_TURNS; turn++) {
+            simulation.runIteration(horizon);
+        }
+        long perTurn = (threads.getThreadAllocatedBytes(threadId) - before) / MEASURED_TURNS;
+
+        assertEquals(200, horizon.getEntities().size());
+        assertTrue(perTurn < 64, "O turno alocou " + perTurn + " bytes em média; esperado ~0.");
+    }
+}
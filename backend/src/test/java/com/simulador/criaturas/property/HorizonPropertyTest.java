@@ -195,4 +195,48 @@ class HorizonPropertyTest {
             horizon.getEntitiesWithinRange(100.0, invalidRange);
         });
     }
+
+    @Property
+    void getEntitiesWithinRange_property_shouldMatchLinearScan_afterMoves(
+            @ForAll("populatedHorizons") Horizon horizon,
+            @ForAll @DoubleRange(min = -1, max = 1) double factor,
+            @ForAll @DoubleRange(min = 0, max = 5000) double centerPosition,
+            @ForAll @DoubleRange(min = 0, max = 500) double range
+    ) {
+        List<HorizonEntities> entities = new ArrayList<>(horizon.getEntities());
+        horizon.getEntitiesWithinRange(centerPosition, range);
+
+        for (HorizonEntities entity : entities) {
+            horizon.moveEntity(entity, factor);
+        }
+        List<HorizonEntities> result = horizon.getEntitiesWithinRange(centerPosition, range);
+
+        List<HorizonEntities> expected = entities.stream()
+                .filter(e -> Math.abs(e.getX() - centerPosition) <= range)
+                .collect(Collectors.toList());
+        assertEquals(expected, result);
+    }
+
+    @Property
+    void findNearestNeighbor_property_shouldMatchLinearScan(
+            @ForAll("horizonsWithDefinedPositions") Horizon horizon,
+            @ForAll @IntRange(min = 0, max = 19) int referencePosition
+    ) {
+        List<HorizonEntities> entities = horizon.getEntities();
+        HorizonEntities reference = entities.get(referencePosition % entities.size());
+
+        List<HorizonEntities> candidates = new ArrayList<>(entities);
+        candidates.remove(reference);
+        HorizonEntities expected = null;
+        double minDistance = Double.MAX_VALUE;
+        for (HorizonEntities candidate : candidates) {
+            double distance = Math.abs(reference.getX() - candidate.getX());
+            if (distance < minDistance) {
+                minDistance = distance;
+                expected = candidate;
+            }
+        }
+
+        assertTrue(expected == horizon.findNearestNeighbor(reference));
+    }
 }
@@ -1,5 +1,7 @@
 package com.simulador.criaturas.property;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -31,6 +33,11 @@ class SimulationPropertyTest {
         public double nextFactor() {
             return factor;
         }
+
+        @Override
+        public void fill(double[] out, int n) {
+            Arrays.fill(out, 0, n, factor);
+        }
     }
 
     @Property
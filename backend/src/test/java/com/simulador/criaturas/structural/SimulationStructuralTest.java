@@ -16,6 +16,7 @@ import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -34,7 +35,8 @@ import com.simulador.criaturas.utils.SimulationStatus;
 @DisplayName("Testes Estruturais (Caixa-Branca / MC/DC) para a classe Simulation")
 public class SimulationStructuralTest {
 
-    @Mock
+    // fill usa a implementação padrão da porta, que delega para nextFactor.
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private RandomPort randomPort;
 
     @InjectMocks
@@ -144,7 +146,7 @@ public class SimulationStructuralTest {
     void runIteration_shouldHandle_whenGuardianIsNull() {
         Horizon mockHorizon = mock(Horizon.class);
         when(mockHorizon.getStatus()).thenReturn(SimulationStatus.RUNNING);
-        when(mockHorizon.getEntities()).thenReturn(new ArrayList<>());
+        when(mockHorizon.getEntitiesView()).thenReturn(new ArrayList<>());
         when(mockHorizon.getGuardiao()).thenReturn(null);
         assertDoesNotThrow(() -> simulation.runIteration(mockHorizon));
     }
@@ -156,7 +158,7 @@ public class SimulationStructuralTest {
         List<HorizonEntities> listWithNull = new ArrayList<>();
         listWithNull.add(new CreatureUnit(1));
         listWithNull.add(null);
-        when(mockHorizon.getEntities()).thenReturn(listWithNull);
+        when(mockHorizon.getEntitiesView()).thenReturn(listWithNull);
         when(mockHorizon.getStatus()).thenReturn(SimulationStatus.RUNNING);
         assertDoesNotThrow(() -> simulation.runIteration(mockHorizon));
     }
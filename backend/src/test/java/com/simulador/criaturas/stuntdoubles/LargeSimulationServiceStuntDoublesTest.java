@@ -0,0 +1,104 @@
+package com.simulador.criaturas.stuntdoubles;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.simulador.criaturas.application.LargeSimulationService;
+import com.simulador.criaturas.domain.model.CompactHorizon;
+import com.simulador.criaturas.domain.port.out.LargeSimulationCheckpointPort;
+import com.simulador.criaturas.domain.service.LargeScaleSimulation;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes com dublês para o LargeSimulationService")
+class LargeSimulationServiceStuntDoublesTest {
+
+    @Mock
+    private LargeScaleSimulation motor;
+
+    @Mock
+    private LargeSimulationCheckpointPort checkpoints;
+
+    private LargeSimulationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new LargeSimulationService(motor, checkpoints, 1000, 50);
+    }
+
+    @Test
+    @DisplayName("runLargeSimulation: O checkpoint deve ficar no espaço de ids do usuário")
+    void runLargeSimulation_shouldScopeCheckpointToUser() {
+        CompactHorizon horizonte = new CompactHorizon();
+        horizonte.setStatus(SimulationStatus.SUCCESSFUL);
+        when(motor.createNewSimulation(100)).thenReturn(horizonte);
+
+        assertSame(horizonte, service.runLargeSimulation(100, "teste", 7L));
+
+        verify(checkpoints, times(2)).delete("u7_teste");
+    }
+
+    @Test
+    @DisplayName("resumeLargeSimulation: Não deve achar o checkpoint de outro usuário")
+    void resumeLargeSimulation_shouldNotFindOtherUsersCheckpoint() {
+        when(checkpoints.load("u8_teste")).thenReturn(Optional.empty());
+
+        NoSuchElementException exception = assertThrows(NoSuchElementException.class,
+                () -> service.resumeLargeSimulation("teste", 8L));
+
+        assertEquals("Checkpoint não encontrado: teste", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("runLargeSimulation: Deve recusar um id já em uso por outra execução do mesmo usuário")
+    void runLargeSimulation_shouldRejectCheckpointInUse() {
+        CompactHorizon horizonte = new CompactHorizon();
+        horizonte.setStatus(SimulationStatus.SUCCESSFUL);
+        when(motor.createNewSimulation(100)).thenReturn(horizonte);
+        when(checkpoints.load("u9_teste")).thenReturn(Optional.empty());
+        Throwable[] concorrente = new Throwable[1];
+        doAnswer(invocation -> {
+            // Chega enquanto a primeira execução ainda segura o id.
+            if (concorrente[0] == null) {
+                concorrente[0] = assertThrows(IllegalStateException.class,
+                        () -> service.resumeLargeSimulation("teste", 7L));
+                // O mesmo id de outro usuário é outro checkpoint.
+                assertThrows(NoSuchElementException.class, () -> service.resumeLargeSimulation("teste", 9L));
+            }
+            return null;
+        }).when(checkpoints).delete(anyString());
+
+        service.runLargeSimulation(100, "teste", 7L);
+
+        assertEquals("O checkpoint teste já está em uso por outra execução.", concorrente[0].getMessage());
+        // Terminada a execução, o id fica livre de novo.
+        when(checkpoints.load("u7_teste")).thenReturn(Optional.empty());
+        assertThrows(NoSuchElementException.class, () -> service.resumeLargeSimulation("teste", 7L));
+    }
+
+    @Test
+    @DisplayName("runLargeSimulation: Deve rejeitar id inválido ou usuário nulo antes de tocar nos checkpoints")
+    void runLargeSimulation_shouldRejectInvalidIdOrUser() {
+        assertThrows(IllegalArgumentException.class, () -> service.runLargeSimulation(100, "../fora", 7L));
+        assertThrows(IllegalArgumentException.class, () -> service.runLargeSimulation(100, "teste", null));
+        assertThrows(IllegalArgumentException.class, () -> service.resumeLargeSimulation("a".repeat(65), 7L));
+
+        verifyNoInteractions(checkpoints, motor);
+    }
+}
@@ -1,5 +1,9 @@
 package com.simulador.criaturas.stuntdoubles;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -7,16 +11,21 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -25,8 +34,14 @@ import org.mockito.stubbing.Answer;
 import com.simulador.criaturas.application.SimulacaoService;
 import com.simulador.criaturas.domain.model.Guardian;
 import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.model.MonteCarloResult;
+import com.simulador.criaturas.domain.port.in.SimulationReplayUseCase;
 import com.simulador.criaturas.domain.port.in.UserUseCase;
+import com.simulador.criaturas.domain.port.out.RandomPort;
+import com.simulador.criaturas.domain.port.out.SeededRandomPortFactory;
 import com.simulador.criaturas.domain.service.Simulation;
+import com.simulador.criaturas.infrastructure.adapter.out.RandomGeneratorAdapter;
+import com.simulador.criaturas.infrastructure.adapter.out.SplittableRandomPortFactory;
 import com.simulador.criaturas.utils.SimulationStatus;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +53,9 @@ class SimulacaoServiceStuntDoublesTest {
     @Mock
     private UserUseCase userUseCase;
 
+    @Mock
+    private SimulationReplayUseCase replayUseCase;
+
     @InjectMocks
     private SimulacaoService simulacaoService;
 
@@ -62,8 +80,7 @@ class SimulacaoServiceStuntDoublesTest {
 
         simulacaoService.runNextSimulation(horizonteEntrada, userId);
 
-        verify(userUseCase, never()).incrementSimulationsRun(anyLong());
-        verify(userUseCase, never()).incrementScore(anyLong());
+        verify(userUseCase, never()).recordSimulationResult(anyLong(), anyBoolean());
     }
 
     @Test
@@ -80,8 +97,9 @@ class SimulacaoServiceStuntDoublesTest {
 
         simulacaoService.runNextSimulation(horizonteEntrada, userId);
 
-        verify(userUseCase, times(1)).incrementSimulationsRun(userId);
-        verify(userUseCase, times(1)).incrementScore(userId);
+        verify(userUseCase, times(1)).recordSimulationResult(userId, true);
+        // Sem semente, não há o que reproduzir.
+        verifyNoInteractions(replayUseCase);
     }
 
     @Test
@@ -98,8 +116,59 @@ class SimulacaoServiceStuntDoublesTest {
 
         simulacaoService.runNextSimulation(horizonteEntrada, userId);
 
-        verify(userUseCase, times(1)).incrementSimulationsRun(userId);
-        verify(userUseCase, never()).incrementScore(userId);
+        verify(userUseCase, times(1)).recordSimulationResult(userId, false);
+    }
+
+    @Test
+    @DisplayName("runSteps: Deve entregar um quadro a cada 'amostragem' turnos, sem repetir o estado final")
+    void runSteps_shouldSampleIntermediateFrames() {
+        Horizon horizonte = new Horizon();
+        doAnswer(invocation -> {
+            horizonte.setTurn(horizonte.getTurn() + 1);
+            return horizonte;
+        }).when(servicoDeDominio).runIteration(horizonte);
+        List<Integer> turnosAmostrados = new ArrayList<>();
+
+        Horizon resultado = simulacaoService.runSteps(horizonte, 1L, 7, 3,
+                quadro -> turnosAmostrados.add(quadro.getTurn()));
+
+        assertEquals(7, resultado.getTurn());
+        assertEquals(List.of(3, 6), turnosAmostrados);
+        verify(servicoDeDominio, times(7)).runIteration(horizonte);
+        verifyNoInteractions(userUseCase);
+    }
+
+    @Test
+    @DisplayName("runSteps: Deve parar quando a simulação terminar e atualizar as estatísticas uma única vez")
+    void runSteps_shouldStopEarlyAndUpdateStatsOnce_whenSimulationEnds() {
+        Long userId = 1L;
+        Horizon horizonte = new Horizon();
+        doAnswer(invocation -> {
+            horizonte.setTurn(horizonte.getTurn() + 1);
+            if (horizonte.getTurn() == 4) {
+                horizonte.setStatus(SimulationStatus.SUCCESSFUL);
+            }
+            return horizonte;
+        }).when(servicoDeDominio).runIteration(horizonte);
+        List<Integer> turnosAmostrados = new ArrayList<>();
+
+        Horizon resultado = simulacaoService.runSteps(horizonte, userId, 100, 1,
+                quadro -> turnosAmostrados.add(quadro.getTurn()));
+
+        assertEquals(4, resultado.getTurn());
+        assertEquals(List.of(1, 2, 3), turnosAmostrados);
+        verify(servicoDeDominio, times(4)).runIteration(horizonte);
+        verify(userUseCase, times(1)).recordSimulationResult(userId, true);
+    }
+
+    @Test
+    void runSteps_shouldThrowException_forInvalidArguments() {
+        Horizon horizonte = new Horizon();
+
+        assertThrows(IllegalArgumentException.class, () -> simulacaoService.runSteps(horizonte, null, 1, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> simulacaoService.runSteps(horizonte, 1L, 0, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> simulacaoService.runSteps(horizonte, 1L, 1, 0, null));
+        verifyNoInteractions(servicoDeDominio);
     }
 
     @Test
@@ -127,8 +196,7 @@ class SimulacaoServiceStuntDoublesTest {
         assertThrows(RuntimeException.class, () -> simulacaoService.runFullSimulation(1, userId));
 
         verify(servicoDeDominio, times(1)).runIteration(any(Horizon.class));
-        verify(userUseCase, never()).incrementSimulationsRun(userId);
-        verify(userUseCase, never()).incrementScore(userId);
+        verify(userUseCase, never()).recordSimulationResult(eq(userId), anyBoolean());
     }
 
     @Test
@@ -152,8 +220,7 @@ class SimulacaoServiceStuntDoublesTest {
         simulacaoService.runFullSimulation(1, userId);
 
         verify(servicoDeDominio, never()).runIteration(any(Horizon.class));
-        verify(userUseCase, times(1)).incrementSimulationsRun(userId);
-        verify(userUseCase, times(1)).incrementScore(userId);
+        verify(userUseCase, times(1)).recordSimulationResult(userId, true);
     }
 
     @Test
@@ -184,8 +251,7 @@ class SimulacaoServiceStuntDoublesTest {
         simulacaoService.runFullSimulation(1, userId);
 
         verify(servicoDeDominio, times(2)).runIteration(horizonte);
-        verify(userUseCase, times(1)).incrementSimulationsRun(userId);
-        verify(userUseCase, times(1)).incrementScore(userId);
+        verify(userUseCase, times(1)).recordSimulationResult(userId, true);
     }
 
     @Test
@@ -205,8 +271,7 @@ class SimulacaoServiceStuntDoublesTest {
         simulacaoService.runFullSimulation(1, userId);
 
         verify(servicoDeDominio, atLeastOnce()).runIteration(horizonte);
-        verify(userUseCase, times(1)).incrementSimulationsRun(userId);
-        verify(userUseCase, never()).incrementScore(userId);
+        verify(userUseCase, times(1)).recordSimulationResult(userId, false);
     }
 
     @Test
@@ -225,7 +290,154 @@ class SimulacaoServiceStuntDoublesTest {
 
         verify(servicoDeDominio, times(10000)).runIteration(horizonte);
         assertThat(resultado.getStatus()).isEqualTo(SimulationStatus.RUNNING);
-        verify(userUseCase, times(1)).incrementSimulationsRun(userId);
-        verify(userUseCase, never()).incrementScore(userId);
+        verify(userUseCase, times(1)).recordSimulationResult(userId, false);
+    }
+
+    @Test
+    @DisplayName("runFullSimulation: Deve gravar o status do laço completo, inclusive nas simulações que chegam ao limite")
+    void runFullSimulation_shouldRecordFullLoopStatus_forSeededRuns() {
+        int noLimite = 0;
+        int sucessos = 0;
+        for (int criaturas = 5; criaturas <= 6; criaturas++) {
+            for (long seed = 0; seed < 500; seed++) {
+                // Laço de referência, sem atalhos, até o fim ou até o limite.
+                Simulation referencia = new Simulation(new RandomGeneratorAdapter(), new SplittableRandomPortFactory());
+                Horizon esperado = referencia.createNewSimulation(criaturas, seed);
+                while (esperado.getStatus() == SimulationStatus.RUNNING && esperado.getTurn() < 10000) {
+                    referencia.runIteration(esperado);
+                }
+                if (esperado.getStatus() == SimulationStatus.RUNNING) {
+                    noLimite++;
+                } else if (esperado.getStatus() == SimulationStatus.SUCCESSFUL) {
+                    sucessos++;
+                }
+
+                Horizon obtido = serviceWithSeed(seed).runFullSimulation(criaturas, 1L);
+
+                String caso = "criaturas " + criaturas + ", semente " + seed;
+                assertEquals(esperado.getStatus(), obtido.getStatus(), caso);
+                assertEquals(esperado.getTurn(), obtido.getTurn(), caso);
+            }
+        }
+        // Sem casos no limite, o teste não distinguiria um atalho do laço completo.
+        assertThat(noLimite).isPositive();
+        verify(userUseCase, times(sucessos)).recordSimulationResult(eq(1L), eq(true));
+    }
+
+    // Serviço com o domínio real, cujas simulações novas recebem 'seed'.
+    private SimulacaoService serviceWithSeed(long seed) {
+        SplittableRandomPortFactory geradores = new SplittableRandomPortFactory();
+        SeededRandomPortFactory fixa = new SeededRandomPortFactory() {
+            @Override
+            public long newSeed() {
+                return seed;
+            }
+
+            @Override
+            public RandomPort forTurn(long semente, int turn) {
+                return geradores.forTurn(semente, turn);
+            }
+        };
+        return new SimulacaoService(new Simulation(new RandomGeneratorAdapter(), fixa), userUseCase, replayUseCase,
+                null);
+    }
+
+    @Test
+    @DisplayName("runFullSimulation: Não deve gravar estatísticas se quem chamou recusar a gravação")
+    void runFullSimulation_shouldNotRecordStats_whenRecordingIsRefused() {
+        Horizon horizonte = new Horizon();
+        horizonte.setSeed(42L);
+        horizonte.setStatus(SimulationStatus.SUCCESSFUL);
+        when(servicoDeDominio.createNewSimulation(anyInt())).thenReturn(horizonte);
+
+        assertThrows(CancellationException.class, () -> simulacaoService.runFullSimulation(5, 1L, () -> false));
+
+        verifyNoInteractions(userUseCase, replayUseCase);
+    }
+
+    @Test
+    @DisplayName("runFullSimulation: Deve registrar o replay de uma simulação com semente ao terminar")
+    void runFullSimulation_shouldRecordReplay_whenSimulationHasSeed() {
+        Horizon horizonte = new Horizon();
+        horizonte.setSeed(42L);
+        horizonte.setStatus(SimulationStatus.SUCCESSFUL);
+        when(servicoDeDominio.createNewSimulation(anyInt())).thenReturn(horizonte);
+
+        simulacaoService.runFullSimulation(5, 1L);
+
+        // O replay vem antes, para que uma falha nele não deixe a estatística contada.
+        InOrder ordem = inOrder(replayUseCase, userUseCase);
+        ordem.verify(replayUseCase).recordFinished(horizonte, 1L);
+        ordem.verify(userUseCase).recordSimulationResult(1L, true);
+    }
+
+    @Test
+    @DisplayName("runNextSimulation: Só deve registrar o replay de horizontes do servidor")
+    void runNextSimulation_shouldRecordReplay_onlyForServerOwnedHorizons() {
+        Horizon horizonte = new Horizon();
+        horizonte.setSeed(42L);
+        when(servicoDeDominio.runIteration(horizonte)).thenAnswer(invocation -> {
+            horizonte.setStatus(SimulationStatus.FAILED);
+            return horizonte;
+        });
+
+        // Enviado pelo cliente: a semente e o turno não são confiáveis.
+        simulacaoService.runNextSimulation(horizonte, 1L);
+        verifyNoInteractions(replayUseCase);
+
+        horizonte.setStatus(SimulationStatus.RUNNING);
+        simulacaoService.runNextSimulation(horizonte, 1L, true);
+        verify(replayUseCase).recordFinished(horizonte, 1L);
+        verify(userUseCase, times(2)).recordSimulationResult(1L, false);
+    }
+
+    @Test
+    void runMonteCarlo_shouldAggregateRuns_withoutTouchingUserStats() {
+        when(servicoDeDominio.createNewSimulation(3)).thenAnswer(invocation -> {
+            Horizon horizonte = new Horizon();
+            horizonte.initializeEntities(3);
+            horizonte.setGuardiao(new Guardian(4));
+            return horizonte;
+        });
+        doAnswer(invocation -> {
+            Horizon horizonte = invocation.getArgument(0);
+            horizonte.setStatus(SimulationStatus.SUCCESSFUL);
+            return horizonte;
+        }).when(servicoDeDominio).runIteration(any(Horizon.class));
+
+        MonteCarloResult resultado = simulacaoService.runMonteCarlo(3, 50);
+
+        assertEquals(50, resultado.getRuns());
+        assertEquals(1.0, resultado.getSuccessRate());
+        assertEquals(50L, resultado.getTurnsHistogram().get(1));
+        verify(servicoDeDominio, times(50)).createNewSimulation(3);
+        verifyNoInteractions(userUseCase);
+    }
+
+    @Test
+    void runMonteCarlo_shouldThrowException_forNonPositiveRuns() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> simulacaoService.runMonteCarlo(3, 0));
+
+        assertEquals("O número de execuções deve ser positivo.", exception.getMessage());
+        verifyNoInteractions(servicoDeDominio);
+    }
+
+    @Test
+    void runFullSimulation_shouldStopWithoutStats_whenThreadIsInterrupted() {
+        Horizon horizonte = new Horizon();
+        horizonte.initializeEntities(2);
+        horizonte.setGuardiao(new Guardian(3));
+        when(servicoDeDominio.createNewSimulation(2)).thenReturn(horizonte);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class, () -> simulacaoService.runFullSimulation(2, 1L));
+        } finally {
+            Thread.interrupted();
+        }
+
+        verify(servicoDeDominio, never()).runIteration(any(Horizon.class));
+        verifyNoInteractions(userUseCase);
     }
 }
@@ -0,0 +1,108 @@
+package com.simulador.criaturas.stuntdoubles;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.port.in.SimulacaoUseCase;
+import com.simulador.criaturas.infrastructure.adapter.in.stream.FrameSink;
+import com.simulador.criaturas.infrastructure.adapter.in.stream.SimulationFrameTask;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes com dublês para a transmissão de quadros da simulação")
+class SimulationFrameTaskStuntDoublesTest {
+
+    @Mock
+    private SimulacaoUseCase simulacaoUseCase;
+
+    private static class RecordingSink implements FrameSink {
+
+        private final List<Integer> turns = new ArrayList<>();
+        private boolean completed;
+        private Exception error;
+        private boolean disconnected;
+
+        @Override
+        public void send(Horizon horizonte) throws IOException {
+            if (disconnected) {
+                throw new IOException("Cliente desconectado.");
+            }
+            turns.add(horizonte.getTurn());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void fail(Exception error) {
+            this.error = error;
+        }
+    }
+
+    // Cada turno avança o contador; no turno 'fim' a simulação termina.
+    private void simulationEndingAt(Horizon horizonte, int fim) {
+        when(simulacaoUseCase.runNextSimulation(eq(horizonte), any(), eq(true))).thenAnswer(invocation -> {
+            horizonte.setTurn(horizonte.getTurn() + 1);
+            if (horizonte.getTurn() == fim) {
+                horizonte.setStatus(SimulationStatus.SUCCESSFUL);
+            }
+            return horizonte;
+        });
+    }
+
+    @Test
+    @DisplayName("run: Deve enviar o estado inicial e um quadro a cada 'stride' turnos até o fim")
+    void run_shouldSendSampledFrames_untilSimulationEnds() {
+        Horizon horizonte = new Horizon();
+        simulationEndingAt(horizonte, 7);
+        RecordingSink sink = new RecordingSink();
+        SimulationFrameTask task = new SimulationFrameTask(simulacaoUseCase, horizonte, 1L, 3, 100, sink);
+
+        for (int i = 0; i < 10; i++) {
+            task.run();
+        }
+
+        assertEquals(List.of(0, 3, 6, 7), sink.turns);
+        assertTrue(sink.completed);
+        assertTrue(task.isDone());
+        verify(simulacaoUseCase, times(7)).runNextSimulation(eq(horizonte), any(), eq(true));
+    }
+
+    @Test
+    @DisplayName("run: Deve parar de simular quando o cliente se desconecta")
+    void run_shouldStop_whenClientDisconnects() {
+        Horizon horizonte = new Horizon();
+        RecordingSink sink = new RecordingSink();
+        SimulationFrameTask task = new SimulationFrameTask(simulacaoUseCase, horizonte, 1L, 1, 100, sink);
+        boolean[] cancelado = new boolean[1];
+        task.onDone(() -> cancelado[0] = true);
+
+        sink.disconnected = true;
+        task.run();
+        task.run();
+
+        assertTrue(task.isDone());
+        assertTrue(cancelado[0]);
+        assertTrue(sink.error instanceof IOException);
+        verify(simulacaoUseCase, never()).runNextSimulation(any(), any(), anyBoolean());
+    }
+}
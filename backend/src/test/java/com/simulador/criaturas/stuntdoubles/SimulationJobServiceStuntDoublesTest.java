@@ -0,0 +1,178 @@
+package com.simulador.criaturas.stuntdoubles;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.simulador.criaturas.application.SimulationJobService;
+import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.model.SimulationJob;
+import com.simulador.criaturas.domain.port.in.SimulacaoUseCase;
+import com.simulador.criaturas.utils.JobStatus;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes com dublês para o SimulationJobService")
+class SimulationJobServiceStuntDoublesTest {
+
+    @Mock
+    private SimulacaoUseCase simulacaoUseCase;
+
+    @Mock
+    private ScheduledExecutorService purgeScheduler;
+
+    private ExecutorService executor;
+    private SimulationJobService service;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        service = new SimulationJobService(simulacaoUseCase, executor, purgeScheduler, 600, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("awaitJob: Deve devolver o resultado da simulação quando o job termina")
+    void awaitJob_shouldReturnResult_whenJobCompletes() {
+        Horizon resultado = new Horizon();
+        when(simulacaoUseCase.runFullSimulation(eq(5), eq(1L), any())).thenReturn(resultado);
+
+        SimulationJob job = service.submitFullSimulation(5, 1L);
+        SimulationJob terminado = service.awaitJob(job.getId(), 1L, 5_000);
+
+        assertEquals(JobStatus.DONE, terminado.getStatus());
+        assertSame(resultado, terminado.getResult());
+    }
+
+    @Test
+    @DisplayName("cancelJob: Deve interromper a simulação em execução")
+    void cancelJob_shouldInterruptRunningSimulation() throws InterruptedException {
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch interrompido = new CountDownLatch(1);
+        when(simulacaoUseCase.runFullSimulation(eq(5), eq(1L), any())).thenAnswer(invocation -> {
+            iniciou.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrompido.countDown();
+            }
+            throw new CancellationException("A simulação foi cancelada.");
+        });
+
+        SimulationJob job = service.submitFullSimulation(5, 1L);
+        assertTrue(iniciou.await(5, TimeUnit.SECONDS));
+        SimulationJob cancelado = service.cancelJob(job.getId(), 1L);
+
+        assertEquals(JobStatus.CANCELLED, cancelado.getStatus());
+        assertTrue(interrompido.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("cancelJob: Depois que as estatísticas começam a ser gravadas, o job deve terminar DONE")
+    void cancelJob_shouldNotCancel_onceStatsAreBeingRecorded() throws InterruptedException {
+        CountDownLatch gravando = new CountDownLatch(1);
+        CountDownLatch libera = new CountDownLatch(1);
+        boolean[] interrompido = {false};
+        Horizon resultado = new Horizon();
+        when(simulacaoUseCase.runFullSimulation(eq(5), eq(1L), any())).thenAnswer(invocation -> {
+            BooleanSupplier antesDeGravar = invocation.getArgument(2);
+            assertTrue(antesDeGravar.getAsBoolean());
+            gravando.countDown();
+            try {
+                libera.await();
+            } catch (InterruptedException e) {
+                interrompido[0] = true;
+            }
+            return resultado;
+        });
+
+        SimulationJob job = service.submitFullSimulation(5, 1L);
+        assertTrue(gravando.await(5, TimeUnit.SECONDS));
+        SimulationJob cancelado = service.cancelJob(job.getId(), 1L);
+        assertEquals(JobStatus.RUNNING, cancelado.getStatus());
+        libera.countDown();
+
+        SimulationJob terminado = service.awaitJob(job.getId(), 1L, 5_000);
+        assertEquals(JobStatus.DONE, terminado.getStatus());
+        assertSame(resultado, terminado.getResult());
+        assertFalse(interrompido[0]);
+    }
+
+    @Test
+    @DisplayName("purge: A limpeza periódica deve descartar os jobs expirados sem esperar nova submissão")
+    void scheduledPurge_shouldDropExpiredJobs() throws InterruptedException {
+        ArgumentCaptor<Runnable> limpeza = ArgumentCaptor.forClass(Runnable.class);
+        SimulationJobService semRetencao = new SimulationJobService(simulacaoUseCase, executor, purgeScheduler, 0, 30);
+        verify(purgeScheduler).scheduleWithFixedDelay(limpeza.capture(), eq(30L), eq(30L), eq(TimeUnit.SECONDS));
+        when(simulacaoUseCase.runFullSimulation(eq(5), eq(1L), any())).thenReturn(new Horizon());
+        SimulationJob job = semRetencao.submitFullSimulation(5, 1L);
+        assertEquals(JobStatus.DONE, semRetencao.awaitJob(job.getId(), 1L, 5_000).getStatus());
+        Thread.sleep(5);
+
+        limpeza.getValue().run();
+
+        assertThrows(NoSuchElementException.class, () -> semRetencao.getJob(job.getId(), 1L));
+    }
+
+    @Test
+    @DisplayName("getJob: Não deve expor o job de outro usuário")
+    void getJob_shouldHideJobsOfOtherUsers() {
+        when(simulacaoUseCase.runFullSimulation(eq(5), eq(1L), any())).thenReturn(new Horizon());
+        SimulationJob job = service.submitFullSimulation(5, 1L);
+        service.awaitJob(job.getId(), 1L, 5_000);
+
+        assertThrows(NoSuchElementException.class, () -> service.getJob(job.getId(), 2L));
+    }
+
+    @Test
+    @DisplayName("submitFullSimulation: Deve recusar a submissão quando a fila está cheia")
+    void submitFullSimulation_shouldReject_whenQueueIsFull() throws InterruptedException {
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch libera = new CountDownLatch(1);
+        when(simulacaoUseCase.runFullSimulation(eq(5), eq(1L), any())).thenAnswer(invocation -> {
+            iniciou.countDown();
+            libera.await();
+            return new Horizon();
+        });
+
+        try {
+            service.submitFullSimulation(5, 1L); // ocupa a única thread
+            assertTrue(iniciou.await(5, TimeUnit.SECONDS));
+            service.submitFullSimulation(5, 1L); // ocupa a única vaga da fila
+
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> service.submitFullSimulation(5, 1L));
+            assertEquals("A fila de simulações assíncronas está cheia. Tente novamente mais tarde.",
+                    exception.getMessage());
+        } finally {
+            libera.countDown();
+        }
+    }
+}
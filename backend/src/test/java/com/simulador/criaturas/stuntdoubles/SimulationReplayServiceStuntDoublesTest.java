@@ -0,0 +1,178 @@
+package com.simulador.criaturas.stuntdoubles;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.simulador.criaturas.application.SimulationReplayService;
+import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.model.SimulationReplay;
+import com.simulador.criaturas.domain.port.out.SimulationReplayRepositoryPort;
+import com.simulador.criaturas.domain.service.Simulation;
+import com.simulador.criaturas.infrastructure.adapter.out.RandomGeneratorAdapter;
+import com.simulador.criaturas.infrastructure.adapter.out.SplittableRandomPortFactory;
+import com.simulador.criaturas.utils.SimulationStatus;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes com dublês para o SimulationReplayService")
+class SimulationReplayServiceStuntDoublesTest {
+
+    private static final int CRIATURAS = 10;
+    private static final int TURNOS = 25;
+
+    @Mock
+    private SimulationReplayRepositoryPort replayRepository;
+
+    private Simulation simulation;
+    private SimulationReplayService service;
+    private long seed;
+
+    @BeforeEach
+    void setUp() {
+        simulation = spy(new Simulation(new RandomGeneratorAdapter(), new SplittableRandomPortFactory()));
+        service = new SimulationReplayService(simulation, replayRepository, 10, 4);
+        seed = seedRunningFor(TURNOS);
+    }
+
+    @Test
+    @DisplayName("stateAt: Deve reconstruir exatamente o estado da simulação original no turno pedido")
+    void stateAt_shouldMatchOriginalRun() {
+        when(replayRepository.findById(1L))
+                .thenReturn(Optional.of(new SimulationReplay(1L, 7L, CRIATURAS, seed, TURNOS, SimulationStatus.RUNNING)));
+
+        for (int turno : new int[]{0, 9, 10, 17, TURNOS}) {
+            assertSameState(runDirectly(turno), service.stateAt(1L, 7L, turno));
+        }
+    }
+
+    @Test
+    @DisplayName("stateAt: Depois do registro, deve partir do checkpoint mais próximo em vez do turno 0")
+    void stateAt_shouldSeekFromNearestCheckpoint() {
+        when(replayRepository.save(any(SimulationReplay.class))).thenAnswer(invocation -> {
+            SimulationReplay replay = invocation.getArgument(0);
+            replay.setId(1L);
+            return replay;
+        });
+        SimulationReplay replay = service.record(CRIATURAS, seed, TURNOS, 7L);
+        when(replayRepository.findById(1L)).thenReturn(Optional.of(replay));
+        clearInvocations(simulation);
+
+        Horizon horizonte = service.stateAt(1L, 7L, 23);
+
+        assertEquals(23, horizonte.getTurn());
+        verify(simulation, never()).createNewSimulation(CRIATURAS, seed);
+        verify(simulation, times(3)).runIteration(any(Horizon.class));
+        assertSameState(runDirectly(23), horizonte);
+    }
+
+    @Test
+    @DisplayName("record: Deve rejeitar um turno posterior ao fim da simulação, sem salvar")
+    void record_shouldRejectTurnAfterSimulationEnds() {
+        Horizon fim = simulation.createNewSimulation(CRIATURAS, seed);
+        while (fim.getStatus() == SimulationStatus.RUNNING) {
+            simulation.runIteration(fim);
+        }
+        int alemDoFim = fim.getTurn() + 1;
+
+        assertThrows(IllegalArgumentException.class, () -> service.record(CRIATURAS, seed, alemDoFim, 7L));
+        verify(replayRepository, never()).save(any(SimulationReplay.class));
+    }
+
+    @Test
+    @DisplayName("recordFinished: Deve salvar o estado final sem reexecutar, e o replay deve reproduzi-lo")
+    void recordFinished_shouldSaveFinalStateWithoutRerunning() {
+        when(replayRepository.save(any(SimulationReplay.class))).thenAnswer(invocation -> {
+            SimulationReplay replay = invocation.getArgument(0);
+            replay.setId(1L);
+            return replay;
+        });
+        Horizon fim = runDirectly(TURNOS);
+        clearInvocations(simulation);
+
+        SimulationReplay replay = service.recordFinished(fim, 7L).orElseThrow();
+
+        assertEquals(new SimulationReplay(1L, 7L, CRIATURAS, seed, TURNOS, fim.getStatus()), replay);
+        verifyNoInteractions(simulation);
+        when(replayRepository.findById(1L)).thenReturn(Optional.of(replay));
+        assertSameState(fim, service.stateAt(1L, 7L, TURNOS));
+    }
+
+    @Test
+    @DisplayName("recordFinished: Não deve registrar simulações sem semente")
+    void recordFinished_shouldSkipUnseededSimulation() {
+        Horizon horizonte = runDirectly(3);
+        horizonte.setSeed(null);
+
+        assertTrue(service.recordFinished(horizonte, 7L).isEmpty());
+        verify(replayRepository, never()).save(any(SimulationReplay.class));
+    }
+
+    @Test
+    @DisplayName("recordFinished: Deve ignorar, sem lançar, um guardião que não indica o número de criaturas")
+    void recordFinished_shouldSkipMalformedGuardian() {
+        Horizon horizonte = runDirectly(3);
+        horizonte.getGuardiao().setId(42);
+
+        assertTrue(service.recordFinished(horizonte, 7L).isEmpty());
+        horizonte.setGuardiao(null);
+        assertTrue(service.recordFinished(horizonte, 7L).isEmpty());
+        verify(replayRepository, never()).save(any(SimulationReplay.class));
+    }
+
+    @Test
+    @DisplayName("stateAt: Deve esconder registros de outros usuários e rejeitar turnos fora do registro")
+    void stateAt_shouldValidateOwnerAndTurn() {
+        when(replayRepository.findById(1L))
+                .thenReturn(Optional.of(new SimulationReplay(1L, 7L, CRIATURAS, seed, TURNOS, SimulationStatus.RUNNING)));
+
+        assertThrows(NoSuchElementException.class, () -> service.stateAt(1L, 8L, 0));
+        assertThrows(IllegalArgumentException.class, () -> service.stateAt(1L, 7L, TURNOS + 1));
+    }
+
+    private Horizon runDirectly(int turno) {
+        Simulation independente = new Simulation(new RandomGeneratorAdapter(), new SplittableRandomPortFactory());
+        Horizon horizonte = independente.createNewSimulation(CRIATURAS, seed);
+        while (horizonte.getTurn() < turno) {
+            independente.runIteration(horizonte);
+        }
+        return horizonte;
+    }
+
+    // Uma semente cuja simulação ainda está em andamento no turno 'turnos'.
+    private long seedRunningFor(int turnos) {
+        Simulation busca = new Simulation(new RandomGeneratorAdapter(), new SplittableRandomPortFactory());
+        for (long candidata = 0;; candidata++) {
+            Horizon horizonte = busca.createNewSimulation(CRIATURAS, candidata);
+            while (horizonte.getTurn() < turnos && horizonte.getStatus() == SimulationStatus.RUNNING) {
+                busca.runIteration(horizonte);
+            }
+            if (horizonte.getStatus() == SimulationStatus.RUNNING) {
+                return candidata;
+            }
+        }
+    }
+
+    private static void assertSameState(Horizon esperado, Horizon obtido) {
+        assertEquals(esperado.getTurn(), obtido.getTurn());
+        assertEquals(esperado.getStatus(), obtido.getStatus());
+        assertEquals(esperado.getEntities(), obtido.getEntities());
+        assertEquals(esperado.getGuardiao(), obtido.getGuardiao());
+    }
+}
@@ -0,0 +1,112 @@
+package com.simulador.criaturas.stuntdoubles;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.simulador.criaturas.application.SimulationSessionService;
+import com.simulador.criaturas.domain.model.Horizon;
+import com.simulador.criaturas.domain.model.HorizonDelta;
+import com.simulador.criaturas.domain.model.SimulationSession;
+import com.simulador.criaturas.domain.port.in.SimulacaoUseCase;
+import com.simulador.criaturas.domain.port.out.SimulationSessionPort;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes com dublês para o SimulationSessionService")
+class SimulationSessionServiceStuntDoublesTest {
+
+    @Mock
+    private SimulacaoUseCase simulacaoUseCase;
+
+    @Mock
+    private SimulationSessionPort sessionPort;
+
+    @InjectMocks
+    private SimulationSessionService service;
+
+    @Test
+    @DisplayName("startSession: Deve guardar o horizonte inicial em uma nova sessão")
+    void startSession_shouldSaveInitialHorizon() {
+        Horizon horizonte = new Horizon();
+        when(simulacaoUseCase.initNewSimulation(5)).thenReturn(horizonte);
+
+        SimulationSession session = service.startSession(5, null, 1L);
+
+        assertSame(horizonte, session.getHorizon());
+        assertEquals(1L, session.getUserId());
+        verify(sessionPort).save(session);
+    }
+
+    @Test
+    @DisplayName("iterateSession: Deve avançar o horizonte guardado na sessão")
+    void iterateSession_shouldRunNextSimulationOnStoredHorizon() {
+        Horizon horizonte = new Horizon();
+        SimulationSession session = new SimulationSession("s1", 1L, horizonte);
+        when(sessionPort.findById("s1")).thenReturn(Optional.of(session));
+        when(simulacaoUseCase.runNextSimulation(horizonte, 1L, true)).thenReturn(horizonte);
+
+        assertSame(session, service.iterateSession("s1", 1L));
+        verify(simulacaoUseCase).runNextSimulation(horizonte, 1L, true);
+    }
+
+    @Test
+    @DisplayName("iterateSession: Não deve expor a sessão de outro usuário")
+    void iterateSession_shouldHideSessionsOfOtherUsers() {
+        Horizon horizonte = new Horizon();
+        when(sessionPort.findById("s1")).thenReturn(Optional.of(new SimulationSession("s1", 1L, horizonte)));
+
+        assertThrows(NoSuchElementException.class, () -> service.iterateSession("s1", 2L));
+        verify(simulacaoUseCase, never()).runNextSimulation(horizonte, 2L, true);
+    }
+
+    @Test
+    @DisplayName("iterateSessionDelta: Deve devolver o estado atual, sem executar turno, quando o cliente está em outro turno")
+    void iterateSessionDelta_shouldResync_whenClientTurnDiffers() {
+        Horizon horizonte = new Horizon();
+        horizonte.initializeEntities(2);
+        horizonte.setTurn(4);
+        when(sessionPort.findById("s1")).thenReturn(Optional.of(new SimulationSession("s1", 1L, horizonte)));
+
+        HorizonDelta delta = service.iterateSessionDelta("s1", 1L, 2);
+
+        assertTrue(delta.isResync());
+        assertEquals(4, delta.getTurn());
+        assertEquals(4, horizonte.getTurn());
+        assertEquals(2, delta.getAdded().size());
+        verify(simulacaoUseCase, never()).runNextSimulation(horizonte, 1L, true);
+    }
+
+    @Test
+    @DisplayName("iterateSessionDelta: Deve devolver só as mudanças quando o cliente está no turno atual")
+    void iterateSessionDelta_shouldReturnChanges_whenClientIsInSync() {
+        Horizon horizonte = new Horizon();
+        horizonte.initializeEntities(2);
+        when(sessionPort.findById("s1")).thenReturn(Optional.of(new SimulationSession("s1", 1L, horizonte)));
+        when(simulacaoUseCase.runNextSimulation(horizonte, 1L, true)).thenAnswer(invocation -> {
+            horizonte.getEntities().get(0).setX(1.0);
+            horizonte.setTurn(1);
+            return horizonte;
+        });
+
+        HorizonDelta delta = service.iterateSessionDelta("s1", 1L, 0);
+
+        assertFalse(delta.isResync());
+        assertEquals(0, delta.getBaseTurn());
+        assertEquals(1, delta.getMoved().size());
+        assertTrue(delta.getAdded().isEmpty());
+    }
+}
@@ -3,7 +3,10 @@ package com.simulador.criaturas.stuntdoubles;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,6 +14,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
@@ -22,6 +27,7 @@ import com.simulador.criaturas.application.StatisticsService;
 import com.simulador.criaturas.domain.model.User;
 import com.simulador.criaturas.domain.port.out.UserRepositoryPort;
 import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.GlobalStatisticsDTO;
+import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.RankingPageDTO;
 import com.simulador.criaturas.infrastructure.adapter.in.rest.dto.UserStatisticsDTO;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,7 +49,7 @@ public class StatisticsServiceStuntDoublesTest {
 
         Page<User> userPage = new PageImpl<>(userList, pageable, userList.size());
 
-        when(userRepository.findAll(any(Pageable.class))).thenReturn(userPage);
+        when(userRepository.findRankingPage(any(Pageable.class))).thenReturn(userPage);
         when(userRepository.countTotalSimulations()).thenReturn(25L);
         when(userRepository.countTotalSuccesses()).thenReturn(13L);
 
@@ -66,7 +72,7 @@ public class StatisticsServiceStuntDoublesTest {
         Pageable pageable = PageRequest.of(0, 5);
         Page<User> emptyPage = Page.empty(pageable);
 
-        when(userRepository.findAll(any(Pageable.class))).thenReturn(emptyPage);
+        when(userRepository.findRankingPage(any(Pageable.class))).thenReturn(emptyPage);
         when(userRepository.countTotalSimulations()).thenReturn(0L);
         when(userRepository.countTotalSuccesses()).thenReturn(0L);
 
@@ -86,7 +92,7 @@ public class StatisticsServiceStuntDoublesTest {
         User userA = new User(1L, "userA", "pass", 1, 0, 0);
         Page<User> userPage = new PageImpl<>(List.of(userA), pageable, 1);
 
-        when(userRepository.findAll(any(Pageable.class))).thenReturn(userPage);
+        when(userRepository.findRankingPage(any(Pageable.class))).thenReturn(userPage);
 
         when(userRepository.countTotalSimulations()).thenReturn(0L);
         when(userRepository.countTotalSuccesses()).thenReturn(0L);
@@ -100,4 +106,35 @@ public class StatisticsServiceStuntDoublesTest {
         UserStatisticsDTO statsA = result.getUserRankingPage().get(0);
         assertEquals(0.0, statsA.getSuccessRate());
     }
+
+    @Test
+    @DisplayName("getRankingAfter: Deve buscar um usuário a mais para montar o cursor, sem contar o total")
+    void getRankingAfter_shouldBuildNextCursor_fromExtraUser() {
+        User userA = new User(1L, "userA", null, 0, 10, 20);
+        User userB = new User(2L, "userB", null, 0, 8, 10);
+        User userC = new User(3L, "userC", null, 0, 8, 9);
+        when(userRepository.findRankingAfter(12, "userZ", 3)).thenReturn(List.of(userA, userB, userC));
+        when(userRepository.findRankingAfter(8, "userB", 3)).thenReturn(List.of(userC));
+
+        RankingPageDTO primeiro = statisticsService.getRankingAfter(12, "userZ", 2);
+        RankingPageDTO ultimo = statisticsService.getRankingAfter(8, "userB", 2);
+
+        assertEquals(List.of("userA", "userB"), primeiro.getUsers().stream().map(UserStatisticsDTO::getLogin).toList());
+        assertTrue(primeiro.isHasMore());
+        assertEquals(8, primeiro.getNextAfterScore());
+        assertEquals("userB", primeiro.getNextAfterLogin());
+        assertEquals(1, ultimo.getUsers().size());
+        assertFalse(ultimo.isHasMore());
+        assertNull(ultimo.getNextAfterLogin());
+        verify(userRepository, never()).findRankingPage(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("getRankingAfter: Deve recusar cursor incompleto e tamanho fora do intervalo")
+    void getRankingAfter_shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> statisticsService.getRankingAfter(5, null, 5));
+        assertThrows(IllegalArgumentException.class, () -> statisticsService.getRankingAfter(null, "userA", 5));
+        assertThrows(IllegalArgumentException.class, () -> statisticsService.getRankingAfter(null, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> statisticsService.getRankingAfter(null, null, 101));
+    }
 }
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -23,6 +24,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.simulador.criaturas.application.UserService;
+import com.simulador.criaturas.application.UserStatsWriteBehindBuffer;
 import com.simulador.criaturas.domain.model.User;
 import com.simulador.criaturas.domain.port.out.UserRepositoryPort;
 
@@ -36,6 +38,9 @@ public class UserServiceStuntDoublesTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserStatsWriteBehindBuffer statsBuffer;
+
     @InjectMocks
     private UserService userService;
 
@@ -253,4 +258,34 @@ public class UserServiceStuntDoublesTest {
 
         assertEquals(1, user.getSimulationsRun());
     }
+
+    @Test
+    void recordSimulationResult_shouldUseSingleUpdate() {
+        Long userId = 1L;
+        when(userRepository.recordSimulationResult(userId, 1)).thenReturn(true);
+        when(userRepository.recordSimulationResult(userId, 0)).thenReturn(true);
+
+        userService.recordSimulationResult(userId, true);
+        userService.recordSimulationResult(userId, false);
+
+        verify(userRepository, never()).findById(anyLong());
+        verify(userRepository, never()).update(any(User.class));
+    }
+
+    @Test
+    void recordSimulationResult_shouldOnlyBuffer_whenWriteBehindIsEnabled() {
+        when(statsBuffer.record(1L, true)).thenReturn(true);
+
+        userService.recordSimulationResult(1L, true);
+
+        verify(userRepository, never()).recordSimulationResult(anyLong(), anyInt());
+    }
+
+    @Test
+    void recordSimulationResult_shouldThrowException_whenUserIsNotFoundOrIdIsNull() {
+        when(userRepository.recordSimulationResult(99L, 1)).thenReturn(false);
+
+        assertThrows(IllegalArgumentException.class, () -> userService.recordSimulationResult(99L, true));
+        assertThrows(IllegalArgumentException.class, () -> userService.recordSimulationResult(null, true));
+    }
 }
@@ -0,0 +1,136 @@
+package com.simulador.criaturas.stuntdoubles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.simulador.criaturas.application.UserStatsWriteBehindBuffer;
+import com.simulador.criaturas.domain.model.UserStatsDelta;
+import com.simulador.criaturas.domain.port.out.UserRepositoryPort;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes com dublês para o UserStatsWriteBehindBuffer")
+class UserStatsWriteBehindBufferStuntDoublesTest {
+
+    @Mock
+    private UserRepositoryPort userRepository;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    @Test
+    @DisplayName("record: Desligado, deve recusar sem agendar nem acumular")
+    void record_shouldRefuse_whenDisabled() {
+        UserStatsWriteBehindBuffer buffer = new UserStatsWriteBehindBuffer(userRepository, scheduler, false, 1000, 10);
+
+        assertFalse(buffer.record(1L, true));
+        assertEquals(0, buffer.flush());
+        verifyNoInteractions(scheduler, userRepository);
+    }
+
+    @Test
+    @DisplayName("flush: Deve somar por usuário e gravar em lotes do tamanho configurado")
+    void flush_shouldAggregatePerUser_andSplitIntoBatches() {
+        List<List<UserStatsDelta>> lotes = captureBatches();
+        UserStatsWriteBehindBuffer buffer = new UserStatsWriteBehindBuffer(userRepository, scheduler, true, 1000, 2);
+        verify(scheduler).scheduleWithFixedDelay(any(Runnable.class), eq(1000L), eq(1000L), eq(TimeUnit.MILLISECONDS));
+
+        assertTrue(buffer.record(1L, true));
+        buffer.record(1L, false);
+        buffer.record(2L, true);
+        buffer.record(3L, false);
+
+        assertEquals(3, buffer.flush());
+        assertEquals(2, lotes.size());
+        assertEquals(2, lotes.get(0).size());
+        assertEquals(1, lotes.get(1).size());
+        UserStatsDelta primeiro = lotes.stream().flatMap(List::stream)
+                .filter(delta -> delta.getUserId() == 1L).findFirst().orElseThrow();
+        assertEquals(2, primeiro.getSimulationsRun());
+        assertEquals(1, primeiro.getPontuation());
+
+        assertEquals(0, buffer.flush());
+        assertEquals(2, lotes.size());
+    }
+
+    @Test
+    @DisplayName("flush: Deve manter os incrementos pendentes quando o banco recusa o lote")
+    void flush_shouldRestorePending_whenBatchFails() {
+        UserStatsWriteBehindBuffer buffer = new UserStatsWriteBehindBuffer(userRepository, scheduler, true, 1000, 10);
+        buffer.record(1L, true);
+        doThrow(new IllegalStateException("banco indisponível")).when(userRepository).recordSimulationResults(any());
+
+        assertThrows(IllegalStateException.class, buffer::flush);
+
+        List<List<UserStatsDelta>> lotes = captureBatches();
+        buffer.record(1L, true);
+        assertEquals(1, buffer.flush());
+        assertEquals(new UserStatsDelta(1L, 2, 2), lotes.get(0).get(0));
+    }
+
+    @Test
+    @DisplayName("flush: Não deve perder incrementos feitos durante flushes concorrentes")
+    void flush_shouldNotLoseIncrements_underConcurrentRecords() throws InterruptedException {
+        List<List<UserStatsDelta>> lotes = captureBatches();
+        UserStatsWriteBehindBuffer buffer = new UserStatsWriteBehindBuffer(userRepository, scheduler, true, 1000, 3);
+        int threads = 4;
+        int porThread = 20000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < porThread; i++) {
+                    buffer.record((long) (i % 7), i % 2 == 0);
+                }
+            });
+        }
+        executor.shutdown();
+        while (!executor.awaitTermination(1, TimeUnit.MILLISECONDS)) {
+            buffer.flush();
+        }
+        buffer.shutdown();
+
+        long simulacoes = 0;
+        long pontuacao = 0;
+        for (List<UserStatsDelta> lote : lotes) {
+            for (UserStatsDelta delta : lote) {
+                simulacoes += delta.getSimulationsRun();
+                pontuacao += delta.getPontuation();
+            }
+        }
+        assertEquals((long) threads * porThread, simulacoes);
+        assertEquals((long) threads * porThread / 2, pontuacao);
+    }
+
+    // Copia cada lote: o serviço passa visões (subList) da sua lista interna.
+    private List<List<UserStatsDelta>> captureBatches() {
+        List<List<UserStatsDelta>> lotes = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<UserStatsDelta> lote = invocation.getArgument(0);
+            synchronized (lotes) {
+                lotes.add(new ArrayList<>(lote));
+            }
+            return null;
+        }).when(userRepository).recordSimulationResults(any());
+        return lotes;
+    }
+}